@@ -0,0 +1,29 @@
+# YouLai_Admin 升级脚本：用户与日志关键字检索改走 ngram 全文索引(MySQL 5.7 ~ MySQL 8.x)
+# 适用于已部署的库；新库直接执行 youlai_admin.sql 即可，无需执行本脚本
+# 需在 sys_log_operator_name.sql 之后执行（检索内容包含操作人昵称）
+# 历史日志无需手动回填：日志检索索引任务首次执行时从头分批同步，同步完成前未同步的日志按 LIKE 模糊匹配
+# 不执行本脚本时请将 search.fulltext-enabled 设为 false，否则关键字检索会因缺少索引或检索表而报错
+
+USE youlai_admin;
+
+SET NAMES utf8mb4;
+# 全文索引不使用停用词（ngram 分词下含停用词的词元会被整体丢弃），需在创建索引前设置
+SET SESSION innodb_ft_enable_stopword = OFF;
+
+-- ----------------------------
+-- 1. sys_user 增加用户名、昵称、手机号全文索引
+-- ----------------------------
+ALTER TABLE `sys_user`
+    ADD FULLTEXT KEY `ft_keywords` (`username`, `nickname`, `mobile`) WITH PARSER ngram;
+
+-- ----------------------------
+-- 2. 创建日志检索表
+-- ----------------------------
+CREATE TABLE IF NOT EXISTS `sys_log_search` (
+                           `log_id` bigint NOT NULL COMMENT '日志ID',
+                           `create_time` datetime NOT NULL COMMENT '日志创建时间',
+                           `keywords` varchar(512) COMMENT '检索内容(日志内容 IP 操作人)',
+                           PRIMARY KEY (`log_id`) USING BTREE,
+                           KEY `idx_create_time` (`create_time`),
+                           FULLTEXT KEY `ft_keywords` (`keywords`) WITH PARSER ngram
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='系统日志检索表(分区表不支持全文索引，由日志检索索引任务增量同步)';
@@ -0,0 +1,42 @@
+# YouLai_Admin 升级脚本：sys_log 增加操作人昵称字段并回填历史数据(MySQL 5.7 ~ MySQL 8.x)
+# 适用于已部署的库；新库直接执行 youlai_admin.sql 即可，无需执行本脚本
+# 回填按主键分段提交，避免单个大事务长时间锁表，建议在业务低峰期执行
+
+USE youlai_admin;
+
+SET NAMES utf8mb4;
+
+-- ----------------------------
+-- 1. 增加操作人昵称字段
+-- ----------------------------
+ALTER TABLE `sys_log`
+    ADD COLUMN `operator_name` varchar(64) COMMENT '操作人昵称(写入时记录)' AFTER `create_by`;
+
+-- ----------------------------
+-- 2. 按主键分段回填历史日志的操作人昵称
+-- ----------------------------
+DROP PROCEDURE IF EXISTS `backfill_sys_log_operator_name`;
+
+DELIMITER //
+CREATE PROCEDURE `backfill_sys_log_operator_name`()
+BEGIN
+    DECLARE batch_size BIGINT DEFAULT 10000;
+    DECLARE min_id BIGINT;
+    DECLARE max_id BIGINT;
+    SELECT MIN(`id`), MAX(`id`) INTO min_id, max_id FROM `sys_log`;
+    WHILE min_id IS NOT NULL AND min_id <= max_id DO
+        UPDATE `sys_log` l
+            JOIN `sys_user` u ON u.`id` = l.`create_by`
+        SET l.`operator_name` = u.`nickname`
+        WHERE l.`id` >= min_id
+          AND l.`id` < min_id + batch_size
+          AND l.`operator_name` IS NULL;
+        COMMIT;
+        SET min_id = min_id + batch_size;
+    END WHILE;
+END //
+DELIMITER ;
+
+CALL `backfill_sys_log_operator_name`();
+
+DROP PROCEDURE IF EXISTS `backfill_sys_log_operator_name`;
@@ -0,0 +1,29 @@
+# YouLai_Admin 升级脚本：新增访问量日汇总表与访客IP登记表(MySQL 5.7 ~ MySQL 8.x)
+# 适用于已部署的库；新库直接执行 youlai_admin.sql 即可，无需执行本脚本
+# 历史数据无需手动回填：访问量汇总任务（或首次读取访问统计时的后台补齐）从最早的日志日期起逐日汇总
+
+USE youlai_admin;
+
+SET NAMES utf8mb4;
+
+-- ----------------------------
+-- 1. 访问量日汇总表
+-- ----------------------------
+CREATE TABLE IF NOT EXISTS `sys_visit_stats_daily` (
+                           `stat_date` date NOT NULL COMMENT '统计日期',
+                           `pv_count` bigint NOT NULL DEFAULT 0 COMMENT '页面浏览量(PV)',
+                           `uv_count` bigint NOT NULL DEFAULT 0 COMMENT '独立访客数(UV)',
+                           `new_uv_count` bigint NOT NULL DEFAULT 0 COMMENT '首次访问的独立访客数',
+                           `update_time` datetime COMMENT '更新时间',
+                           PRIMARY KEY (`stat_date`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='访问量日汇总表';
+
+-- ----------------------------
+-- 2. 访客IP登记表
+-- ----------------------------
+CREATE TABLE IF NOT EXISTS `sys_visit_ip` (
+                           `ip` varchar(45) NOT NULL COMMENT 'IP地址',
+                           `first_visit_date` date NOT NULL COMMENT '首次访问日期',
+                           PRIMARY KEY (`ip`) USING BTREE,
+                           KEY `idx_first_visit_date` (`first_visit_date`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='访客IP登记表';
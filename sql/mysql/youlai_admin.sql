@@ -16,6 +16,7 @@ USE youlai_admin;
 
 SET NAMES utf8mb4;  # 设置字符集
 SET FOREIGN_KEY_CHECKS = 0; # 关闭外键检查，加快导入速度
+SET SESSION innodb_ft_enable_stopword = OFF; # 全文索引不使用停用词（ngram 分词下含停用词的词元会被整体丢弃）
 
 -- ----------------------------
 -- Table structure for sys_dept
@@ -366,7 +367,8 @@ CREATE TABLE `sys_user`  (
                              `update_by` bigint COMMENT '修改人ID',
                              `is_deleted` tinyint(1) DEFAULT 0 COMMENT '逻辑删除标识(0-未删除 1-已删除)',
                              PRIMARY KEY (`id`) USING BTREE,
-                             UNIQUE KEY `uk_username` (`username`)
+                             UNIQUE KEY `uk_username` (`username`),
+                             FULLTEXT KEY `ft_keywords` (`username`, `nickname`, `mobile`) WITH PARSER ngram
 ) ENGINE = InnoDB CHARACTER SET = utf8mb4 COMMENT = '系统用户表';
 
 -- ----------------------------
@@ -423,10 +425,52 @@ CREATE TABLE `sys_log` (
                            `browser_version` varchar(100) COMMENT '浏览器版本',
                            `os` varchar(100) COMMENT '终端系统',
                            `create_by` bigint COMMENT '创建人ID',
-                           `create_time` datetime COMMENT '创建时间',
-                           PRIMARY KEY (`id`) USING BTREE,
+                           `operator_name` varchar(64) COMMENT '操作人昵称(写入时记录)',
+                           `create_time` datetime NOT NULL COMMENT '创建时间',
+                           PRIMARY KEY (`id`, `create_time`) USING BTREE,
                            KEY `idx_create_time` (`create_time`)
-) ENGINE=MyISAM DEFAULT CHARSET=utf8mb4 COMMENT='系统操作日志表';
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='系统操作日志表'
+-- 按月分区（分区名 pYYYYMM），后续月份的分区由日志生命周期任务提前创建，过期分区归档后删除
+PARTITION BY RANGE (TO_DAYS(`create_time`)) (
+    PARTITION `p_future` VALUES LESS THAN MAXVALUE
+);
+
+-- ----------------------------
+-- Table structure for sys_log_search
+-- ----------------------------
+DROP TABLE IF EXISTS `sys_log_search`;
+CREATE TABLE `sys_log_search` (
+                           `log_id` bigint NOT NULL COMMENT '日志ID',
+                           `create_time` datetime NOT NULL COMMENT '日志创建时间',
+                           `keywords` varchar(512) COMMENT '检索内容(日志内容 IP 操作人)',
+                           PRIMARY KEY (`log_id`) USING BTREE,
+                           KEY `idx_create_time` (`create_time`),
+                           FULLTEXT KEY `ft_keywords` (`keywords`) WITH PARSER ngram
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='系统日志检索表(分区表不支持全文索引，由日志检索索引任务增量同步)';
+
+-- ----------------------------
+-- Table structure for sys_visit_stats_daily
+-- ----------------------------
+DROP TABLE IF EXISTS `sys_visit_stats_daily`;
+CREATE TABLE `sys_visit_stats_daily` (
+                           `stat_date` date NOT NULL COMMENT '统计日期',
+                           `pv_count` bigint NOT NULL DEFAULT 0 COMMENT '页面浏览量(PV)',
+                           `uv_count` bigint NOT NULL DEFAULT 0 COMMENT '独立访客数(UV)',
+                           `new_uv_count` bigint NOT NULL DEFAULT 0 COMMENT '首次访问的独立访客数',
+                           `update_time` datetime COMMENT '更新时间',
+                           PRIMARY KEY (`stat_date`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='访问量日汇总表';
+
+-- ----------------------------
+-- Table structure for sys_visit_ip
+-- ----------------------------
+DROP TABLE IF EXISTS `sys_visit_ip`;
+CREATE TABLE `sys_visit_ip` (
+                           `ip` varchar(45) NOT NULL COMMENT 'IP地址',
+                           `first_visit_date` date NOT NULL COMMENT '首次访问日期',
+                           PRIMARY KEY (`ip`) USING BTREE,
+                           KEY `idx_first_visit_date` (`first_visit_date`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='访客IP登记表';
 
 -- ----------------------------
 -- Table structure for gen_table
@@ -497,6 +541,7 @@ CREATE TABLE `sys_config` (
 ) ENGINE=InnoDB COMMENT='系统配置表';
 
 INSERT INTO `sys_config` VALUES (1, '系统限流QPS', 'IP_QPS_THRESHOLD_LIMIT', '10', '单个IP请求的最大每秒查询数（QPS）阈值Key', now(), 1, NULL, NULL, 0);
+INSERT INTO `sys_config` VALUES (2, '用户导出限流', 'RATE_LIMIT:user-export', '5/60s', '接口限流策略，格式：阈值/窗口[/算法]，阈值为0表示不限流', now(), 1, NULL, NULL, 0);
 
 -- ----------------------------
 -- 通知公告表
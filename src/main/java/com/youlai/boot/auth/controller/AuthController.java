@@ -6,6 +6,8 @@ import com.youlai.boot.common.enums.LogModuleEnum;
 import com.youlai.boot.core.web.Result;
 import com.youlai.boot.auth.service.AuthService;
 import com.youlai.boot.common.annotation.Log;
+import com.youlai.boot.common.annotation.RateLimit;
+import com.youlai.boot.common.enums.RateLimitAlgorithmEnum;
 import com.youlai.boot.security.model.AuthenticationToken;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -32,6 +34,7 @@ public class AuthController {
 
     @Operation(summary = "获取验证码")
     @GetMapping("/captcha")
+    @RateLimit(name = "captcha", algorithm = RateLimitAlgorithmEnum.TOKEN_BUCKET, limit = 10, window = 60)
     public Result<CaptchaVO> getCaptcha() {
         CaptchaVO captcha = authService.getCaptcha();
         return Result.success(captcha);
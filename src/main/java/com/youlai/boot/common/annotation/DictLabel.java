@@ -0,0 +1,35 @@
+package com.youlai.boot.common.annotation;
+
+import com.fasterxml.jackson.annotation.JacksonAnnotationsInside;
+import com.youlai.boot.core.serializer.DictLabelSerializer;
+import com.youlai.boot.system.enums.DictCodeEnum;
+import tools.jackson.databind.annotation.JsonSerialize;
+
+import java.lang.annotation.*;
+
+/**
+ * 字典翻译注解
+ * <p>
+ * 标注在字典值字段上：
+ * <ul>
+ *   <li>JSON 序列化时输出字典标签（{@link DictLabelSerializer}）</li>
+ *   <li>Excel 导出/导入时配合 {@code @ExcelProperty(converter = DictLabelExcelConverter.class)} 完成值与标签的互转</li>
+ * </ul>
+ * 翻译通过字典缓存中的不可变查找表完成，不会按请求查询数据库。
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+@Documented
+@JacksonAnnotationsInside
+@JsonSerialize(using = DictLabelSerializer.class)
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DictLabel {
+
+    /**
+     * 字典编码
+     */
+    DictCodeEnum value();
+
+}
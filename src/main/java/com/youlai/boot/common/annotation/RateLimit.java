@@ -0,0 +1,48 @@
+package com.youlai.boot.common.annotation;
+
+import com.youlai.boot.common.enums.RateLimitAlgorithmEnum;
+import com.youlai.boot.common.enums.RateLimitKeyTypeEnum;
+
+import java.lang.annotation.*;
+
+/**
+ * 接口限流注解
+ * <p>
+ * 为单个接口设置独立的限流配额，避免高开销接口挤占其他接口的资源。
+ * 运行时可通过系统配置 {@code RATE_LIMIT:<name>} 覆盖阈值、窗口与算法，值格式：阈值/窗口[/算法]，
+ * 如 {@code 5/60s}、{@code 20/1m/token_bucket}；阈值为 0 表示关闭该接口限流。
+ *
+ * @author Theo
+ * @since 4.1.0
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RateLimit {
+
+    /**
+     * 策略名称，作为限流键与系统配置覆盖键的一部分
+     */
+    String name();
+
+    /**
+     * 限流维度
+     */
+    RateLimitKeyTypeEnum keyType() default RateLimitKeyTypeEnum.IP;
+
+    /**
+     * 限流算法
+     */
+    RateLimitAlgorithmEnum algorithm() default RateLimitAlgorithmEnum.FIXED_WINDOW;
+
+    /**
+     * 窗口内允许的请求数（令牌桶为桶容量）
+     */
+    long limit();
+
+    /**
+     * 窗口时长（秒），令牌桶为补满整桶所需时长
+     */
+    int window() default 1;
+
+}
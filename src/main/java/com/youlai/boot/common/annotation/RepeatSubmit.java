@@ -7,6 +7,9 @@ import java.lang.annotation.*;
  * 防止重复提交注解
  * <p>
  * 该注解用于方法上，防止在指定时间内的重复提交。 默认时间为5秒。
+ * <p>
+ * 请求携带 {@code Idempotency-Key} 请求头时按幂等键处理：首次请求的返回结果会被缓存，
+ * 相同幂等键的重试直接返回缓存结果而不再执行。
  *
  * @author Ray.Hao
  * @since 2.3.0
@@ -24,4 +27,11 @@ public @interface RepeatSubmit {
      */
     int expire() default 5;
 
+    /**
+     * 幂等结果缓存时间（秒）
+     * <p>
+     * 仅在请求携带 {@code Idempotency-Key} 请求头时生效，默认缓存24小时
+     */
+    int idempotencyExpire() default 86400;
+
 }
@@ -0,0 +1,139 @@
+package com.youlai.boot.common.base;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * 支持多行 VALUES 批量插入的 Mapper
+ * <p>
+ * {@code saveBatch} 在 BATCH 执行器中仍是每行一条 INSERT；这里每批只发送一条
+ * {@code INSERT ... VALUES (..), (..)}，适合关联表等一次写入大量行的场景。
+ * 注入实现见 {@link com.youlai.boot.plugin.mybatis.BatchSqlInjector}（仅支持 MySQL 语法）。
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+public interface BatchMapper<T> extends BaseMapper<T> {
+
+    /**
+     * 默认每条语句插入的行数，避免单条 SQL 超过 max_allowed_packet
+     */
+    int DEFAULT_BATCH_SIZE = 1000;
+
+    /**
+     * 多行插入（单条语句，不分批）
+     *
+     * @param list 实体列表，不能为空
+     * @return 影响行数
+     */
+    int insertValues(@Param("list") List<T> list);
+
+    /**
+     * 多行插入，忽略唯一键冲突的行（INSERT IGNORE）
+     *
+     * @param list 实体列表，不能为空
+     * @return 影响行数
+     */
+    int insertIgnoreValues(@Param("list") List<T> list);
+
+    /**
+     * 多行插入，唯一键冲突时更新（ON DUPLICATE KEY UPDATE）
+     *
+     * @param list 实体列表，不能为空
+     * @return 影响行数（MySQL 中更新的行计为 2）
+     */
+    int upsertValues(@Param("list") List<T> list);
+
+    /**
+     * 按默认批大小分批多行插入
+     *
+     * @param entities 实体集合
+     * @return 影响行数
+     */
+    default int insertBatchValues(Collection<T> entities) {
+        return insertBatchValues(entities, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * 分批多行插入
+     *
+     * @param entities  实体集合
+     * @param batchSize 每条语句的行数
+     * @return 影响行数
+     */
+    default int insertBatchValues(Collection<T> entities, int batchSize) {
+        return executeInChunks(entities, batchSize, this::insertValues);
+    }
+
+    /**
+     * 分批多行插入，忽略唯一键冲突的行
+     *
+     * @param entities 实体集合
+     * @return 影响行数
+     */
+    default int insertIgnoreBatchValues(Collection<T> entities) {
+        return insertIgnoreBatchValues(entities, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * 分批多行插入，忽略唯一键冲突的行
+     *
+     * @param entities  实体集合
+     * @param batchSize 每条语句的行数
+     * @return 影响行数
+     */
+    default int insertIgnoreBatchValues(Collection<T> entities, int batchSize) {
+        return executeInChunks(entities, batchSize, this::insertIgnoreValues);
+    }
+
+    /**
+     * 分批多行插入，唯一键冲突时更新
+     *
+     * @param entities 实体集合
+     * @return 影响行数
+     */
+    default int upsertBatchValues(Collection<T> entities) {
+        return upsertBatchValues(entities, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * 分批多行插入，唯一键冲突时更新
+     *
+     * @param entities  实体集合
+     * @param batchSize 每条语句的行数
+     * @return 影响行数
+     */
+    default int upsertBatchValues(Collection<T> entities, int batchSize) {
+        return executeInChunks(entities, batchSize, this::upsertValues);
+    }
+
+    /**
+     * 按批大小切分后逐批执行
+     */
+    private int executeInChunks(Collection<T> entities, int batchSize, ToIntFunction<List<T>> statement) {
+        if (entities == null || entities.isEmpty()) {
+            return 0;
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be greater than 0");
+        }
+        int affected = 0;
+        List<T> chunk = new ArrayList<>(Math.min(batchSize, entities.size()));
+        for (T entity : entities) {
+            chunk.add(entity);
+            if (chunk.size() == batchSize) {
+                affected += statement.applyAsInt(chunk);
+                chunk = new ArrayList<>(batchSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            affected += statement.applyAsInt(chunk);
+        }
+        return affected;
+    }
+}
@@ -13,6 +13,8 @@ public interface RedisConstants {
      */
     interface RateLimiter {
         String IP = "rate_limiter:ip:{}"; // IP限流（示例：rate_limiter:ip:192.168.1.1）
+        String ROUTE = "rate_limiter:route:{}:{}"; // 路由限流（示例：rate_limiter:route:captcha:192.168.1.1）
+        String POLICY = "rate_limiter:policy:{}:{}"; // 接口限流（示例：rate_limiter:policy:user-export:user:1）
     }
 
     /**
@@ -20,6 +22,7 @@ public interface RedisConstants {
      */
     interface Lock {
         String RESUBMIT = "lock:resubmit:{}:{}"; // 防重复提交（示例：lock:resubmit:userIdentifier:requestIdentifier）
+        String IDEMPOTENCY = "lock:idempotency:{}:{}"; // 幂等请求参数摘要与结果（示例：lock:idempotency:userIdentifier:sha256(method:uri:idempotencyKey)）
     }
 
     /**
@@ -57,7 +60,41 @@ public interface RedisConstants {
      */
     interface System {
         String CONFIG = "system:config";                 // 系统配置
+        String CONFIG_CHANNEL = "system:config:channel"; // 系统配置变更频道（通知各节点重新加载本地快照）
         String ROLE_PERMS = "system:role:perms"; // 系统角色和权限映射
+        String ROLE_DATA_SCOPES = "system:role:data_scopes"; // 角色数据权限（roleCode -> RoleDataScope）
+        String DICT_ITEMS = "system:dict:items";         // 字典项缓存（dictCode -> 字典数据）
+        String DICT_VERSION = "system:dict:version";     // 字典版本号（dictCode -> version）
+        String DICT_CHANNEL = "system:dict:channel";     // 字典变更频道（通知各节点清除本地缓存）
+    }
+
+    /**
+     * 访问统计模块
+     */
+    interface Statistics {
+        String SINCE = "statistics:since";               // 开始计数的时间戳（早于该时间的分桶不完整）
+        String PV_DAY = "statistics:pv:day:{}";          // 日浏览量计数（示例：statistics:pv:day:20250101）
+        String UV_DAY = "statistics:uv:day:{}";          // 日访客 HyperLogLog
+        String PV_HOUR = "statistics:pv:hour:{}";        // 小时浏览量计数（示例：statistics:pv:hour:2025010109）
+        String UV_HOUR = "statistics:uv:hour:{}";        // 小时访客 HyperLogLog
+        String UV_TOTAL = "statistics:uv:total";         // 累计访客 HyperLogLog
+        String UV_TOTAL_SEEDED = "statistics:uv:total:seeded"; // 累计访客已从访客 IP 登记表导入的标记
+    }
+
+    /**
+     * 导出任务模块
+     */
+    interface Export {
+        String JOB = "export:job:{}";                    // 导出任务状态（jobId -> ExportJob）
+        String ARTIFACTS = "export:artifacts";           // 导出文件过期索引（ZSet，member 为 jobId，score 为过期时间戳）
+    }
+
+    /**
+     * 导入任务模块
+     */
+    interface Import {
+        String JOB = "import:job:{}";                    // 导入任务状态（jobId -> ImportJob）
+        String ARTIFACTS = "import:artifacts";           // 错误报告过期索引（ZSet，member 为 jobId，score 为过期时间戳）
     }
 
 }
@@ -18,6 +18,11 @@ public interface SecurityConstants {
      */
     String BEARER_TOKEN_PREFIX  = "Bearer ";
 
+    /**
+     * 幂等键请求头
+     */
+    String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     /**
      * 角色前缀，用于区分 authorities 角色和权限， ROLE_* 角色 、没有前缀的是权限
      */
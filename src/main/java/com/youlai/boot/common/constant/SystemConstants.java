@@ -29,4 +29,9 @@ public interface SystemConstants {
      */
     String SYSTEM_CONFIG_IP_QPS_LIMIT_KEY = "IP_QPS_THRESHOLD_LIMIT";
 
+    /**
+     * 系统配置 接口限流策略KEY前缀（如 RATE_LIMIT:user-export，值格式：阈值/窗口[/算法]，如 5/60s、20/1m/token_bucket）
+     */
+    String SYSTEM_CONFIG_RATE_LIMIT_KEY_PREFIX = "RATE_LIMIT:";
+
 }
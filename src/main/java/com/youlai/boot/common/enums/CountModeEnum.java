@@ -0,0 +1,24 @@
+package com.youlai.boot.common.enums;
+
+/**
+ * 游标分页总数统计方式枚举
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+public enum CountModeEnum {
+
+    /**
+     * 不统计总数
+     */
+    NONE,
+    /**
+     * 估算总数：无过滤条件时读取表统计信息，有过滤条件时精确统计
+     */
+    ESTIMATE,
+    /**
+     * 精确统计总数
+     */
+    EXACT
+
+}
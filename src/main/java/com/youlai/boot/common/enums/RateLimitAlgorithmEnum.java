@@ -0,0 +1,35 @@
+package com.youlai.boot.common.enums;
+
+import lombok.Getter;
+
+/**
+ * 限流算法枚举
+ *
+ * @author Theo
+ * @since 4.1.0
+ */
+@Getter
+public enum RateLimitAlgorithmEnum {
+
+    /**
+     * 固定窗口：实现最简单，窗口边界处可能出现两倍突发
+     */
+    FIXED_WINDOW("lua/ratelimit/fixed_window.lua"),
+    /**
+     * 滑动窗口计数器：按上一窗口计数加权估算，平滑窗口边界突发
+     */
+    SLIDING_WINDOW("lua/ratelimit/sliding_window.lua"),
+    /**
+     * 令牌桶：允许桶容量内的突发，长期速率受补充速率限制
+     */
+    TOKEN_BUCKET("lua/ratelimit/token_bucket.lua");
+
+    /**
+     * Lua 脚本类路径
+     */
+    private final String scriptPath;
+
+    RateLimitAlgorithmEnum(String scriptPath) {
+        this.scriptPath = scriptPath;
+    }
+}
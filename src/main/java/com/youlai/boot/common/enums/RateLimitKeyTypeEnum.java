@@ -0,0 +1,28 @@
+package com.youlai.boot.common.enums;
+
+/**
+ * 限流维度枚举
+ *
+ * @author Theo
+ * @since 4.1.0
+ */
+public enum RateLimitKeyTypeEnum {
+
+    /**
+     * 按客户端 IP 限流
+     */
+    IP,
+    /**
+     * 按登录用户 ID 限流，未登录时按 IP
+     */
+    USER,
+    /**
+     * 按访问令牌限流（令牌摘要），未携带令牌时按 IP
+     */
+    TOKEN,
+    /**
+     * 接口全局限流，所有调用方共享同一配额
+     */
+    GLOBAL
+
+}
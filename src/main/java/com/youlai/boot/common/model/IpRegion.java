@@ -0,0 +1,41 @@
+package com.youlai.boot.common.model;
+
+import cn.hutool.core.util.StrUtil;
+
+/**
+ * IP 归属地
+ * <p>
+ * 由 ip2region 查询结果（国家|区域|省份|城市|运营商，未知字段为 0）一次性解析得到，未知字段为空字符串。
+ *
+ * @param country  国家
+ * @param province 省份
+ * @param city     城市
+ * @param isp      运营商
+ * @author Ray
+ * @since 4.1.0
+ */
+public record IpRegion(String country, String province, String city, String isp) {
+
+    public static final IpRegion UNKNOWN = new IpRegion("", "", "", "");
+
+    /**
+     * 解析 ip2region 查询结果
+     *
+     * @param region 查询结果，如 中国|0|四川省|成都市|电信
+     * @return IP 归属地
+     */
+    public static IpRegion parse(String region) {
+        if (StrUtil.isBlank(region)) {
+            return UNKNOWN;
+        }
+        String[] parts = region.split("\\|", -1);
+        return new IpRegion(part(parts, 0), part(parts, 2), part(parts, 3), part(parts, 4));
+    }
+
+    private static String part(String[] parts, int index) {
+        if (index >= parts.length || "0".equals(parts[index])) {
+            return "";
+        }
+        return parts[index];
+    }
+}
@@ -0,0 +1,110 @@
+package com.youlai.boot.common.util;
+
+import cn.idev.excel.EasyExcel;
+import cn.idev.excel.ExcelWriter;
+import cn.idev.excel.write.metadata.WriteSheet;
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.io.Closeable;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+/**
+ * Excel 分块写入器
+ * <p>
+ * 作为 MyBatis {@link ResultHandler} 接收流式查询的每一行，攒满一块后写入 Excel 并清空，
+ * 配合 EasyExcel 的 SXSSF 模式（已写出的行落到临时文件），导出内存占用只与块大小有关，与导出行数无关。
+ * <pre>{@code
+ * try (ExcelChunkWriter<UserExportDTO> writer = new ExcelChunkWriter<>(out, UserExportDTO.class, "用户列表")) {
+ *     userMapper.listExportUsers(queryParams, writer);
+ * }
+ * }</pre>
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+public class ExcelChunkWriter<T> implements ResultHandler<T>, Closeable {
+
+    /**
+     * 默认块大小
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    private final ExcelWriter excelWriter;
+
+    private final WriteSheet writeSheet;
+
+    private final int chunkSize;
+
+    private final List<T> chunk;
+
+    private long rowCount;
+
+    private LongConsumer progressListener;
+
+    public ExcelChunkWriter(OutputStream outputStream, Class<T> head, String sheetName) {
+        this(outputStream, head, sheetName, DEFAULT_CHUNK_SIZE);
+    }
+
+    public ExcelChunkWriter(OutputStream outputStream, Class<T> head, String sheetName, int chunkSize) {
+        this.excelWriter = EasyExcel.write(outputStream, head).build();
+        this.writeSheet = EasyExcel.writerSheet(sheetName).build();
+        this.chunkSize = Math.max(1, chunkSize);
+        this.chunk = new ArrayList<>(this.chunkSize);
+    }
+
+    @Override
+    public void handleResult(ResultContext<? extends T> resultContext) {
+        write(resultContext.getResultObject());
+    }
+
+    /**
+     * 写入一行，攒满一块后写出
+     */
+    public void write(T row) {
+        chunk.add(row);
+        rowCount++;
+        if (chunk.size() >= chunkSize) {
+            flush();
+        }
+    }
+
+    /**
+     * 设置进度监听，每写出一块回调一次已写入的行数
+     */
+    public void setProgressListener(LongConsumer progressListener) {
+        this.progressListener = progressListener;
+    }
+
+    /**
+     * 已写入的行数
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * 写出剩余行并完成文件（空结果也会输出表头）
+     */
+    @Override
+    public void close() {
+        try {
+            if (!chunk.isEmpty() || rowCount == 0) {
+                flush();
+            }
+        } finally {
+            excelWriter.finish();
+        }
+    }
+
+    private void flush() {
+        excelWriter.write(chunk, writeSheet);
+        chunk.clear();
+        if (progressListener != null) {
+            progressListener.accept(rowCount);
+        }
+    }
+}
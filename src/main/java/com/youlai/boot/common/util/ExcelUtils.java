@@ -3,6 +3,7 @@ package com.youlai.boot.common.util;
 import cn.idev.excel.EasyExcel;
 import cn.idev.excel.event.AnalysisEventListener;
 
+import java.io.File;
 import java.io.InputStream;
 
 /**
@@ -16,4 +17,11 @@ public class ExcelUtils {
     public static <T> void importExcel(InputStream is, Class clazz, AnalysisEventListener<T> listener) {
         EasyExcel.read(is, clazz, listener).sheet().doRead();
     }
+
+    /**
+     * 从本地文件导入，直接按文件读取，不再复制为临时文件
+     */
+    public static <T> void importExcel(File file, Class clazz, AnalysisEventListener<T> listener) {
+        EasyExcel.read(file, clazz, listener).sheet().doRead();
+    }
 }
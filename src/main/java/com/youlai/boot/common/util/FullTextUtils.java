@@ -0,0 +1,59 @@
+package com.youlai.boot.common.util;
+
+import cn.hutool.core.util.StrUtil;
+import com.youlai.boot.config.property.SearchProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 全文检索工具类
+ * <p>
+ * 把关键字转换为 MySQL ngram 全文索引的布尔模式短语，供 Mapper XML 通过 OGNL 静态调用：
+ * <pre>{@code <bind name="phrase" value="@com.youlai.boot.common.util.FullTextUtils@toPhrase(keywords)"/>}</pre>
+ * 返回 null 时应回退到 LIKE 模糊匹配。
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class FullTextUtils {
+
+    private static volatile boolean enabled;
+
+    private static volatile int minTokenLength = 2;
+
+    private final SearchProperties searchProperties;
+
+    @PostConstruct
+    public void init() {
+        enabled = searchProperties.isFulltextEnabled();
+        minTokenLength = Math.max(1, searchProperties.getMinTokenLength());
+    }
+
+    /**
+     * 全文检索是否启用
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 转换为布尔模式短语（整体加引号，要求 ngram 词元连续出现，近似子串匹配）
+     *
+     * @param keywords 关键字
+     * @return 布尔模式短语，未启用或关键字短于最短词元长度时返回 null
+     */
+    public static String toPhrase(String keywords) {
+        if (!enabled || keywords == null) {
+            return null;
+        }
+        // 短语内只有双引号有特殊含义
+        String text = StrUtil.trim(keywords).replace("\"", "");
+        if (text.length() < minTokenLength) {
+            return null;
+        }
+        return "\"" + text + "\"";
+    }
+}
@@ -1,6 +1,9 @@
 package com.youlai.boot.common.util;
 
 import cn.hutool.core.util.StrUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.youlai.boot.common.model.IpRegion;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
@@ -11,9 +14,6 @@ import java.io.FileNotFoundException;
 import java.io.InputStream;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
 
 /**
  * IP工具类
@@ -23,6 +23,10 @@ import java.nio.file.StandardCopyOption;
  * 使用Nginx等反向代理软件， 则不能通过request.getRemoteAddr()获取IP地址
  * 如果使用了多级反向代理的话，X-Forwarded-For的值并不止一个，而是一串IP地址，X-Forwarded-For中第一个非unknown的有效IP字符串，则为真实IP地址
  * </p>
+ * <p>
+ * 地理位置查询将 ip2region 数据库整体加载到内存（约 11MB），基于内存的 Searcher 查询无文件 IO、可多线程并发使用；
+ * 最近查询的结果缓存在有界 LRU 中，命中时无需再次查询与解析
+ * </p>
  *
  * @author Ray
  * @since 2.10.0
@@ -32,23 +36,24 @@ import java.nio.file.StandardCopyOption;
 public class IPUtils {
 
     private static final String DB_PATH = "/data/ip2region.xdb";
-    private static Searcher searcher;
+    private static volatile Searcher searcher;
+
+    /**
+     * 最近查询的 IP 归属地缓存
+     */
+    private static final Cache<String, IpRegion> REGION_CACHE = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .build();
 
     @PostConstruct
     public void init() {
-        try {
-            // 从类路径加载资源文件
-            InputStream inputStream = getClass().getResourceAsStream(DB_PATH);
+        // 从类路径加载资源文件到内存
+        try (InputStream inputStream = getClass().getResourceAsStream(DB_PATH)) {
             if (inputStream == null) {
                 throw new FileNotFoundException("Resource not found: " + DB_PATH);
             }
-
-            // 将资源文件复制到临时文件
-            Path tempDbPath = Files.createTempFile("ip2region", ".xdb");
-            Files.copy(inputStream, tempDbPath, StandardCopyOption.REPLACE_EXISTING);
-
-            // 使用临时文件初始化 Searcher 对象
-            searcher = Searcher.newWithFileOnly(tempDbPath.toString());
+            // 使用内存数据初始化 Searcher 对象（线程安全）
+            searcher = Searcher.newWithBuffer(inputStream.readAllBytes());
         } catch (Exception e) {
             log.error("IpRegionUtil initialization ERROR, {}", e.getMessage());
         }
@@ -121,19 +126,28 @@ public class IPUtils {
      * 根据IP地址获取地理位置信息
      *
      * @param ip IP地址
-     * @return 地理位置信息
+     * @return 地理位置信息，查询失败返回 null
      */
-    public static String getRegion(String ip) {
+    public static IpRegion getRegion(String ip) {
+        if (StrUtil.isBlank(ip)) {
+            return null;
+        }
+        IpRegion region = REGION_CACHE.getIfPresent(ip);
+        if (region != null) {
+            return region;
+        }
         if (searcher == null) {
             log.error("Searcher is not initialized");
             return null;
         }
 
         try {
-            return searcher.search(ip);
+            region = IpRegion.parse(searcher.search(ip));
         } catch (Exception e) {
             log.error("IpRegionUtil ERROR, {}", e.getMessage());
             return null;
         }
+        REGION_CACHE.put(ip, region);
+        return region;
     }
 }
@@ -2,9 +2,11 @@ package com.youlai.boot.config;
 
 import com.baomidou.mybatisplus.annotation.DbType;
 import com.baomidou.mybatisplus.core.config.GlobalConfig;
+import com.baomidou.mybatisplus.core.injector.ISqlInjector;
 import com.baomidou.mybatisplus.extension.plugins.MybatisPlusInterceptor;
 import com.baomidou.mybatisplus.extension.plugins.inner.DataPermissionInterceptor;
 import com.baomidou.mybatisplus.extension.plugins.inner.PaginationInnerInterceptor;
+import com.youlai.boot.plugin.mybatis.BatchSqlInjector;
 import com.youlai.boot.plugin.mybatis.MyDataPermissionHandler;
 import com.youlai.boot.plugin.mybatis.MyMetaObjectHandler;
 import org.apache.ibatis.mapping.DatabaseIdProvider;
@@ -61,6 +63,14 @@ public class MybatisConfig {
         return globalConfig;
     }
 
+    /**
+     * SQL 注入器：为 BatchMapper 注入多行 VALUES 批量插入方法
+     */
+    @Bean
+    public ISqlInjector sqlInjector() {
+        return new BatchSqlInjector();
+    }
+
     /**
      * 数据库类型自动识别
      */
@@ -2,8 +2,14 @@ package com.youlai.boot.config;
 
 import cn.hutool.captcha.generator.CodeGenerator;
 import cn.hutool.core.util.ArrayUtil;
+import com.youlai.boot.config.property.ConcurrencyLimitProperties;
+import com.youlai.boot.config.property.RateLimitProperties;
 import com.youlai.boot.config.property.SecurityProperties;
+import com.youlai.boot.core.filter.ConcurrencyLimitFilter;
 import com.youlai.boot.core.filter.RateLimiterFilter;
+import com.youlai.boot.core.ratelimit.ConcurrencyLimiterRegistry;
+import com.youlai.boot.core.ratelimit.HybridRateLimiter;
+import com.youlai.boot.core.ratelimit.RedisRateLimiter;
 import com.youlai.boot.security.filter.CaptchaValidationFilter;
 import com.youlai.boot.security.filter.TokenAuthenticationFilter;
 import com.youlai.boot.security.handler.MyAccessDeniedHandler;
@@ -53,6 +59,11 @@ public class SecurityConfig {
     private final CodeGenerator codeGenerator;
     private final ConfigService configService;
     private final SecurityProperties securityProperties;
+    private final RedisRateLimiter redisRateLimiter;
+    private final HybridRateLimiter hybridRateLimiter;
+    private final RateLimitProperties rateLimitProperties;
+    private final ConcurrencyLimiterRegistry concurrencyLimiterRegistry;
+    private final ConcurrencyLimitProperties concurrencyLimitProperties;
 
     /**
      * 配置安全过滤链 SecurityFilterChain
@@ -87,7 +98,9 @@ public class SecurityConfig {
                 // 禁用 X-Frame-Options 响应头，允许页面被嵌套到 iframe 中
                 .headers(headers -> headers.frameOptions(HeadersConfigurer.FrameOptionsConfig::disable))
                 // 限流过滤器
-                .addFilterBefore(new RateLimiterFilter(redisTemplate, configService), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new RateLimiterFilter(redisRateLimiter, hybridRateLimiter, configService, rateLimitProperties), UsernamePasswordAuthenticationFilter.class)
+                // 自适应并发限流过滤器
+                .addFilterBefore(new ConcurrencyLimitFilter(concurrencyLimiterRegistry, concurrencyLimitProperties), UsernamePasswordAuthenticationFilter.class)
                 // 验证码校验过滤器
                 .addFilterBefore(new CaptchaValidationFilter(redisTemplate, codeGenerator), UsernamePasswordAuthenticationFilter.class)
                 // 验证和解析过滤器
@@ -0,0 +1,42 @@
+package com.youlai.boot.config.property;
+
+import java.time.Duration;
+
+/**
+ * 后台任务（导入、导出）通用配置
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+public interface BackgroundJobProperties {
+
+    /**
+     * 工作线程数，即同时执行的任务数
+     */
+    int getWorkerThreads();
+
+    /**
+     * 排队等待的任务上限，队列满时拒绝提交
+     */
+    int getQueueCapacity();
+
+    /**
+     * 进度推送的最小间隔
+     */
+    Duration getProgressInterval();
+
+    /**
+     * 任务产出文件与任务记录的保留时长
+     */
+    Duration getArtifactTtl();
+
+    /**
+     * 过期文件清理间隔
+     */
+    Duration getCleanupInterval();
+
+    /**
+     * 临时文件目录
+     */
+    String getTempDir();
+}
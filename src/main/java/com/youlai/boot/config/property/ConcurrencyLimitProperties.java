@@ -0,0 +1,89 @@
+package com.youlai.boot.config.property;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 自适应并发限流配置属性
+ *
+ * <p>映射 application.yml 中 concurrency-limit 前缀的并发限流配置</p>
+ *
+ * @author Theo
+ * @since 4.1.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    /**
+     * 是否启用自适应并发限流
+     */
+    private boolean enabled = true;
+
+    /**
+     * 延迟容忍倍数：短期延迟超过长期基线延迟的该倍数时开始收缩并发上限
+     */
+    private double rttTolerance = 2.0;
+
+    /**
+     * 并发上限平滑系数（0-1），越大调整越快
+     */
+    private double smoothing = 0.2;
+
+    /**
+     * 未命中任何分组的请求使用的默认分组
+     */
+    private Group defaultGroup = new Group("default", 100, 20, 400);
+
+    /**
+     * 限流分组，按配置顺序匹配，各分组独立计算并发上限
+     */
+    private List<Group> groups = new ArrayList<>();
+
+    /**
+     * 限流分组
+     */
+    @Data
+    public static class Group {
+
+        /**
+         * 分组名称
+         */
+        private String name;
+
+        /**
+         * 路径模式（Ant 风格）
+         */
+        private List<String> patterns = new ArrayList<>();
+
+        /**
+         * 初始并发上限
+         */
+        private int initialLimit = 20;
+
+        /**
+         * 最小并发上限
+         */
+        private int minLimit = 2;
+
+        /**
+         * 最大并发上限
+         */
+        private int maxLimit = 200;
+
+        public Group() {
+        }
+
+        public Group(String name, int initialLimit, int minLimit, int maxLimit) {
+            this.name = name;
+            this.initialLimit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+        }
+    }
+}
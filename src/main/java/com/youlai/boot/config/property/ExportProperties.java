@@ -0,0 +1,52 @@
+package com.youlai.boot.config.property;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 后台导出任务配置属性
+ *
+ * <p>映射 application.yml 中 export 前缀的导出线程池、进度推送与文件过期配置</p>
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "export")
+public class ExportProperties implements BackgroundJobProperties {
+
+    /**
+     * 导出工作线程数，即同时生成文件的任务数
+     */
+    private int workerThreads = 2;
+
+    /**
+     * 排队等待的任务上限，队列满时拒绝提交
+     */
+    private int queueCapacity = 20;
+
+    /**
+     * 进度推送的最小间隔
+     */
+    private Duration progressInterval = Duration.ofSeconds(1);
+
+    /**
+     * 导出文件保留时长，过期后删除文件与任务记录
+     */
+    private Duration artifactTtl = Duration.ofHours(24);
+
+    /**
+     * 过期文件清理间隔
+     */
+    private Duration cleanupInterval = Duration.ofMinutes(10);
+
+    /**
+     * 生成文件的临时目录，上传到文件存储后删除
+     */
+    private String tempDir = Path.of(System.getProperty("java.io.tmpdir"), "youlai-boot", "export").toString();
+}
@@ -0,0 +1,57 @@
+package com.youlai.boot.config.property;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 后台导入任务配置属性
+ *
+ * <p>映射 application.yml 中 import 前缀的导入线程池、进度推送与错误报告过期配置</p>
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "import")
+public class ImportProperties implements BackgroundJobProperties {
+
+    /**
+     * 导入工作线程数，即同时解析写入的任务数
+     */
+    private int workerThreads = 1;
+
+    /**
+     * 排队等待的任务上限，队列满时拒绝提交
+     */
+    private int queueCapacity = 10;
+
+    /**
+     * 进度推送的最小间隔
+     */
+    private Duration progressInterval = Duration.ofSeconds(1);
+
+    /**
+     * 任务记录中保留的错误信息条数，完整的失败行见错误报告
+     */
+    private int maxMessages = 100;
+
+    /**
+     * 错误报告与任务记录的保留时长
+     */
+    private Duration artifactTtl = Duration.ofHours(24);
+
+    /**
+     * 过期错误报告清理间隔
+     */
+    private Duration cleanupInterval = Duration.ofMinutes(10);
+
+    /**
+     * 上传文件落盘与错误报告生成的临时目录
+     */
+    private String tempDir = Path.of(System.getProperty("java.io.tmpdir"), "youlai-boot", "import").toString();
+}
@@ -0,0 +1,50 @@
+package com.youlai.boot.config.property;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 操作日志生命周期配置属性
+ *
+ * <p>映射 application.yml 中 log-lifecycle 前缀的日志分区与归档配置</p>
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "log-lifecycle")
+public class LogLifecycleProperties {
+
+    /**
+     * 是否启用分区维护，sys_log 未按月分区时自动跳过
+     */
+    private boolean enabled = true;
+
+    /**
+     * 提前创建的月分区数量（不含当月）
+     */
+    private int precreateMonths = 3;
+
+    /**
+     * 数据库中保留的月数（含当月），更早的分区归档后删除
+     */
+    private int retentionMonths = 6;
+
+    /**
+     * 删除分区前是否导出为归档文件，关闭时直接删除
+     */
+    private boolean archiveEnabled = true;
+
+    /**
+     * 归档文件目录（须为持久化目录），每个月一个 gzip 压缩的 JSON Lines 文件
+     * <p>开启归档但未配置时只预建分区，不删除过期分区</p>
+     */
+    private String archiveDir;
+
+    /**
+     * 导出归档时每批读取的日志条数
+     */
+    private int archiveBatchSize = 2000;
+}
@@ -0,0 +1,86 @@
+package com.youlai.boot.config.property;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 操作日志异步写入配置属性
+ *
+ * <p>映射 application.yml 中 log-writer 前缀的日志写入配置</p>
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "log-writer")
+public class LogWriterProperties {
+
+    /**
+     * 是否启用异步写入，关闭时在请求线程中同步写入
+     */
+    private boolean enabled = true;
+
+    /**
+     * 队列容量
+     */
+    private int queueCapacity = 10000;
+
+    /**
+     * 日志加工（IP 归属地、UserAgent 解析与 JSON 序列化）线程数
+     */
+    private int enrichThreads = 2;
+
+    /**
+     * 单次批量写入的最大条数
+     */
+    private int batchSize = 200;
+
+    /**
+     * 批量写入间隔：队列中最早的日志最多等待该时长后写入
+     */
+    private Duration flushInterval = Duration.ofMillis(500);
+
+    /**
+     * 队列已满时的处理策略
+     */
+    private OverflowPolicy overflowPolicy = OverflowPolicy.SPILL;
+
+    /**
+     * BLOCK 策略的最长阻塞时间，超时后丢弃
+     */
+    private Duration blockTimeout = Duration.ofMillis(100);
+
+    /**
+     * SPILL 策略的溢出文件目录，写库失败的日志同样写入该目录，空闲时自动回放入库
+     */
+    private String spillDir = Path.of(System.getProperty("java.io.tmpdir"), "youlai-boot", "log-spill").toString();
+
+    /**
+     * 应用关闭时等待队列写完的最长时间
+     */
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+
+    /**
+     * 队列已满时的处理策略
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * 阻塞请求线程直到队列有空位，超过 blockTimeout 后丢弃
+         */
+        BLOCK,
+        /**
+         * 丢弃队列中最早的日志
+         */
+        DROP_OLDEST,
+        /**
+         * 写入本地溢出文件，稍后回放入库
+         */
+        SPILL
+    }
+}
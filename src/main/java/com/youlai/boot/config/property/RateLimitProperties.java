@@ -0,0 +1,117 @@
+package com.youlai.boot.config.property;
+
+import com.youlai.boot.common.enums.RateLimitAlgorithmEnum;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 接口限流配置属性
+ *
+ * <p>映射 application.yml 中 rate-limit 前缀的限流配置</p>
+ *
+ * @author Theo
+ * @since 4.1.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    /**
+     * 是否启用 IP 限流
+     */
+    private boolean enabled = true;
+
+    /**
+     * 全局 IP 限流算法，阈值取系统配置 IP_QPS_THRESHOLD_LIMIT（未配置则不限流），窗口为 1 秒；启用本地预判时不生效
+     */
+    private RateLimitAlgorithmEnum algorithm = RateLimitAlgorithmEnum.FIXED_WINDOW;
+
+    /**
+     * 全局 IP 限流的本地预判配置
+     */
+    private Local local = new Local();
+
+    /**
+     * 路由限流规则，按配置顺序匹配，命中第一条后不再执行全局 IP 限流
+     */
+    private List<Rule> rules = new ArrayList<>();
+
+    /**
+     * 路由限流规则
+     */
+    @Data
+    public static class Rule {
+
+        /**
+         * 规则名称，作为限流键的一部分
+         */
+        private String name;
+
+        /**
+         * 路径模式（Ant 风格），如 /api/v1/auth/captcha、/api/v1/users/*
+         */
+        private String pattern;
+
+        /**
+         * 请求方法，为空表示不限
+         */
+        private String method;
+
+        /**
+         * 限流算法
+         */
+        private RateLimitAlgorithmEnum algorithm = RateLimitAlgorithmEnum.FIXED_WINDOW;
+
+        /**
+         * 窗口内允许的请求数（令牌桶为桶容量）
+         */
+        private long limit;
+
+        /**
+         * 窗口时长（令牌桶为补满整桶所需时长）
+         */
+        private Duration window = Duration.ofSeconds(1);
+    }
+
+    /**
+     * 本地 + 全局混合限流配置
+     * <p>
+     * 启用后全局 IP 限流在本节点内存中计数，定期批量上报 Redis 合并为集群计数，
+     * 请求路径上不再访问 Redis。单个节点在一个窗口内的放行数不超过阈值，集群的超额放行取决于上报延迟，
+     * 最坏情况为 (节点数 - 1) × 阈值，详见 {@link com.youlai.boot.core.ratelimit.HybridRateLimiter}。
+     */
+    @Data
+    public static class Local {
+
+        /**
+         * 是否启用混合限流，关闭时每次判定都执行 Redis 脚本
+         */
+        private boolean enabled = true;
+
+        /**
+         * 批量上报间隔
+         */
+        private Duration syncInterval = Duration.ofMillis(200);
+
+        /**
+         * 立即上报比例：单个键的未上报放行数达到 阈值 × errorRatio 时立即触发异步上报，不等待定时上报
+         */
+        private double errorRatio = 0.1;
+
+        /**
+         * 立即上报的放行数下限（不超过阈值），避免阈值较小时几乎每个请求都触发一次上报
+         */
+        private long minAllowance = 20;
+
+        /**
+         * 本地最多保留的限流键数量
+         */
+        private long maxKeys = 100_000;
+    }
+}
@@ -0,0 +1,41 @@
+package com.youlai.boot.config.property;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 关键字检索配置属性
+ *
+ * <p>映射 application.yml 中 search 前缀的全文检索配置</p>
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "search")
+public class SearchProperties {
+
+    /**
+     * 是否使用 MySQL ngram 全文索引检索，关闭时使用 LIKE 模糊匹配
+     */
+    private boolean fulltextEnabled = true;
+
+    /**
+     * 最短检索词长度，须与 MySQL ngram_token_size 一致，更短的关键字使用 LIKE 模糊匹配
+     */
+    private int minTokenLength = 2;
+
+    /**
+     * 日志检索表同步的安全延迟：日志主键分配后最迟在该时长内提交，同步时回扫该时长内可能迟到提交的日志
+     */
+    private Duration logIndexLag = Duration.ofMinutes(1);
+
+    /**
+     * 日志检索表单次同步的最大条数
+     */
+    private int logIndexBatchSize = 5000;
+}
@@ -0,0 +1,36 @@
+package com.youlai.boot.config.property;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 访问统计实时计数配置属性
+ *
+ * <p>映射 application.yml 中 visit-stats 前缀的访问统计配置</p>
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "visit-stats")
+public class VisitStatsProperties {
+
+    /**
+     * 是否启用 Redis 实时计数，关闭时访问统计全部读取数据库
+     */
+    private boolean enabled = true;
+
+    /**
+     * 按日计数的保留时长，过期前需由日汇总任务写入汇总表
+     */
+    private Duration dayRetention = Duration.ofDays(31);
+
+    /**
+     * 按小时计数的保留时长，今日增长率与昨日同一时段对比，不应小于 2 天
+     */
+    private Duration hourRetention = Duration.ofDays(3);
+}
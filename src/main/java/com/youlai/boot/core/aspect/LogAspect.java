@@ -2,17 +2,10 @@ package com.youlai.boot.core.aspect;
 
 import cn.hutool.core.date.DateUtil;
 import cn.hutool.core.date.TimeInterval;
-import cn.hutool.core.util.StrUtil;
-import cn.hutool.crypto.digest.DigestUtil;
-import cn.hutool.http.useragent.UserAgent;
-import cn.hutool.http.useragent.UserAgentUtil;
-import cn.hutool.json.JSONUtil;
-import com.aliyun.oss.HttpMethod;
-import com.youlai.boot.common.enums.LogModuleEnum;
 import com.youlai.boot.common.util.IPUtils;
 import com.youlai.boot.security.util.SecurityUtils;
-import com.youlai.boot.system.model.entity.Log;
-import com.youlai.boot.system.service.LogService;
+import com.youlai.boot.system.writer.AsyncLogWriter;
+import com.youlai.boot.system.writer.LogRecord;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -20,19 +13,22 @@ import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.*;
-import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Component;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.HandlerMapping;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 
 /**
  * 日志切面
+ * <p>
+ * 请求线程只采集原始数据并提交到 {@link AsyncLogWriter}，IP 归属地、UserAgent 解析与 JSON 序列化在后台线程完成，
+ * 接口耗时与日志内容大小无关。
  *
  * @author Ray.Hao
  * @since 2024/6/25
@@ -42,9 +38,8 @@ import java.util.Objects;
 @Component
 @RequiredArgsConstructor
 public class LogAspect {
-    private final LogService logService;
+    private final AsyncLogWriter asyncLogWriter;
     private final HttpServletRequest request;
-    private final CacheManager cacheManager;
 
     /**
      * 切点
@@ -74,14 +69,14 @@ public class LogAspect {
             throw e;
         } finally {
             long executionTime = timer.interval(); // 执行时长
-            this.saveLog(joinPoint, exception, result, logAnnotation, executionTime, userId);
+            this.submitLog(joinPoint, exception, result, logAnnotation, executionTime, userId);
         }
         return result;
     }
 
 
     /**
-     * 保存日志
+     * 采集日志原始数据并提交到异步写入队列
      *
      * @param joinPoint     切点
      * @param e             异常
@@ -89,106 +84,56 @@ public class LogAspect {
      * @param logAnnotation 日志注解
      * @param userId        用户ID
      */
-    private void saveLog(final JoinPoint joinPoint, final Exception e, Object jsonResult, com.youlai.boot.common.annotation.Log logAnnotation, long executionTime, Long userId) {
-        String requestURI = request.getRequestURI();
-        // 创建日志记录
-        Log log = new Log();
-        log.setExecutionTime(executionTime);
-        if (logAnnotation == null && e != null) {
-            log.setModule(LogModuleEnum.EXCEPTION);
-            log.setContent("系统发生异常");
-            this.setRequestParameters(joinPoint, log);
-            log.setResponseContent(JSONUtil.toJsonStr(e.getStackTrace()));
-        } else {
-            log.setModule(logAnnotation.module());
-            log.setContent(logAnnotation.value());
-            // 请求参数
-            if (logAnnotation.params()) {
-                this.setRequestParameters(joinPoint, log);
-            }
-            // 响应结果
-            if (logAnnotation.result() && jsonResult != null) {
-                log.setResponseContent(JSONUtil.toJsonStr(jsonResult));
-            }
-        }
-        log.setRequestUri(requestURI);
-        log.setCreateBy(userId);
-        String ipAddr = IPUtils.getIpAddr(request);
-        if (StrUtil.isNotBlank(ipAddr)) {
-            log.setIp(ipAddr);
-            String region = IPUtils.getRegion(ipAddr);
-            // 中国|0|四川省|成都市|电信 解析省和市
-            if (StrUtil.isNotBlank(region)) {
-                String[] regionArray = region.split("\\|");
-                if (regionArray.length > 2) {
-                    log.setProvince(regionArray[2]);
-                    log.setCity(regionArray[3]);
-                }
-            }
-        }
-
-
-        // 获取浏览器和终端系统信息
-        String userAgentString = request.getHeader("User-Agent");
-        UserAgent userAgent = resolveUserAgent(userAgentString);
-        if (Objects.nonNull(userAgent)) {
-            // 系统信息
-            log.setOs(userAgent.getOs().getName());
-            // 浏览器信息
-            log.setBrowser(userAgent.getBrowser().getName());
-            log.setBrowserVersion(userAgent.getBrowser().getVersion(userAgentString));
-        }
-        //获取方法名
-        String methodName = joinPoint.getSignature().getName();
-        log.setMethod(methodName);
-        // 保存日志到数据库
-        logService.save(log);
+    private void submitLog(final JoinPoint joinPoint, final Exception e, Object jsonResult, com.youlai.boot.common.annotation.Log logAnnotation, long executionTime, Long userId) {
+        boolean recordParams = logAnnotation == null || logAnnotation.params();
+        LogRecord logRecord = new LogRecord(
+                logAnnotation != null ? logAnnotation.module() : null,
+                logAnnotation != null ? logAnnotation.value() : null,
+                recordParams,
+                logAnnotation != null && logAnnotation.result(),
+                request.getRequestURI(),
+                request.getMethod(),
+                joinPoint.getSignature().getName(),
+                IPUtils.getIpAddr(request),
+                request.getHeader("User-Agent"),
+                recordParams ? captureArguments(joinPoint.getArgs()) : null,
+                recordParams ? captureUriVariables() : null,
+                jsonResult,
+                e,
+                executionTime,
+                userId,
+                LocalDateTime.now()
+        );
+        asyncLogWriter.submit(logRecord);
     }
 
     /**
-     * 设置请求参数到日志对象中
+     * 采集方法参数，排除请求、响应与上传文件对象（这些对象在请求结束后不可再访问）
      *
-     * @param joinPoint 切点
-     * @param log       操作日志
+     * @param paramsArray 参数数组
+     * @return 参数列表
      */
-    private void setRequestParameters(JoinPoint joinPoint, Log log) {
-        String requestMethod = request.getMethod();
-        log.setRequestMethod(requestMethod);
-        if (HttpMethod.GET.name().equalsIgnoreCase(requestMethod) || HttpMethod.PUT.name().equalsIgnoreCase(requestMethod) || HttpMethod.POST.name().equalsIgnoreCase(requestMethod)) {
-            String params = convertArgumentsToString(joinPoint.getArgs());
-            log.setRequestParams(StrUtil.sub(params, 0, 65535));
-        } else {
-            ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-            if (attributes != null) {
-                Map<?, ?> paramsMap = (Map<?, ?>) attributes.getRequest().getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
-                log.setRequestParams(StrUtil.sub(paramsMap.toString(), 0, 65535));
-            } else {
-                log.setRequestParams("");
+    private List<Object> captureArguments(Object[] paramsArray) {
+        List<Object> args = new ArrayList<>();
+        if (paramsArray != null) {
+            for (Object param : paramsArray) {
+                if (param != null && !shouldFilterObject(param)) {
+                    args.add(param);
+                }
             }
         }
+        return args;
     }
 
     /**
-     * 将参数数组转换为字符串
+     * 采集路径变量副本
      *
-     * @param paramsArray 参数数组
-     * @return 参数字符串
+     * @return 路径变量
      */
-    private String convertArgumentsToString(Object[] paramsArray) {
-        StringBuilder params = new StringBuilder();
-        if (paramsArray != null) {
-            for (Object param : paramsArray) {
-                if (!shouldFilterObject(param)) {
-                    // 如果是基本类型或者枚举类型，直接添加到参数字符串中
-                    if(param.getClass().isPrimitive() || param.getClass().isEnum()) {
-                        params.append(param).append(" ");
-                    } else {
-                        params.append(JSONUtil.toJsonStr(param)).append(" ");
-                    }
-                }
-            }
-        }
-        return params.toString().trim();
+    @SuppressWarnings("unchecked")
+    private Map<String, String> captureUriVariables() {
+        Object uriVariables = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        return uriVariables instanceof Map<?, ?> map ? new LinkedHashMap<>((Map<String, String>) map) : null;
     }
 
     /**
@@ -211,27 +156,4 @@ public class LogAspect {
         return obj instanceof MultipartFile || obj instanceof HttpServletRequest || obj instanceof HttpServletResponse;
     }
 
-
-    /**
-     * 解析UserAgent
-     *
-     * @param userAgentString UserAgent字符串
-     * @return UserAgent
-     */
-    public UserAgent resolveUserAgent(String userAgentString) {
-        if (StrUtil.isBlank(userAgentString)) {
-            return null;
-        }
-        // 给userAgentStringMD5加密一次防止过长
-        String userAgentStringMD5 = DigestUtil.md5Hex(userAgentString);
-        //判断是否命中缓存
-        UserAgent userAgent = Objects.requireNonNull(cacheManager.getCache("userAgent")).get(userAgentStringMD5, UserAgent.class);
-        if (userAgent != null) {
-            return userAgent;
-        }
-        userAgent = UserAgentUtil.parse(userAgentString);
-        Objects.requireNonNull(cacheManager.getCache("userAgent")).put(userAgentStringMD5, userAgent);
-        return userAgent;
-    }
-
 }
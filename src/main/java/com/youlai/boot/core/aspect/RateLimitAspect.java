@@ -0,0 +1,148 @@
+package com.youlai.boot.core.aspect;
+
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.crypto.digest.DigestUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.youlai.boot.common.annotation.RateLimit;
+import com.youlai.boot.common.constant.RedisConstants;
+import com.youlai.boot.common.constant.SecurityConstants;
+import com.youlai.boot.common.constant.SystemConstants;
+import com.youlai.boot.common.enums.RateLimitAlgorithmEnum;
+import com.youlai.boot.common.enums.RateLimitKeyTypeEnum;
+import com.youlai.boot.common.util.IPUtils;
+import com.youlai.boot.core.exception.BusinessException;
+import com.youlai.boot.core.ratelimit.RedisRateLimiter;
+import com.youlai.boot.core.web.ResultCode;
+import com.youlai.boot.security.util.SecurityUtils;
+import com.youlai.boot.system.service.ConfigService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 接口限流切面
+ * <p>
+ * 按 {@link RateLimit} 声明的策略限流，系统配置 {@code RATE_LIMIT:<name>} 存在时以系统配置为准，修改后刷新系统配置缓存即时生效。
+ *
+ * @author Theo
+ * @since 4.1.0
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RateLimitAspect {
+
+    private final RedisRateLimiter redisRateLimiter;
+    private final ConfigService configService;
+
+    /**
+     * 已解析的系统配置策略（策略名称 + 配置值 -> 策略），避免每次请求重复解析；
+     * 配置值修改后旧条目不再命中，按容量和过期时间淘汰
+     */
+    private final Cache<String, Policy> parsedPolicies = Caffeine.newBuilder()
+            .maximumSize(1000)
+            .expireAfterAccess(Duration.ofHours(1))
+            .build();
+
+    /**
+     * 接口限流切点
+     */
+    @Pointcut("@annotation(rateLimit)")
+    public void rateLimitPointCut(RateLimit rateLimit) {
+    }
+
+    /**
+     * 环绕通知：处理接口限流逻辑
+     */
+    @Around(value = "rateLimitPointCut(rateLimit)", argNames = "pjp,rateLimit")
+    public Object handleRateLimit(ProceedingJoinPoint pjp, RateLimit rateLimit) throws Throwable {
+        Policy policy = resolvePolicy(rateLimit);
+        if (policy.limit() > 0) {
+            String key = StrUtil.format(RedisConstants.RateLimiter.POLICY, rateLimit.name(), getIdentifier(rateLimit.keyType()));
+            if (!redisRateLimiter.tryAcquire(key, policy.algorithm(), policy.limit(), policy.window())) {
+                throw new BusinessException(ResultCode.REQUEST_RATE_LIMIT_EXCEEDED);
+            }
+        }
+        return pjp.proceed();
+    }
+
+    /**
+     * 解析限流策略：系统配置优先，未配置或格式错误时使用注解声明的策略
+     */
+    private Policy resolvePolicy(RateLimit rateLimit) {
+        Object value = configService.getSystemConfig(SystemConstants.SYSTEM_CONFIG_RATE_LIMIT_KEY_PREFIX + rateLimit.name());
+        if (value == null || StrUtil.isBlank(value.toString())) {
+            return Policy.of(rateLimit);
+        }
+        return parsedPolicies.get(rateLimit.name() + "=" + value, k -> parsePolicy(rateLimit, value.toString()));
+    }
+
+    /**
+     * 解析系统配置的限流策略，格式：阈值/窗口[/算法]，窗口为纯数字时单位为秒
+     */
+    private Policy parsePolicy(RateLimit rateLimit, String value) {
+        try {
+            String[] parts = value.trim().split("/");
+            long limit = Long.parseLong(parts[0].trim());
+            Duration window = parts.length > 1
+                    ? DurationStyle.detectAndParse(parts[1].trim(), ChronoUnit.SECONDS)
+                    : Duration.ofSeconds(rateLimit.window());
+            RateLimitAlgorithmEnum algorithm = parts.length > 2
+                    ? RateLimitAlgorithmEnum.valueOf(parts[2].trim().toUpperCase().replace('-', '_'))
+                    : rateLimit.algorithm();
+            return new Policy(algorithm, limit, window);
+        } catch (RuntimeException e) {
+            log.warn("限流策略配置[{}{}]格式错误：{}，使用默认策略", SystemConstants.SYSTEM_CONFIG_RATE_LIMIT_KEY_PREFIX,
+                    rateLimit.name(), value);
+            return Policy.of(rateLimit);
+        }
+    }
+
+    /**
+     * 获取限流维度标识
+     * 用户和令牌维度在未登录或未携带令牌时退化为 IP 维度
+     */
+    private String getIdentifier(RateLimitKeyTypeEnum keyType) {
+        if (keyType == RateLimitKeyTypeEnum.GLOBAL) {
+            return "global";
+        }
+        HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.getRequestAttributes()).getRequest();
+        if (keyType == RateLimitKeyTypeEnum.USER) {
+            Long userId = SecurityUtils.getUserId();
+            if (userId != null) {
+                return "user:" + userId;
+            }
+        } else if (keyType == RateLimitKeyTypeEnum.TOKEN) {
+            String tokenHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+            if (StrUtil.isNotBlank(tokenHeader) && tokenHeader.startsWith(SecurityConstants.BEARER_TOKEN_PREFIX)) {
+                return "token:" + DigestUtil.sha256Hex(tokenHeader.substring(SecurityConstants.BEARER_TOKEN_PREFIX.length()));
+            }
+        }
+        return "ip:" + IPUtils.getIpAddr(request);
+    }
+
+    /**
+     * 限流策略
+     */
+    private record Policy(RateLimitAlgorithmEnum algorithm, long limit, Duration window) {
+
+        static Policy of(RateLimit rateLimit) {
+            return new Policy(rateLimit.algorithm(), rateLimit.limit(), Duration.ofSeconds(rateLimit.window()));
+        }
+    }
+
+}
@@ -2,30 +2,49 @@ package com.youlai.boot.core.aspect;
 
 import cn.hutool.core.util.StrUtil;
 import cn.hutool.crypto.digest.DigestUtil;
+import cn.hutool.json.JSONUtil;
 import com.youlai.boot.common.constant.RedisConstants;
 import com.youlai.boot.common.constant.SecurityConstants;
+import com.youlai.boot.core.web.Result;
 import com.youlai.boot.core.web.ResultCode;
 import com.youlai.boot.core.exception.BusinessException;
+import com.youlai.boot.core.exception.IdempotencyConflictException;
 import com.youlai.boot.common.annotation.RepeatSubmit;
 import com.youlai.boot.common.util.IPUtils;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
+import org.springframework.validation.BindingResult;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
  * 防重复提交切面
+ * <p>
+ * 每次判定只有一次 Redis SET NX 调用：
+ * <ul>
+ *   <li>防重复提交：键由用户标识、请求方法、请求路径与请求参数摘要组成，有效期内相同请求只执行一次</li>
+ *   <li>幂等请求：携带 {@code Idempotency-Key} 请求头时，幂等键按用户、请求方法、请求路径隔离，
+ *   首次请求的参数摘要和返回结果缓存到幂等键上；参数相同的重试直接返回缓存结果，参数不同时响应 422</li>
+ * </ul>
  *
  * @author Ray.Hao
  * @since 2.3.0
@@ -36,7 +55,7 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 public class RepeatSubmitAspect {
 
-    private final RedissonClient redissonClient;
+    private final RedisTemplate<String, Object> redisTemplate;
 
     /**
      * 防重复提交切点
@@ -50,31 +69,93 @@ public class RepeatSubmitAspect {
      */
     @Around(value = "repeatSubmitPointCut(repeatSubmit)", argNames = "pjp,repeatSubmit")
     public Object handleRepeatSubmit(ProceedingJoinPoint pjp, RepeatSubmit repeatSubmit) throws Throwable {
-        String lockKey = buildLockKey();
+        HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.getRequestAttributes()).getRequest();
+        String userIdentifier = getUserIdentifier(request);
 
-        int expire = repeatSubmit.expire();
-        RLock lock = redissonClient.getLock(lockKey);
+        String idempotencyKey = request.getHeader(SecurityConstants.IDEMPOTENCY_KEY_HEADER);
+        if (StrUtil.isNotBlank(idempotencyKey)) {
+            return handleIdempotent(pjp, repeatSubmit, request, userIdentifier, idempotencyKey);
+        }
 
-        boolean locked = lock.tryLock(0, expire, TimeUnit.SECONDS);
-        if (!locked) {
+        String lockKey = buildLockKey(request, userIdentifier, pjp.getArgs());
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(lockKey, 1, repeatSubmit.expire(), TimeUnit.SECONDS);
+        if (!Boolean.TRUE.equals(locked)) {
             throw new BusinessException(ResultCode.DUPLICATE_SUBMISSION);
         }
         return pjp.proceed();
     }
 
+    /**
+     * 处理携带幂等键的请求
+     * 首次请求执行后缓存返回结果；执行中的重复请求提示重复提交；执行完成后的重复请求返回缓存结果；
+     * 请求参数与首次请求不一致时拒绝；执行失败或返回值不是 {@link Result} 时删除幂等键允许重试
+     */
+    private Object handleIdempotent(ProceedingJoinPoint pjp, RepeatSubmit repeatSubmit, HttpServletRequest request,
+                                    String userIdentifier, String idempotencyKey) throws Throwable {
+        String requestIdentifier = StrUtil.join(":", request.getMethod(), request.getRequestURI(), idempotencyKey);
+        String key = StrUtil.format(RedisConstants.Lock.IDEMPOTENCY, userIdentifier, DigestUtil.sha256Hex(requestIdentifier));
+        String requestDigest = digestArgs(request, pjp.getArgs());
+
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key, new IdempotencyRecord(requestDigest, null),
+                repeatSubmit.idempotencyExpire(), TimeUnit.SECONDS);
+        if (!Boolean.TRUE.equals(acquired)) {
+            Object cached = redisTemplate.opsForValue().get(key);
+            if (cached instanceof IdempotencyRecord record) {
+                if (!StrUtil.equals(record.getRequestDigest(), requestDigest)) {
+                    throw new IdempotencyConflictException();
+                }
+                if (record.getResult() != null) {
+                    return record.getResult();
+                }
+            }
+            throw new BusinessException(ResultCode.DUPLICATE_SUBMISSION);
+        }
+
+        Object result;
+        try {
+            result = pjp.proceed();
+        } catch (Throwable e) {
+            redisTemplate.delete(key);
+            throw e;
+        }
+        if (result instanceof Result<?> cachedResult) {
+            redisTemplate.opsForValue().set(key, new IdempotencyRecord(requestDigest, cachedResult),
+                    repeatSubmit.idempotencyExpire(), TimeUnit.SECONDS);
+        } else {
+            // 无法缓存的返回值（如文件流）不保留执行中占位，允许按相同幂等键重试
+            redisTemplate.delete(key);
+        }
+        return result;
+    }
+
     /**
      * 生成防重复提交锁的 key
+     * 请求唯一标识 = 请求方法 + 请求路径 + 请求参数摘要
+     *
      * @return 锁的 key
      */
-    private String buildLockKey() {
-        HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.getRequestAttributes()).getRequest();
-        // 用户唯一标识
-        String userIdentifier = getUserIdentifier(request);
-        // 请求唯一标识 = 请求方法 + 请求路径 + 请求参数(严谨的做法)
-        String requestIdentifier = StrUtil.join(":", request.getMethod(), request.getRequestURI());
+    private String buildLockKey(HttpServletRequest request, String userIdentifier, Object[] args) {
+        String requestIdentifier = StrUtil.join(":", request.getMethod(), request.getRequestURI(), digestArgs(request, args));
         return StrUtil.format(RedisConstants.Lock.RESUBMIT, userIdentifier, requestIdentifier);
     }
 
+    /**
+     * 请求参数摘要
+     * 请求体在参数绑定时已被读取，这里对绑定后的方法参数（请求体、路径参数）与查询字符串计算摘要
+     */
+    private String digestArgs(HttpServletRequest request, Object[] args) {
+        List<Object> bindArgs = new ArrayList<>(args.length + 1);
+        for (Object arg : args) {
+            if (arg instanceof ServletRequest || arg instanceof ServletResponse
+                    || arg instanceof InputStreamSource || arg instanceof BindingResult) {
+                continue;
+            }
+            bindArgs.add(arg);
+        }
+        bindArgs.add(request.getQueryString());
+        return DigestUtil.md5Hex(JSONUtil.toJsonStr(bindArgs));
+    }
+
     /**
      *  获取用户唯一标识
      *  1. 从请求头中获取 Token，使用 SHA-256 加密 Token 作为用户唯一标识
@@ -97,6 +178,16 @@ public class RepeatSubmitAspect {
         return userIdentifier;
     }
 
+    /**
+     * 幂等键缓存内容：首次请求的参数摘要，以及执行完成后的返回结果（执行中为空）
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class IdempotencyRecord implements Serializable {
+
+        private String requestDigest;
 
+        private Result<?> result;
+    }
 }
-
@@ -2,6 +2,7 @@ package com.youlai.boot.core.exception;
 
 import cn.hutool.core.util.StrUtil;
 import tools.jackson.core.JacksonException;
+import com.youlai.boot.core.web.IResultCode;
 import com.youlai.boot.core.web.Result;
 import com.youlai.boot.core.web.ResultCode;
 import jakarta.servlet.ServletException;
@@ -11,6 +12,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.TypeMismatchException;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.jdbc.BadSqlGrammarException;
 import org.springframework.security.access.AccessDeniedException;
@@ -223,19 +225,36 @@ public class GlobalExceptionHandler {
         return Result.failed(ResultCode.INTEGRITY_CONSTRAINT_VIOLATION);
     }
 
+    /**
+     * 处理幂等键冲突异常
+     * <p>
+     * 同一幂等键被用于参数不同的请求时，会抛出 IdempotencyConflictException 异常。
+     */
+    @ExceptionHandler(IdempotencyConflictException.class)
+    @ResponseStatus(HttpStatus.UNPROCESSABLE_CONTENT)
+    public <T> Result<T> handleIdempotencyConflictException(IdempotencyConflictException e) {
+        log.warn(e.getMessage());
+        return Result.failed(e.getResultCode());
+    }
+
     /**
      * 处理业务异常
      * <p>
      * 当业务逻辑发生错误时，会抛出 BusinessException 异常。
+     * 接口限流与并发数超限返回 429，与过滤器层的限流响应一致，其余返回 400。
      */
     @ExceptionHandler(BusinessException.class)
-    @ResponseStatus(HttpStatus.BAD_REQUEST)
-    public <T> Result<T> handleBizException(BusinessException e) {
+    public <T> ResponseEntity<Result<T>> handleBizException(BusinessException e) {
+        IResultCode resultCode = e.getResultCode();
+        if (resultCode == ResultCode.REQUEST_RATE_LIMIT_EXCEEDED || resultCode == ResultCode.REQUEST_CONCURRENCY_LIMIT_EXCEEDED) {
+            log.warn(e.getMessage());
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(Result.failed(resultCode, e.getMessage()));
+        }
         log.error("biz exception", e);
-        if (e.getResultCode() != null) {
-            return Result.failed(e.getResultCode(), e.getMessage());
+        if (resultCode != null) {
+            return ResponseEntity.badRequest().body(Result.failed(resultCode, e.getMessage()));
         }
-        return Result.failed(e.getMessage());
+        return ResponseEntity.badRequest().body(Result.failed(e.getMessage()));
     }
 
     /**
@@ -0,0 +1,18 @@
+package com.youlai.boot.core.exception;
+
+import com.youlai.boot.core.web.ResultCode;
+
+/**
+ * 幂等键冲突异常
+ * <p>
+ * 同一幂等键被用于请求方法、路径相同但请求参数不同的请求时抛出，响应 422
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+public class IdempotencyConflictException extends BusinessException {
+
+    public IdempotencyConflictException() {
+        super(ResultCode.IDEMPOTENCY_KEY_REUSED);
+    }
+}
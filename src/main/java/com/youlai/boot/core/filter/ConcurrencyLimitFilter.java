@@ -0,0 +1,67 @@
+package com.youlai.boot.core.filter;
+
+import com.youlai.boot.config.property.ConcurrencyLimitProperties;
+import com.youlai.boot.core.ratelimit.ConcurrencyLimiterRegistry;
+import com.youlai.boot.core.ratelimit.GradientConcurrencyLimiter;
+import com.youlai.boot.core.web.ResultCode;
+import com.youlai.boot.core.web.WebResponseWriter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 自适应并发限流过滤器
+ * <p>
+ * 请求所属分组的在途请求数达到并发上限时直接拒绝，避免数据库变慢时 Tomcat 线程堆积在慢接口上拖垮整个服务；
+ * 并发上限根据请求延迟自适应调整，见 {@link GradientConcurrencyLimiter}。
+ *
+ * @author Theo
+ * @since 4.1.0
+ */
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final ConcurrencyLimiterRegistry concurrencyLimiterRegistry;
+    private final ConcurrencyLimitProperties concurrencyLimitProperties;
+
+    public ConcurrencyLimitFilter(ConcurrencyLimiterRegistry concurrencyLimiterRegistry,
+                                  ConcurrencyLimitProperties concurrencyLimitProperties) {
+        this.concurrencyLimiterRegistry = concurrencyLimiterRegistry;
+        this.concurrencyLimitProperties = concurrencyLimitProperties;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NotNull HttpServletRequest request) {
+        return !concurrencyLimitProperties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(@NotNull HttpServletRequest request, @NotNull HttpServletResponse response,
+                                    @NotNull FilterChain filterChain) throws ServletException, IOException {
+        GradientConcurrencyLimiter limiter = concurrencyLimiterRegistry.resolve(request);
+        if (!limiter.tryAcquire()) {
+            log.debug("并发限流分组[{}]已达上限 {}，拒绝请求：{}", limiter.getName(), limiter.getLimit(), request.getRequestURI());
+            WebResponseWriter.writeError(response, ResultCode.REQUEST_CONCURRENCY_LIMIT_EXCEEDED);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            filterChain.doFilter(request, response);
+            success = true;
+        } finally {
+            if (success) {
+                limiter.onSuccess(System.nanoTime() - start);
+            } else {
+                limiter.onDropped();
+            }
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package com.youlai.boot.core.filter;
 
-import cn.hutool.core.convert.Convert;
 import cn.hutool.core.util.StrUtil;
 import com.youlai.boot.common.constant.RedisConstants;
 import com.youlai.boot.common.constant.SystemConstants;
+import com.youlai.boot.config.property.RateLimitProperties;
+import com.youlai.boot.core.ratelimit.HybridRateLimiter;
+import com.youlai.boot.core.ratelimit.RedisRateLimiter;
 import com.youlai.boot.core.web.ResultCode;
 import com.youlai.boot.common.util.IPUtils;
 import com.youlai.boot.core.web.WebResponseWriter;
@@ -14,14 +16,17 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
 
 /**
  * IP 限流过滤器
+ * <p>
+ * 按配置顺序匹配路由限流规则，每次判定为一次原子的 Redis 脚本调用；
+ * 未命中时执行全局 IP 限流，启用本地预判时由 {@link HybridRateLimiter} 在内存中判定，不访问 Redis。
  *
  * @author Theo
  * @since 2024/08/10 14:38
@@ -29,46 +34,73 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 public class RateLimiterFilter extends OncePerRequestFilter {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisRateLimiter redisRateLimiter;
+    private final HybridRateLimiter hybridRateLimiter;
     private final ConfigService configService;
+    private final RateLimitProperties rateLimitProperties;
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
 
     private static final long DEFAULT_IP_LIMIT = 10L; // 默认 IP 限流阈值
 
-    public RateLimiterFilter(RedisTemplate<String, Object> redisTemplate, ConfigService configService) {
-        this.redisTemplate = redisTemplate;
+    private static final Duration IP_LIMIT_WINDOW = Duration.ofSeconds(1);
+
+    public RateLimiterFilter(RedisRateLimiter redisRateLimiter, HybridRateLimiter hybridRateLimiter,
+                             ConfigService configService, RateLimitProperties rateLimitProperties) {
+        this.redisRateLimiter = redisRateLimiter;
+        this.hybridRateLimiter = hybridRateLimiter;
         this.configService = configService;
+        this.rateLimitProperties = rateLimitProperties;
     }
 
     /**
-     * 判断 IP 是否触发限流
-     * 默认限制同一 IP 每秒最多请求 10 次，可通过系统配置调整。
-     * 如果系统未配置限流阈值，默认跳过限流。
+     * 判断请求是否触发限流
+     * 命中路由规则时按规则限流；否则默认限制同一 IP 每秒最多请求 10 次，可通过系统配置调整。
+     * 如果系统未配置限流阈值，默认跳过全局 IP 限流。
      *
-     * @param ip IP 地址
+     * @param request 请求
+     * @param ip      IP 地址
      * @return 是否限流：true 表示限流；false 表示未限流
      */
-    public boolean rateLimit(String ip) {
-        // 限流 Redis 键
-        String key = StrUtil.format(RedisConstants.RateLimiter.IP, ip);
-
-        // 自增请求计数
-        Long count = redisTemplate.opsForValue().increment(key);
-        if (count == null || count == 1) {
-            // 第一次访问时设置过期时间为 1 秒
-            redisTemplate.expire(key, 1, TimeUnit.SECONDS);
+    public boolean rateLimit(HttpServletRequest request, String ip) {
+        RateLimitProperties.Rule rule = matchRule(request);
+        if (rule != null) {
+            String key = StrUtil.format(RedisConstants.RateLimiter.ROUTE, rule.getName(), ip);
+            return !redisRateLimiter.tryAcquire(key, rule.getAlgorithm(), rule.getLimit(), rule.getWindow());
         }
 
-        // 获取系统配置的限流阈值
-        Object systemConfig = configService.getSystemConfig(SystemConstants.SYSTEM_CONFIG_IP_QPS_LIMIT_KEY);
-        if (systemConfig == null) {
+        // 获取系统配置的限流阈值（本地快照读取，无 Redis 往返）
+        if (configService.getSystemConfig(SystemConstants.SYSTEM_CONFIG_IP_QPS_LIMIT_KEY) == null) {
             // 系统未配置限流，跳过限流逻辑
-            log.warn("系统未配置限流阈值，跳过限流");
             return false;
         }
-
         // 转换系统配置为限流值，默认为 10
-        long limit = Convert.toLong(systemConfig, DEFAULT_IP_LIMIT);
-        return count != null && count > limit;
+        long limit = configService.getLong(SystemConstants.SYSTEM_CONFIG_IP_QPS_LIMIT_KEY, DEFAULT_IP_LIMIT);
+
+        String key = StrUtil.format(RedisConstants.RateLimiter.IP, ip);
+        if (rateLimitProperties.getLocal().isEnabled()) {
+            return !hybridRateLimiter.tryAcquire(key, limit, IP_LIMIT_WINDOW);
+        }
+        return !redisRateLimiter.tryAcquire(key, rateLimitProperties.getAlgorithm(), limit, IP_LIMIT_WINDOW);
+    }
+
+    /**
+     * 匹配路由限流规则
+     *
+     * @param request 请求
+     * @return 命中的第一条规则，未命中返回 null
+     */
+    private RateLimitProperties.Rule matchRule(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        for (RateLimitProperties.Rule rule : rateLimitProperties.getRules()) {
+            if (StrUtil.isNotBlank(rule.getMethod()) && !rule.getMethod().equalsIgnoreCase(request.getMethod())) {
+                continue;
+            }
+            if (pathMatcher.match(rule.getPattern(), uri)) {
+                return rule;
+            }
+        }
+        return null;
     }
 
     /**
@@ -82,11 +114,16 @@ public class RateLimiterFilter extends OncePerRequestFilter {
     @Override
     protected void doFilterInternal(@NotNull HttpServletRequest request, @NotNull HttpServletResponse response,
                                     @NotNull FilterChain filterChain) throws ServletException, IOException {
+        if (!rateLimitProperties.isEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
         // 获取请求的 IP 地址
         String ip = IPUtils.getIpAddr(request);
 
         // 判断是否限流
-        if (rateLimit(ip)) {
+        if (rateLimit(request, ip)) {
             // 返回限流错误信息
             WebResponseWriter.writeError(response, ResultCode.REQUEST_CONCURRENCY_LIMIT_EXCEEDED);
             return;
@@ -0,0 +1,88 @@
+package com.youlai.boot.core.ratelimit;
+
+import com.youlai.boot.config.property.ConcurrencyLimitProperties;
+import com.youlai.boot.system.model.vo.ConcurrencyLimitVO;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 并发限流分组注册表
+ * <p>
+ * 按配置顺序把请求路径匹配到限流分组，未命中的请求归入默认分组，各分组独立计算并发上限，
+ * 避免导出、导入、统计等重接口挤占轻接口的并发名额。
+ *
+ * @author Theo
+ * @since 4.1.0
+ */
+@Component
+public class ConcurrencyLimiterRegistry {
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    private final List<GroupMatcher> matchers = new ArrayList<>();
+
+    private final GradientConcurrencyLimiter defaultLimiter;
+
+    public ConcurrencyLimiterRegistry(ConcurrencyLimitProperties properties) {
+        for (ConcurrencyLimitProperties.Group group : properties.getGroups()) {
+            matchers.add(new GroupMatcher(group.getPatterns(), newLimiter(group, properties)));
+        }
+        this.defaultLimiter = newLimiter(properties.getDefaultGroup(), properties);
+    }
+
+    /**
+     * 获取请求所属分组的限流器
+     *
+     * @param request 请求
+     * @return 限流器
+     */
+    public GradientConcurrencyLimiter resolve(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        for (GroupMatcher matcher : matchers) {
+            for (String pattern : matcher.patterns()) {
+                if (pathMatcher.match(pattern, uri)) {
+                    return matcher.limiter();
+                }
+            }
+        }
+        return defaultLimiter;
+    }
+
+    /**
+     * 获取各分组的限流状态
+     *
+     * @return 限流状态列表
+     */
+    public List<ConcurrencyLimitVO> listStats() {
+        List<ConcurrencyLimitVO> stats = new ArrayList<>(matchers.size() + 1);
+        for (GroupMatcher matcher : matchers) {
+            stats.add(toStats(matcher.limiter()));
+        }
+        stats.add(toStats(defaultLimiter));
+        return stats;
+    }
+
+    private static GradientConcurrencyLimiter newLimiter(ConcurrencyLimitProperties.Group group,
+                                                         ConcurrencyLimitProperties properties) {
+        return new GradientConcurrencyLimiter(group.getName(), group.getInitialLimit(), group.getMinLimit(),
+                group.getMaxLimit(), properties.getRttTolerance(), properties.getSmoothing());
+    }
+
+    private static ConcurrencyLimitVO toStats(GradientConcurrencyLimiter limiter) {
+        ConcurrencyLimitVO vo = new ConcurrencyLimitVO();
+        vo.setGroup(limiter.getName());
+        vo.setLimit(limiter.getLimit());
+        vo.setInflight(limiter.getInflight());
+        vo.setRejected(limiter.getRejected());
+        vo.setLongRttMillis(limiter.getLongRttMillis());
+        vo.setLastRttMillis(limiter.getLastRttMillis());
+        return vo;
+    }
+
+    private record GroupMatcher(List<String> patterns, GradientConcurrencyLimiter limiter) {
+    }
+}
@@ -0,0 +1,147 @@
+package com.youlai.boot.core.ratelimit;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 基于延迟梯度的自适应并发限流器
+ * <p>
+ * 参考 Netflix concurrency-limits 的 Gradient2 算法：
+ * <ul>
+ *   <li>长期延迟：请求延迟的指数移动平均，作为无排队时的基线</li>
+ *   <li>梯度：容忍倍数 × 长期延迟 / 本次延迟，限制在 [0.5, 1]，延迟升高时收缩并发上限</li>
+ *   <li>新上限：当前上限 × 梯度 + √当前上限（排队余量，允许在延迟平稳时缓慢探测更高并发）</li>
+ *   <li>请求异常视为丢弃，并发上限按 0.9 倍乘性下降</li>
+ * </ul>
+ * 在途请求数低于上限一半时不调整上限，避免空闲时上限被无限推高。
+ *
+ * @author Theo
+ * @since 4.1.0
+ */
+public class GradientConcurrencyLimiter {
+
+    /**
+     * 长期延迟移动平均的样本窗口
+     */
+    private static final int LONG_WINDOW = 600;
+
+    /**
+     * 异常时的乘性下降系数
+     */
+    private static final double BACKOFF_RATIO = 0.9;
+
+    @Getter
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double rttTolerance;
+    private final double smoothing;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+
+    private volatile double limit;
+    private double longRtt;
+    private volatile long lastRtt;
+
+    public GradientConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit,
+                                      double rttTolerance, double smoothing) {
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.rttTolerance = rttTolerance;
+        this.smoothing = smoothing;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * 尝试占用一个并发名额
+     *
+     * @return 是否放行，放行后必须调用 {@link #onSuccess(long)} 或 {@link #onDropped()} 归还名额
+     */
+    public boolean tryAcquire() {
+        for (; ; ) {
+            int current = inflight.get();
+            if (current >= (int) limit) {
+                rejected.increment();
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 请求正常完成
+     *
+     * @param rttNanos 请求耗时（纳秒）
+     */
+    public void onSuccess(long rttNanos) {
+        int current = inflight.getAndDecrement();
+        update(rttNanos, current);
+    }
+
+    /**
+     * 请求异常完成
+     */
+    public void onDropped() {
+        inflight.decrementAndGet();
+        synchronized (this) {
+            limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+        }
+    }
+
+    private synchronized void update(long rtt, int current) {
+        lastRtt = rtt;
+        longRtt = longRtt == 0 ? rtt : longRtt + (rtt - longRtt) / LONG_WINDOW;
+        // 延迟长期大幅低于基线时快速回落基线，避免负载恢复后长期过度放宽
+        if (longRtt / Math.max(1, rtt) > 2) {
+            longRtt *= 0.95;
+        }
+        if (current < limit / 2) {
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRtt / Math.max(1, rtt)));
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        newLimit = limit * (1 - smoothing) + newLimit * smoothing;
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+
+    /**
+     * 当前并发上限
+     */
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * 当前在途请求数
+     */
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    /**
+     * 累计拒绝次数
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * 长期基线延迟（毫秒）
+     */
+    public synchronized double getLongRttMillis() {
+        return longRtt / 1_000_000;
+    }
+
+    /**
+     * 最近一次请求延迟（毫秒）
+     */
+    public double getLastRttMillis() {
+        return lastRtt / 1_000_000.0;
+    }
+}
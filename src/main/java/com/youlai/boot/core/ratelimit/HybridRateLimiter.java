@@ -0,0 +1,279 @@
+package com.youlai.boot.core.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.youlai.boot.config.property.RateLimitProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 本地 + 全局混合限流器（固定窗口）
+ * <p>
+ * 请求路径上只访问本节点内存，集群计数通过批量上报合并：
+ * <ul>
+ *   <li>本地：每个限流键维护当前窗口的未上报放行数与最近一次得到的集群计数，两者之和达到阈值即本地拒绝</li>
+ *   <li>上报：后台线程按固定间隔把所有键的未上报放行数在一次 Redis 调用中批量累加，并取回集群计数；
+ *   单个键的未上报放行数达到 max(minAllowance, 阈值 × errorRatio)（不超过阈值）时立即唤醒上报线程，不等待下一次定时上报</li>
+ *   <li>误差：请求线程从不等待 Redis，上报期间继续按已知的集群计数放行，单个节点在一个窗口内的放行数不超过阈值；
+ *   集群的超额放行为各节点在最近一次上报往返期间放行的请求，最坏情况（所有节点同时只看到旧计数）为 (节点数 - 1) × 阈值</li>
+ * </ul>
+ * Redis 不可用时退化为单节点限流（本地按完整阈值判定），并在退避时间内不再尝试同步上报。
+ *
+ * @author Theo
+ * @since 4.1.0
+ */
+@Slf4j
+@Component
+public class HybridRateLimiter {
+
+    private static final RedisScript<List> BATCH_INCR_SCRIPT;
+
+    /**
+     * 脚本返回整数数组，元素按 Long 反序列化
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisSerializer RESULT_SERIALIZER = new GenericToStringSerializer<>(Long.class);
+
+    /**
+     * 单次上报的最大键数量，避免单个脚本执行时间过长阻塞 Redis
+     */
+    private static final int SYNC_BATCH_SIZE = 500;
+
+    /**
+     * 上报失败后的退避时间（毫秒）
+     */
+    private static final long SYNC_BACKOFF_MILLIS = 1000;
+
+    static {
+        DefaultRedisScript<List> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource("lua/ratelimit/batch_incr.lua")));
+        script.setResultType(List.class);
+        BATCH_INCR_SCRIPT = script;
+    }
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private final RateLimitProperties.Local properties;
+
+    private final Cache<String, LocalWindow> windows;
+
+    private ScheduledExecutorService scheduler;
+
+    private volatile long syncBackoffUntil;
+
+    public HybridRateLimiter(RedisTemplate<String, Object> redisTemplate, RateLimitProperties rateLimitProperties) {
+        this.redisTemplate = redisTemplate;
+        this.properties = rateLimitProperties.getLocal();
+        this.windows = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxKeys())
+                .expireAfterAccess(Duration.ofMinutes(1))
+                .build();
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rate-limit-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = Math.max(10, properties.getSyncInterval().toMillis());
+        scheduler.scheduleWithFixedDelay(this::syncAll, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            syncAll();
+        }
+    }
+
+    /**
+     * 尝试获取 1 个许可
+     *
+     * @param key    限流键
+     * @param limit  窗口内集群允许的请求数
+     * @param window 窗口时长
+     * @return 是否放行
+     */
+    public boolean tryAcquire(String key, long limit, Duration window) {
+        long windowMillis = Math.max(1, window.toMillis());
+        long windowId = System.currentTimeMillis() / windowMillis;
+
+        LocalWindow current = windows.getIfPresent(key);
+        if (current == null || current.windowId != windowId) {
+            current = windows.asMap().compute(key, (k, old) -> old != null && old.windowId >= windowId
+                    ? old : new LocalWindow(k + ":" + windowId, windowId, windowMillis));
+        }
+
+        long allowance = Math.min(limit, Math.max(properties.getMinAllowance(),
+                (long) Math.ceil(limit * properties.getErrorRatio())));
+        for (; ; ) {
+            long pending = current.pending.get();
+            if (current.used(pending) >= limit) {
+                return false;
+            }
+            if (current.pending.compareAndSet(pending, pending + 1)) {
+                // 未上报的放行数达到上报阈值：立即异步上报获取最新集群计数，上报期间继续按已知计数放行
+                if (pending + 1 >= allowance) {
+                    requestSync(current);
+                }
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 唤醒上报线程立即上报指定窗口，同一窗口同时只提交一次
+     */
+    private void requestSync(LocalWindow window) {
+        if (scheduler == null || System.currentTimeMillis() < syncBackoffUntil
+                || !window.syncRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            scheduler.execute(() -> {
+                try {
+                    sync(List.of(window));
+                } finally {
+                    window.syncRequested.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            window.syncRequested.set(false);
+        }
+    }
+
+    /**
+     * 批量上报所有当前窗口内有未上报放行数的限流键
+     */
+    void syncAll() {
+        long now = System.currentTimeMillis();
+        List<LocalWindow> dirty = new ArrayList<>();
+        for (LocalWindow window : windows.asMap().values()) {
+            if (window.pending.get() > 0 && window.windowId == now / window.windowMillis) {
+                dirty.add(window);
+                if (dirty.size() >= SYNC_BATCH_SIZE) {
+                    sync(dirty);
+                    dirty = new ArrayList<>();
+                }
+            }
+        }
+        if (!dirty.isEmpty()) {
+            sync(dirty);
+        }
+    }
+
+    /**
+     * 上报本地放行数并更新集群计数
+     *
+     * @param dirty 待上报的窗口
+     * @return 是否上报成功
+     */
+    @SuppressWarnings("unchecked")
+    private boolean sync(List<LocalWindow> dirty) {
+        if (System.currentTimeMillis() < syncBackoffUntil) {
+            return false;
+        }
+        List<String> keys = new ArrayList<>(dirty.size());
+        Object[] args = new Object[dirty.size() * 2];
+        long[] deltas = new long[dirty.size()];
+        for (int i = 0; i < dirty.size(); i++) {
+            LocalWindow window = dirty.get(i);
+            // 先计入上报中，避免上报期间本地判定漏算
+            long delta = window.pending.getAndSet(0);
+            window.inFlight.addAndGet(delta);
+            deltas[i] = delta;
+            keys.add(window.redisKey);
+            args[i * 2] = String.valueOf(delta);
+            args[i * 2 + 1] = String.valueOf(window.windowMillis * 2);
+        }
+
+        try {
+            List<Object> counts = redisTemplate.execute(BATCH_INCR_SCRIPT, RedisSerializer.string(), RESULT_SERIALIZER, keys, args);
+            for (int i = 0; i < dirty.size(); i++) {
+                LocalWindow window = dirty.get(i);
+                if (counts != null && counts.get(i) instanceof Number count) {
+                    window.globalCount.accumulateAndGet(count.longValue(), Math::max);
+                } else {
+                    window.globalCount.addAndGet(deltas[i]);
+                }
+                window.inFlight.addAndGet(-deltas[i]);
+            }
+            return true;
+        } catch (Exception e) {
+            for (int i = 0; i < dirty.size(); i++) {
+                LocalWindow window = dirty.get(i);
+                window.pending.addAndGet(deltas[i]);
+                window.inFlight.addAndGet(-deltas[i]);
+            }
+            syncBackoffUntil = System.currentTimeMillis() + SYNC_BACKOFF_MILLIS;
+            log.warn("限流计数上报失败，暂时按单节点限流：{}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 限流键在单个窗口内的本地状态
+     */
+    private static final class LocalWindow {
+
+        private final String redisKey;
+        private final long windowId;
+        private final long windowMillis;
+
+        /**
+         * 本地已放行但尚未上报的请求数
+         */
+        private final AtomicLong pending = new AtomicLong();
+
+        /**
+         * 正在上报中的请求数
+         */
+        private final AtomicLong inFlight = new AtomicLong();
+
+        /**
+         * 最近一次上报得到的集群计数（已包含本节点已上报的放行数）
+         */
+        private final AtomicLong globalCount = new AtomicLong();
+
+        /**
+         * 是否已提交立即上报
+         */
+        private final AtomicBoolean syncRequested = new AtomicBoolean();
+
+        private LocalWindow(String redisKey, long windowId, long windowMillis) {
+            this.redisKey = redisKey;
+            this.windowId = windowId;
+            this.windowMillis = windowMillis;
+        }
+
+        private long used(long pending) {
+            return globalCount.get() + inFlight.get() + pending;
+        }
+    }
+
+}
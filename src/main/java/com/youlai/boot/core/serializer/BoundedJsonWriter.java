@@ -0,0 +1,202 @@
+package com.youlai.boot.core.serializer;
+
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.springframework.core.io.InputStreamSource;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.cfg.DateTimeFeature;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.module.SimpleModule;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+
+/**
+ * 限长 JSON 写入器
+ * <p>
+ * 边序列化边写入线程内复用的缓冲区，写满上限后立即中止序列化，大对象不会被完整序列化后再截断：
+ * <ul>
+ *   <li>峰值内存为上限长度加上 Jackson 的内部缓冲区，与对象大小无关</li>
+ *   <li>字节数组、流、上传文件、请求与响应等重型对象只输出类型占位符</li>
+ *   <li>缓冲区按线程复用，使用方式：{@code BoundedJsonWriter.acquire(limit).writeJson(obj).toString()}</li>
+ * </ul>
+ * 非线程安全，获取的实例只能在当前线程中使用，且在下次 {@link #acquire(int)} 前使用完毕。
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+public final class BoundedJsonWriter extends Writer {
+
+    private static final JsonMapper MAPPER = JsonMapper.builder()
+            .disable(DateTimeFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+            .addModule(new SimpleModule()
+                    .addSerializer(byte[].class, new PlaceholderSerializer<>(byte[].class))
+                    .addSerializer(InputStream.class, new PlaceholderSerializer<>(InputStream.class))
+                    .addSerializer(Reader.class, new PlaceholderSerializer<>(Reader.class))
+                    .addSerializer(InputStreamSource.class, new PlaceholderSerializer<>(InputStreamSource.class))
+                    .addSerializer(ServletRequest.class, new PlaceholderSerializer<>(ServletRequest.class))
+                    .addSerializer(ServletResponse.class, new PlaceholderSerializer<>(ServletResponse.class))
+            )
+            .build();
+
+    private static final ThreadLocal<BoundedJsonWriter> LOCAL = ThreadLocal.withInitial(BoundedJsonWriter::new);
+
+    private final StringBuilder buffer = new StringBuilder(1024);
+
+    private int limit;
+
+    private boolean truncated;
+
+    private BoundedJsonWriter() {
+    }
+
+    /**
+     * 获取当前线程复用的写入器并清空
+     *
+     * @param limit 最大字符数
+     * @return 写入器
+     */
+    public static BoundedJsonWriter acquire(int limit) {
+        BoundedJsonWriter writer = LOCAL.get();
+        writer.buffer.setLength(0);
+        writer.limit = limit;
+        writer.truncated = false;
+        return writer;
+    }
+
+    /**
+     * 写入对象的 JSON，超出上限的部分被丢弃
+     *
+     * @param value 对象
+     * @return 当前写入器
+     */
+    public BoundedJsonWriter writeJson(Object value) {
+        if (truncated) {
+            return this;
+        }
+        try {
+            MAPPER.writeValue(this, value);
+        } catch (RuntimeException e) {
+            // 写满上限时中止序列化；其他序列化异常输出占位符
+            if (!truncated) {
+                writeRaw("[" + value.getClass().getSimpleName() + "]");
+            }
+        }
+        return this;
+    }
+
+    /**
+     * 写入原始文本，超出上限的部分被丢弃
+     *
+     * @param text 文本
+     * @return 当前写入器
+     */
+    public BoundedJsonWriter writeRaw(String text) {
+        if (!truncated) {
+            try {
+                write(text, 0, text.length());
+            } catch (LimitReachedException ignored) {
+                // 已写满
+            }
+        }
+        return this;
+    }
+
+    /**
+     * 是否因超出上限被截断
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    /**
+     * 已写入的字符数
+     */
+    public int length() {
+        return buffer.length();
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) {
+        append(cbuf, off, len, null);
+    }
+
+    @Override
+    public void write(String str, int off, int len) {
+        append(null, off, len, str);
+    }
+
+    @Override
+    public void write(int c) {
+        if (buffer.length() >= limit) {
+            reachLimit();
+        }
+        buffer.append((char) c);
+    }
+
+    private void append(char[] cbuf, int off, int len, String str) {
+        if (truncated) {
+            throw LimitReachedException.INSTANCE;
+        }
+        int remaining = limit - buffer.length();
+        int count = Math.min(len, remaining);
+        if (cbuf != null) {
+            buffer.append(cbuf, off, count);
+        } else {
+            buffer.append(str, off, off + count);
+        }
+        if (len > remaining) {
+            reachLimit();
+        }
+    }
+
+    private void reachLimit() {
+        truncated = true;
+        throw LimitReachedException.INSTANCE;
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public String toString() {
+        return buffer.toString();
+    }
+
+    /**
+     * 写满上限信号（无堆栈，复用单例）
+     */
+    private static final class LimitReachedException extends RuntimeException {
+
+        private static final LimitReachedException INSTANCE = new LimitReachedException();
+
+        private LimitReachedException() {
+            super("limit reached", null, false, false);
+        }
+    }
+
+    /**
+     * 重型对象占位符序列化器，只输出类型名
+     */
+    private static final class PlaceholderSerializer<T> extends StdSerializer<T> {
+
+        private PlaceholderSerializer(Class<T> type) {
+            super(type);
+        }
+
+        @Override
+        public void serialize(T value, JsonGenerator gen, SerializationContext ctxt) {
+            gen.writeString("[" + value.getClass().getSimpleName() + "]");
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.youlai.boot.core.serializer;
+
+import cn.hutool.core.convert.Convert;
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.extra.spring.SpringUtil;
+import cn.idev.excel.converters.Converter;
+import cn.idev.excel.converters.ReadConverterContext;
+import cn.idev.excel.converters.WriteConverterContext;
+import cn.idev.excel.metadata.data.WriteCellData;
+import com.youlai.boot.common.annotation.DictLabel;
+import com.youlai.boot.system.cache.DictCache;
+
+import java.lang.reflect.Field;
+
+/**
+ * 字典翻译 Excel 转换器
+ * <p>
+ * 配合 {@link DictLabel} 使用：导出时字典值转为字典标签，导入时字典标签转为字段类型的字典值
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+public class DictLabelExcelConverter implements Converter<Object> {
+
+    /**
+     * 字典缓存，首次转换时获取，之后不再查找 Bean
+     */
+    private volatile DictCache dictCache;
+
+    public DictLabelExcelConverter() {
+    }
+
+    public DictLabelExcelConverter(DictCache dictCache) {
+        this.dictCache = dictCache;
+    }
+
+    @Override
+    public WriteCellData<?> convertToExcelData(WriteConverterContext<Object> context) {
+        Object value = context.getValue();
+        if (value == null) {
+            return new WriteCellData<>("");
+        }
+        String code = String.valueOf(value);
+        String label = getLookup(context.getContentProperty().getField()).getLabel(code);
+        return new WriteCellData<>(label != null ? label : code);
+    }
+
+    @Override
+    public Object convertToJavaData(ReadConverterContext<?> context) {
+        String label = context.getReadCellData().getStringValue();
+        if (StrUtil.isBlank(label)) {
+            return null;
+        }
+        Field field = context.getContentProperty().getField();
+        String value = getLookup(field).getValue(label.trim());
+        return value != null ? Convert.convert(field.getType(), value) : null;
+    }
+
+    private DictCache.DictLookup getLookup(Field field) {
+        DictLabel dictLabel = field.getAnnotation(DictLabel.class);
+        if (dictLabel == null) {
+            throw new IllegalStateException("字段[" + field.getName() + "]缺少 @DictLabel 注解");
+        }
+        DictCache cache = dictCache;
+        if (cache == null) {
+            cache = SpringUtil.getBean(DictCache.class);
+            dictCache = cache;
+        }
+        return cache.getLookup(dictLabel.value().getValue());
+    }
+
+}
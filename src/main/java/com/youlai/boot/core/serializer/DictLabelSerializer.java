@@ -0,0 +1,55 @@
+package com.youlai.boot.core.serializer;
+
+import cn.hutool.extra.spring.SpringUtil;
+import com.youlai.boot.common.annotation.DictLabel;
+import com.youlai.boot.system.cache.DictCache;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.BeanProperty;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+
+/**
+ * 字典翻译序列化器
+ * <p>
+ * 将 {@link DictLabel} 标注字段的字典值序列化为字典标签，未匹配到标签时原样输出字典值
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+public class DictLabelSerializer extends ValueSerializer<Object> {
+
+    private final String dictCode;
+
+    private final DictCache dictCache;
+
+    public DictLabelSerializer() {
+        this(null, null);
+    }
+
+    public DictLabelSerializer(String dictCode, DictCache dictCache) {
+        this.dictCode = dictCode;
+        this.dictCache = dictCache;
+    }
+
+    /**
+     * 按字段创建序列化器（每个字段只执行一次），字典缓存在此时获取，序列化时不再查找 Bean
+     */
+    @Override
+    public ValueSerializer<?> createContextual(SerializationContext ctxt, BeanProperty property) {
+        DictLabel dictLabel = property != null ? property.getAnnotation(DictLabel.class) : null;
+        if (dictLabel == null) {
+            return this;
+        }
+        return new DictLabelSerializer(dictLabel.value().getValue(),
+                dictCache != null ? dictCache : SpringUtil.getBean(DictCache.class));
+    }
+
+    @Override
+    public void serialize(Object value, JsonGenerator gen, SerializationContext ctxt) throws JacksonException {
+        String code = String.valueOf(value);
+        String label = dictCode != null ? dictCache.getLookup(dictCode).getLabel(code) : null;
+        gen.writeString(label != null ? label : code);
+    }
+
+}
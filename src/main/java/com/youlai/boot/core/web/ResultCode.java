@@ -38,8 +38,10 @@ import java.io.Serializable;
  * | A0400 | 用户请求参数错误     | 二级宏观错误码   |
  * | A0410 | 请求必填参数为空     | 二级宏观错误码   |
  * | A0500 | 用户请求服务异常     | 二级宏观错误码   |
+ * | A0501 | 请求次数超出限制     | 二级宏观错误码   |
  * | A0502 | 请求并发数超出限制   | 二级宏观错误码   |
  * | A0506 | 请勿重复提交         | 二级宏观错误码   |
+ * | A0507 | 幂等键已用于参数不同的请求 | 二级宏观错误码   |
  * | B0001 | 系统执行出错         | 一级宏观错误码   |
  * | B0100 | 系统执行超时         | 二级宏观错误码   |
  * | C0001 | 调用第三方服务出错   | 一级宏观错误码   |
@@ -92,8 +94,10 @@ public enum ResultCode implements IResultCode, Serializable {
 
     /** A05xx：用户请求服务异常 */
     USER_REQUEST_SERVICE_EXCEPTION("A0500", "用户请求服务异常"),
+    REQUEST_RATE_LIMIT_EXCEEDED("A0501", "请求次数超出限制"),
     REQUEST_CONCURRENCY_LIMIT_EXCEEDED("A0502", "请求并发数超出限制"),
     DUPLICATE_SUBMISSION("A0506", "请勿重复提交"),
+    IDEMPOTENCY_KEY_REUSED("A0507", "幂等键已用于参数不同的请求"),
 
     /** A07xx：文件处理异常 */
     UPLOAD_FILE_EXCEPTION("A0700", "上传文件异常"),
@@ -112,6 +112,8 @@ public final class WebResponseWriter {
             case ACCESS_UNAUTHORIZED,
                     ACCESS_TOKEN_INVALID,
                     REFRESH_TOKEN_INVALID -> HttpStatus.UNAUTHORIZED.value();
+            case REQUEST_RATE_LIMIT_EXCEEDED,
+                    REQUEST_CONCURRENCY_LIMIT_EXCEEDED -> HttpStatus.TOO_MANY_REQUESTS.value();
             default -> HttpStatus.BAD_REQUEST.value();
         };
     }
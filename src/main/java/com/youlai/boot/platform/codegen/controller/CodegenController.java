@@ -11,6 +11,8 @@ import com.youlai.boot.platform.codegen.model.query.TableQuery;
 import com.youlai.boot.platform.codegen.model.vo.CodegenPreviewVO;
 import com.youlai.boot.platform.codegen.model.vo.TablePageVO;
 import com.youlai.boot.common.annotation.Log;
+import com.youlai.boot.common.annotation.RateLimit;
+import com.youlai.boot.common.enums.RateLimitKeyTypeEnum;
 import com.youlai.boot.platform.codegen.service.GenTableService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -92,6 +94,7 @@ public class CodegenController {
     @Operation(summary = "下载代码")
     @GetMapping("/{tableName}/download")
     @Log(value = "下载代码", module = LogModuleEnum.OTHER)
+    @RateLimit(name = "codegen-download", keyType = RateLimitKeyTypeEnum.USER, limit = 10, window = 60)
     public void downloadZip(HttpServletResponse response, @PathVariable String tableName,
                             @RequestParam(value = "pageType", required = false, defaultValue = "classic") String pageType,
                             @RequestParam(value = "type", required = false, defaultValue = "ts") String type) {
@@ -0,0 +1,51 @@
+package com.youlai.boot.platform.export.controller;
+
+import com.youlai.boot.core.web.Result;
+import com.youlai.boot.platform.export.model.vo.ExportJobVO;
+import com.youlai.boot.platform.export.service.ExportJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+/**
+ * 导出任务控制层
+ * <p>
+ * 各业务模块提交导出任务（如 POST /api/v1/users/export-jobs），本控制层统一提供进度查询和文件下载，
+ * 仅任务提交人可访问。
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+@Tag(name = "13.导出任务接口")
+@RestController
+@RequestMapping("/api/v1/export-jobs")
+@RequiredArgsConstructor
+public class ExportJobController {
+
+    private final ExportJobService exportJobService;
+
+    @Operation(summary = "获取导出任务进度")
+    @GetMapping("/{jobId}")
+    public Result<ExportJobVO> getJob(
+            @Parameter(description = "任务ID") @PathVariable String jobId
+    ) {
+        return Result.success(exportJobService.getJob(jobId));
+    }
+
+    @Operation(summary = "下载导出文件")
+    @GetMapping("/{jobId}/download")
+    public void download(
+            @Parameter(description = "任务ID") @PathVariable String jobId,
+            HttpServletResponse response
+    ) throws IOException {
+        exportJobService.download(jobId, response);
+    }
+}
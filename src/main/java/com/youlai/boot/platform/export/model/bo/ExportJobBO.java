@@ -0,0 +1,21 @@
+package com.youlai.boot.platform.export.model.bo;
+
+import com.youlai.boot.platform.job.model.bo.BackgroundJobBO;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * 导出任务（存储于 Redis），产出文件为导出文件
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class ExportJobBO extends BackgroundJobBO {
+
+    /**
+     * 已写入行数
+     */
+    private long writtenRows;
+}
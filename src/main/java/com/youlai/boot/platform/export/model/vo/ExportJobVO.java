@@ -0,0 +1,51 @@
+package com.youlai.boot.platform.export.model.vo;
+
+import com.youlai.boot.platform.job.enums.JobStatusEnum;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 导出任务视图对象
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+@Schema(description = "导出任务")
+@Data
+public class ExportJobVO {
+
+    @Schema(description = "任务ID")
+    private String jobId;
+
+    @Schema(description = "导出文件名")
+    private String fileName;
+
+    @Schema(description = "任务状态")
+    private JobStatusEnum status;
+
+    @Schema(description = "预计导出行数，未知时为空")
+    private Long totalRows;
+
+    @Schema(description = "已写入行数")
+    private Long writtenRows;
+
+    @Schema(description = "进度百分比（0-100），总行数未知时为空")
+    private Integer percent;
+
+    @Schema(description = "预计剩余秒数，无法估算时为空")
+    private Long etaSeconds;
+
+    @Schema(description = "失败原因")
+    private String errorMessage;
+
+    @Schema(description = "创建时间")
+    private LocalDateTime createTime;
+
+    @Schema(description = "完成时间")
+    private LocalDateTime finishTime;
+
+    @Schema(description = "文件过期时间")
+    private LocalDateTime expireTime;
+}
@@ -0,0 +1,49 @@
+package com.youlai.boot.platform.export.service;
+
+import com.youlai.boot.platform.export.model.vo.ExportJobVO;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+
+/**
+ * 后台导出任务服务
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+public interface ExportJobService {
+
+    /**
+     * 提交导出任务，由导出线程池生成文件并上传到文件存储
+     *
+     * @param fileName  导出文件名（如 用户列表.xlsx）
+     * @param head      Excel 行类型
+     * @param totalRows 预计导出行数，用于进度与剩余时间估算，未知时传 null
+     * @param task      数据生成逻辑，在导出线程中以提交人的身份执行（数据权限照常生效）
+     * @return 导出任务
+     */
+    <T> ExportJobVO submit(String fileName, Class<T> head, Long totalRows, ExportTask<T> task);
+
+    /**
+     * 获取当前用户的导出任务
+     *
+     * @param jobId 任务ID
+     * @return 导出任务
+     */
+    ExportJobVO getJob(String jobId);
+
+    /**
+     * 下载已完成的导出文件
+     *
+     * @param jobId    任务ID
+     * @param response 响应
+     */
+    void download(String jobId, HttpServletResponse response) throws IOException;
+
+    /**
+     * 删除已过期的导出文件和任务记录
+     *
+     * @return 删除的文件数
+     */
+    int cleanExpired();
+}
@@ -0,0 +1,23 @@
+package com.youlai.boot.platform.export.service;
+
+import com.youlai.boot.common.util.ExcelChunkWriter;
+
+/**
+ * 导出任务的数据生成逻辑
+ * <p>
+ * 在导出工作线程中执行，把数据逐行写入 writer（通常直接作为 MyBatis 流式查询的 ResultHandler）。
+ *
+ * @param <T> Excel 行类型
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+@FunctionalInterface
+public interface ExportTask<T> {
+
+    /**
+     * 写入导出数据
+     *
+     * @param writer Excel 分块写入器
+     */
+    void export(ExcelChunkWriter<T> writer);
+}
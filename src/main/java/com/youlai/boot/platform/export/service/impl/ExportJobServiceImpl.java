@@ -0,0 +1,124 @@
+package com.youlai.boot.platform.export.service.impl;
+
+import cn.hutool.core.io.FileUtil;
+import com.youlai.boot.common.constant.RedisConstants;
+import com.youlai.boot.common.util.ExcelChunkWriter;
+import com.youlai.boot.config.property.ExportProperties;
+import com.youlai.boot.core.exception.BusinessException;
+import com.youlai.boot.platform.export.model.bo.ExportJobBO;
+import com.youlai.boot.platform.export.model.vo.ExportJobVO;
+import com.youlai.boot.platform.export.service.ExportJobService;
+import com.youlai.boot.platform.export.service.ExportTask;
+import com.youlai.boot.platform.file.service.FileService;
+import com.youlai.boot.platform.job.enums.JobStatusEnum;
+import com.youlai.boot.platform.job.service.BackgroundJobSupport;
+import com.youlai.boot.platform.websocket.publisher.WebSocketPublisher;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+
+/**
+ * 后台导出任务服务实现
+ * <p>
+ * 导出不再占用请求线程：提交后立即返回任务ID，由 {@link BackgroundJobSupport} 的有界线程池生成文件、上传到文件存储，
+ * 导出线程沿用提交人的安全上下文，数据权限与同步导出一致。
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+@Service
+@RequiredArgsConstructor
+public class ExportJobServiceImpl implements ExportJobService {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private final FileService fileService;
+
+    private final WebSocketPublisher webSocketPublisher;
+
+    private final ExportProperties properties;
+
+    private BackgroundJobSupport<ExportJobBO> jobSupport;
+
+    @PostConstruct
+    public void start() {
+        jobSupport = new BackgroundJobSupport<>("export", "导出", RedisConstants.Export.JOB, RedisConstants.Export.ARTIFACTS,
+                properties, redisTemplate, fileService, webSocketPublisher, this::toVO, ExportJobBO::getFileName);
+        jobSupport.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        jobSupport.stop();
+    }
+
+    @Override
+    public <T> ExportJobVO submit(String fileName, Class<T> head, Long totalRows, ExportTask<T> task) {
+        ExportJobBO job = jobSupport.init(new ExportJobBO(), fileName);
+        job.setTotalRows(totalRows);
+        jobSupport.submit(job, "." + FileUtil.getSuffix(fileName), (runningJob, artifactFile) -> {
+            BackgroundJobSupport.JobProgress progress = jobSupport.progress(runningJob);
+            try (OutputStream outputStream = Files.newOutputStream(artifactFile);
+                 ExcelChunkWriter<T> writer = new ExcelChunkWriter<>(outputStream, head, FileUtil.mainName(fileName))) {
+                writer.setProgressListener(rows -> {
+                    runningJob.setWrittenRows(rows);
+                    progress.report();
+                });
+                task.export(writer);
+                runningJob.setWrittenRows(writer.getRowCount());
+            }
+        });
+        return toVO(job);
+    }
+
+    @Override
+    public ExportJobVO getJob(String jobId) {
+        return toVO(jobSupport.getOwnedJob(jobId));
+    }
+
+    @Override
+    public void download(String jobId, HttpServletResponse response) throws IOException {
+        ExportJobBO job = jobSupport.getOwnedJob(jobId);
+        if (job.getStatus() != JobStatusEnum.SUCCESS || LocalDateTime.now().isAfter(job.getExpireTime())) {
+            throw new BusinessException("导出文件不存在或已过期");
+        }
+        response.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+        response.setHeader("Content-Disposition",
+                "attachment; filename=" + URLEncoder.encode(job.getFileName(), StandardCharsets.UTF_8));
+        try (InputStream inputStream = fileService.getFileStream(job.getArtifactPath())) {
+            inputStream.transferTo(response.getOutputStream());
+        }
+    }
+
+    @Override
+    public int cleanExpired() {
+        return jobSupport.cleanExpired();
+    }
+
+    private ExportJobVO toVO(ExportJobBO job) {
+        ExportJobVO vo = new ExportJobVO();
+        vo.setJobId(job.getJobId());
+        vo.setFileName(job.getFileName());
+        vo.setStatus(job.getStatus());
+        vo.setTotalRows(job.getTotalRows());
+        vo.setWrittenRows(job.getWrittenRows());
+        vo.setPercent(BackgroundJobSupport.percent(job, job.getWrittenRows()));
+        vo.setEtaSeconds(BackgroundJobSupport.etaSeconds(job, job.getWrittenRows()));
+        vo.setErrorMessage(job.getErrorMessage());
+        vo.setCreateTime(job.getCreateTime());
+        vo.setFinishTime(job.getFinishTime());
+        vo.setExpireTime(job.getExpireTime());
+        return vo;
+    }
+}
@@ -3,6 +3,9 @@ package com.youlai.boot.platform.file.service;
 import com.youlai.boot.platform.file.model.FileInfo;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.File;
+import java.io.InputStream;
+
 /**
  * 对象存储服务接口层
  *
@@ -18,6 +21,23 @@ public interface FileService {
      */
     FileInfo uploadFile(MultipartFile file);
 
+    /**
+     * 上传本地文件（后台任务生成的文件）
+     *
+     * @param file             本地文件
+     * @param originalFilename 原始文件名
+     * @return 文件信息
+     */
+    FileInfo uploadFile(File file, String originalFilename);
+
+    /**
+     * 读取文件内容
+     *
+     * @param filePath 文件完整URL（上传返回的 url）
+     * @return 文件输入流，由调用方关闭
+     */
+    InputStream getFileStream(String filePath);
+
     /**
      * 删除文件
      *
@@ -19,6 +19,7 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.File;
 import java.io.InputStream;
 import java.time.LocalDateTime;
 
@@ -89,12 +90,42 @@ public class AliyunFileService implements FileService {
         return fileInfo;
     }
 
+    @Override
+    public FileInfo uploadFile(File file, String originalFilename) {
+        String suffix = FileUtil.getSuffix(originalFilename);
+        String fileName = DateUtil.format(LocalDateTime.now(), "yyyyMMdd") + "/" + IdUtil.simpleUUID() + "." + suffix;
+        try {
+            ObjectMetadata metadata = new ObjectMetadata();
+            metadata.setContentType(FileUtil.getMimeType(originalFilename));
+            aliyunOssClient.putObject(new PutObjectRequest(bucketName, fileName, file, metadata));
+        } catch (Exception e) {
+            throw new RuntimeException("文件上传失败");
+        }
+        FileInfo fileInfo = new FileInfo();
+        fileInfo.setName(originalFilename);
+        fileInfo.setUrl(getFileHost() + "/" + fileName);
+        return fileInfo;
+    }
+
+    @Override
+    public InputStream getFileStream(String filePath) {
+        Assert.notBlank(filePath, "文件路径不能为空");
+        String fileName = filePath.substring(getFileHost().length() + 1);
+        return aliyunOssClient.getObject(bucketName, fileName).getObjectContent();
+    }
+
     @Override
     public boolean deleteFile(String filePath) {
         Assert.notBlank(filePath, "删除文件路径不能为空");
-        String fileHost = "https://" + bucketName + "." + endpoint; // 文件主机域名
-        String fileName = filePath.substring(fileHost.length() + 1); // +1 是/占一个字符，截断左闭右开
+        String fileName = filePath.substring(getFileHost().length() + 1); // +1 是/占一个字符，截断左闭右开
         aliyunOssClient.deleteObject(bucketName, fileName);
         return true;
     }
+
+    /**
+     * 文件主机域名
+     */
+    private String getFileHost() {
+        return "https://" + bucketName + "." + endpoint;
+    }
 }
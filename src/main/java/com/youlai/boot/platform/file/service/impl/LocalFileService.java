@@ -70,6 +70,45 @@ public class LocalFileService implements FileService {
     }
 
 
+    /**
+     * 上传本地文件
+     *
+     * @param file             本地文件
+     * @param originalFilename 原始文件名
+     * @return 文件信息
+     */
+    @Override
+    public FileInfo uploadFile(File file, String originalFilename) {
+        String suffix = FileUtil.getSuffix(originalFilename);
+        String fileName = IdUtil.simpleUUID() + "." + suffix;
+        String folder = DateUtil.format(LocalDateTime.now(), DatePattern.PURE_DATE_PATTERN);
+        String filePrefix = storagePath.endsWith(File.separator) ? storagePath : storagePath + File.separator;
+        try {
+            FileUtil.copy(file, FileUtil.file(filePrefix + folder + File.separator + fileName), true);
+        } catch (Exception e) {
+            log.error("文件上传失败", e);
+            throw new RuntimeException("文件上传失败");
+        }
+        FileInfo fileInfo = new FileInfo();
+        fileInfo.setName(originalFilename);
+        fileInfo.setUrl(File.separator + folder + File.separator + fileName);
+        return fileInfo;
+    }
+
+    /**
+     * 读取文件内容
+     *
+     * @param filePath 文件相对路径
+     * @return 文件输入流
+     */
+    @Override
+    public InputStream getFileStream(String filePath) {
+        if (filePath == null || filePath.isEmpty() || !FileUtil.isFile(storagePath + filePath)) {
+            throw new RuntimeException("文件不存在");
+        }
+        return FileUtil.getInputStream(storagePath + filePath);
+    }
+
     /**
      * 删除文件
      * @param filePath 文件完整URL
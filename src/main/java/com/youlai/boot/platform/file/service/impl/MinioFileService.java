@@ -21,6 +21,7 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.File;
 import java.io.InputStream;
 import java.time.LocalDateTime;
 
@@ -105,23 +106,7 @@ public class MinioFileService implements FileService {
                     .build();
             minioClient.putObject(putObjectArgs);
 
-            // 返回文件路径
-            String fileUrl;
-            // 未配置自定义域名
-            if (StrUtil.isBlank(customDomain)) {
-                // 获取文件URL
-                GetPresignedObjectUrlArgs getPresignedObjectUrlArgs = GetPresignedObjectUrlArgs.builder()
-                        .bucket(bucketName)
-                        .object(dateFolder + "/"+ fileName)
-                        .method(Method.GET)
-                        .build();
-
-                fileUrl = minioClient.getPresignedObjectUrl(getPresignedObjectUrlArgs);
-                fileUrl = fileUrl.substring(0, fileUrl.indexOf("?"));
-            } else {
-                // 配置自定义文件路径域名
-                fileUrl = customDomain + "/"+ bucketName + "/"+ dateFolder + "/"+ fileName;
-            }
+            String fileUrl = buildFileUrl(dateFolder + "/" + fileName);
 
             FileInfo fileInfo = new FileInfo();
             fileInfo.setName(originalFilename);
@@ -134,6 +119,61 @@ public class MinioFileService implements FileService {
     }
 
 
+    /**
+     * 上传本地文件
+     *
+     * @param file             本地文件
+     * @param originalFilename 原始文件名
+     * @return 文件信息
+     */
+    @Override
+    public FileInfo uploadFile(File file, String originalFilename) {
+        createBucketIfAbsent(bucketName);
+
+        String suffix = FileUtil.getSuffix(originalFilename);
+        String dateFolder = DateUtil.format(LocalDateTime.now(), "yyyyMMdd");
+        String objectName = dateFolder + "/" + IdUtil.simpleUUID() + "." + suffix;
+
+        try (InputStream inputStream = FileUtil.getInputStream(file)) {
+            PutObjectArgs putObjectArgs = PutObjectArgs.builder()
+                    .bucket(bucketName)
+                    .object(objectName)
+                    .contentType(StrUtil.blankToDefault(FileUtil.getMimeType(originalFilename), "application/octet-stream"))
+                    .stream(inputStream, file.length(), -1)
+                    .build();
+            minioClient.putObject(putObjectArgs);
+
+            FileInfo fileInfo = new FileInfo();
+            fileInfo.setName(originalFilename);
+            fileInfo.setUrl(buildFileUrl(objectName));
+            return fileInfo;
+        } catch (Exception e) {
+            log.error("上传文件失败", e);
+            throw new BusinessException(ResultCode.UPLOAD_FILE_EXCEPTION, e.getMessage());
+        }
+    }
+
+    /**
+     * 读取文件内容
+     *
+     * @param filePath 文件完整路径
+     * @return 文件输入流
+     */
+    @Override
+    public InputStream getFileStream(String filePath) {
+        Assert.notBlank(filePath, "文件路径不能为空");
+        try {
+            GetObjectArgs getObjectArgs = GetObjectArgs.builder()
+                    .bucket(bucketName)
+                    .object(resolveObjectName(filePath))
+                    .build();
+            return minioClient.getObject(getObjectArgs);
+        } catch (Exception e) {
+            log.error("读取文件失败", e);
+            throw new BusinessException(ResultCode.SYSTEM_ERROR, "读取文件失败");
+        }
+    }
+
     /**
      * 删除文件
      *
@@ -144,14 +184,7 @@ public class MinioFileService implements FileService {
     public boolean deleteFile(String filePath) {
         Assert.notBlank(filePath, "删除文件路径不能为空");
         try {
-            String fileName;
-            if (StrUtil.isNotBlank(customDomain)) {
-                // https://oss.youlai.tech/default/20221120/test.jpg → 20221120/websocket.jpg
-                fileName = filePath.substring(customDomain.length() + 1 + bucketName.length() + 1); // 两个/占了2个字符长度
-            } else {
-                // http://localhost:9000/default/20221120/test.jpg → 20221120/websocket.jpg
-                fileName = filePath.substring(endpoint.length() + 1 + bucketName.length() + 1);
-            }
+            String fileName = resolveObjectName(filePath);
             RemoveObjectArgs removeObjectArgs = RemoveObjectArgs.builder()
                     .bucket(bucketName)
                     .object(fileName)
@@ -166,6 +199,45 @@ public class MinioFileService implements FileService {
     }
 
 
+    /**
+     * 根据对象名称生成访问URL
+     *
+     * @param objectName 对象名称（日期文件夹/文件名）
+     * @return 文件URL
+     */
+    @SneakyThrows
+    private String buildFileUrl(String objectName) {
+        // 未配置自定义域名
+        if (StrUtil.isBlank(customDomain)) {
+            // 获取文件URL
+            GetPresignedObjectUrlArgs getPresignedObjectUrlArgs = GetPresignedObjectUrlArgs.builder()
+                    .bucket(bucketName)
+                    .object(objectName)
+                    .method(Method.GET)
+                    .build();
+
+            String fileUrl = minioClient.getPresignedObjectUrl(getPresignedObjectUrlArgs);
+            return fileUrl.substring(0, fileUrl.indexOf("?"));
+        }
+        // 配置自定义文件路径域名
+        return customDomain + "/" + bucketName + "/" + objectName;
+    }
+
+    /**
+     * 从文件URL中解析对象名称
+     *
+     * @param filePath 文件完整路径
+     * @return 对象名称
+     */
+    private String resolveObjectName(String filePath) {
+        if (StrUtil.isNotBlank(customDomain)) {
+            // https://oss.youlai.tech/default/20221120/test.jpg → 20221120/websocket.jpg
+            return filePath.substring(customDomain.length() + 1 + bucketName.length() + 1); // 两个/占了2个字符长度
+        }
+        // http://localhost:9000/default/20221120/test.jpg → 20221120/websocket.jpg
+        return filePath.substring(endpoint.length() + 1 + bucketName.length() + 1);
+    }
+
     /**
      * PUBLIC桶策略
      * 如果不配置，则新建的存储桶默认是PRIVATE，则存储桶文件会拒绝访问 Access Denied
@@ -0,0 +1,51 @@
+package com.youlai.boot.platform.importer.controller;
+
+import com.youlai.boot.core.web.Result;
+import com.youlai.boot.platform.importer.model.vo.ImportJobVO;
+import com.youlai.boot.platform.importer.service.ImportJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+/**
+ * 导入任务控制层
+ * <p>
+ * 各业务模块提交导入任务（如 POST /api/v1/users/import-jobs），本控制层统一提供进度查询和错误报告下载，
+ * 仅任务提交人可访问。
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+@Tag(name = "14.导入任务接口")
+@RestController
+@RequestMapping("/api/v1/import-jobs")
+@RequiredArgsConstructor
+public class ImportJobController {
+
+    private final ImportJobService importJobService;
+
+    @Operation(summary = "获取导入任务进度")
+    @GetMapping("/{jobId}")
+    public Result<ImportJobVO> getJob(
+            @Parameter(description = "任务ID") @PathVariable String jobId
+    ) {
+        return Result.success(importJobService.getJob(jobId));
+    }
+
+    @Operation(summary = "下载导入错误报告")
+    @GetMapping("/{jobId}/errors")
+    public void downloadErrors(
+            @Parameter(description = "任务ID") @PathVariable String jobId,
+            HttpServletResponse response
+    ) throws IOException {
+        importJobService.downloadErrors(jobId, response);
+    }
+}
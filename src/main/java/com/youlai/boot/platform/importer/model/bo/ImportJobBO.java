@@ -0,0 +1,34 @@
+package com.youlai.boot.platform.importer.model.bo;
+
+import com.youlai.boot.platform.job.model.bo.BackgroundJobBO;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 导入任务（存储于 Redis），产出文件为错误报告
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class ImportJobBO extends BackgroundJobBO {
+
+    /**
+     * 导入成功行数
+     */
+    private long validCount;
+
+    /**
+     * 导入失败行数
+     */
+    private long invalidCount;
+
+    /**
+     * 前若干条错误信息，完整的失败行见错误报告
+     */
+    private List<String> messages = new ArrayList<>();
+}
@@ -0,0 +1,64 @@
+package com.youlai.boot.platform.importer.model.vo;
+
+import com.youlai.boot.platform.job.enums.JobStatusEnum;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 导入任务视图对象
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+@Schema(description = "导入任务")
+@Data
+public class ImportJobVO {
+
+    @Schema(description = "任务ID")
+    private String jobId;
+
+    @Schema(description = "上传的文件名")
+    private String fileName;
+
+    @Schema(description = "任务状态")
+    private JobStatusEnum status;
+
+    @Schema(description = "预计数据行数，未知时为空")
+    private Long totalRows;
+
+    @Schema(description = "已处理行数")
+    private Long processedRows;
+
+    @Schema(description = "导入成功行数")
+    private Long validCount;
+
+    @Schema(description = "导入失败行数")
+    private Long invalidCount;
+
+    @Schema(description = "进度百分比（0-100），总行数未知时为空")
+    private Integer percent;
+
+    @Schema(description = "预计剩余秒数，无法估算时为空")
+    private Long etaSeconds;
+
+    @Schema(description = "前若干条错误信息，完整的失败行请下载错误报告")
+    private List<String> messages;
+
+    @Schema(description = "是否有错误报告可下载")
+    private Boolean hasErrorFile;
+
+    @Schema(description = "任务失败原因")
+    private String errorMessage;
+
+    @Schema(description = "创建时间")
+    private LocalDateTime createTime;
+
+    @Schema(description = "完成时间")
+    private LocalDateTime finishTime;
+
+    @Schema(description = "错误报告过期时间")
+    private LocalDateTime expireTime;
+}
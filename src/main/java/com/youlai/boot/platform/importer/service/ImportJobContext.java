@@ -0,0 +1,33 @@
+package com.youlai.boot.platform.importer.service;
+
+/**
+ * 导入任务上下文，由导入逻辑上报进度与失败行
+ *
+ * @param <E> 错误报告行类型
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+public interface ImportJobContext<E> {
+
+    /**
+     * 设置预计数据行数（用于进度与剩余时间估算）
+     *
+     * @param totalRows 预计数据行数
+     */
+    void setTotalRows(long totalRows);
+
+    /**
+     * 上报成功写入的行数
+     *
+     * @param count 行数
+     */
+    void success(int count);
+
+    /**
+     * 上报失败行，写入错误报告
+     *
+     * @param message  错误信息（如 第3行数据校验失败：用户名为空；）
+     * @param errorRow 错误报告中的一行（原始数据 + 失败原因）
+     */
+    void fail(String message, E errorRow);
+}
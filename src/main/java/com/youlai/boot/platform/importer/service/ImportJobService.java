@@ -0,0 +1,49 @@
+package com.youlai.boot.platform.importer.service;
+
+import com.youlai.boot.platform.importer.model.vo.ImportJobVO;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+
+/**
+ * 后台导入任务服务
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+public interface ImportJobService {
+
+    /**
+     * 提交导入任务：上传文件落盘后由导入线程池解析写入
+     *
+     * @param file       上传的文件
+     * @param errorHead  错误报告行类型
+     * @param task       解析写入逻辑，在导入线程中以提交人的身份执行
+     * @return 导入任务
+     */
+    <E> ImportJobVO submit(MultipartFile file, Class<E> errorHead, ImportTask<E> task) throws IOException;
+
+    /**
+     * 获取当前用户的导入任务
+     *
+     * @param jobId 任务ID
+     * @return 导入任务
+     */
+    ImportJobVO getJob(String jobId);
+
+    /**
+     * 下载错误报告（失败行及原因）
+     *
+     * @param jobId    任务ID
+     * @param response 响应
+     */
+    void downloadErrors(String jobId, HttpServletResponse response) throws IOException;
+
+    /**
+     * 删除已过期的错误报告和任务记录
+     *
+     * @return 删除的文件数
+     */
+    int cleanExpired();
+}
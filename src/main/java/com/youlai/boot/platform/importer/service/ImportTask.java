@@ -0,0 +1,24 @@
+package com.youlai.boot.platform.importer.service;
+
+import java.io.File;
+
+/**
+ * 导入任务的解析写入逻辑
+ * <p>
+ * 在导入工作线程中执行，从已落盘的上传文件流式解析，并通过 context 上报进度与失败行。
+ *
+ * @param <E> 错误报告行类型
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+@FunctionalInterface
+public interface ImportTask<E> {
+
+    /**
+     * 解析并写入
+     *
+     * @param file    已落盘的上传文件
+     * @param context 导入任务上下文
+     */
+    void run(File file, ImportJobContext<E> context) throws Exception;
+}
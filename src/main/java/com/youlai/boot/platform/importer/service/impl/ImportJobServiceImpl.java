@@ -0,0 +1,226 @@
+package com.youlai.boot.platform.importer.service.impl;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.util.StrUtil;
+import com.youlai.boot.common.constant.RedisConstants;
+import com.youlai.boot.common.util.ExcelChunkWriter;
+import com.youlai.boot.config.property.ImportProperties;
+import com.youlai.boot.core.exception.BusinessException;
+import com.youlai.boot.platform.file.service.FileService;
+import com.youlai.boot.platform.importer.model.bo.ImportJobBO;
+import com.youlai.boot.platform.importer.model.vo.ImportJobVO;
+import com.youlai.boot.platform.importer.service.ImportJobContext;
+import com.youlai.boot.platform.importer.service.ImportJobService;
+import com.youlai.boot.platform.importer.service.ImportTask;
+import com.youlai.boot.platform.job.service.BackgroundJobSupport;
+import com.youlai.boot.platform.websocket.publisher.WebSocketPublisher;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+/**
+ * 后台导入任务服务实现
+ * <p>
+ * 导入不再占用请求线程：请求内只把上传文件落盘（Servlet 已缓存到磁盘的分片直接转存，不读入堆内存），
+ * 随后由 {@link BackgroundJobSupport} 的有界线程池流式解析写入：
+ * <ul>
+ *   <li>前若干条错误信息随任务状态保存在 Redis，并随进度推送给提交人</li>
+ *   <li>失败行逐块写入错误报告，作为任务产出文件上传，保留 artifactTtl 后由后台线程删除</li>
+ * </ul>
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImportJobServiceImpl implements ImportJobService {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private final FileService fileService;
+
+    private final WebSocketPublisher webSocketPublisher;
+
+    private final ImportProperties properties;
+
+    private BackgroundJobSupport<ImportJobBO> jobSupport;
+
+    @PostConstruct
+    public void start() {
+        jobSupport = new BackgroundJobSupport<>("import", "导入", RedisConstants.Import.JOB, RedisConstants.Import.ARTIFACTS,
+                properties, redisTemplate, fileService, webSocketPublisher, this::toVO, ImportJobServiceImpl::errorFileName);
+        jobSupport.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        jobSupport.stop();
+    }
+
+    @Override
+    public <E> ImportJobVO submit(MultipartFile file, Class<E> errorHead, ImportTask<E> task) throws IOException {
+        ImportJobBO job = jobSupport.init(new ImportJobBO(), StrUtil.blankToDefault(file.getOriginalFilename(), "import.xlsx"));
+
+        // 上传文件落盘，请求结束后由导入线程读取
+        Path spoolFile = jobSupport.tempFile(job.getJobId(),
+                "." + StrUtil.blankToDefault(FileUtil.getSuffix(job.getFileName()), "xlsx"));
+        Files.createDirectories(spoolFile.getParent());
+        file.transferTo(spoolFile);
+
+        try {
+            jobSupport.submit(job, "-errors.xlsx", (runningJob, errorFile) -> {
+                JobContext<E> jobContext = new JobContext<>(runningJob, errorHead, errorFile, jobSupport.progress(runningJob));
+                try {
+                    task.run(spoolFile.toFile(), jobContext);
+                } finally {
+                    jobContext.closeErrorWriter();
+                    FileUtil.del(spoolFile.toFile());
+                }
+                log.info("导入解析完成：jobId={}, 成功 {} 条，失败 {} 条",
+                        runningJob.getJobId(), runningJob.getValidCount(), runningJob.getInvalidCount());
+            });
+        } catch (BusinessException e) {
+            FileUtil.del(spoolFile.toFile());
+            throw e;
+        }
+        return toVO(job);
+    }
+
+    @Override
+    public ImportJobVO getJob(String jobId) {
+        return toVO(jobSupport.getOwnedJob(jobId));
+    }
+
+    @Override
+    public void downloadErrors(String jobId, HttpServletResponse response) throws IOException {
+        ImportJobBO job = jobSupport.getOwnedJob(jobId);
+        if (StrUtil.isBlank(job.getArtifactPath()) || LocalDateTime.now().isAfter(job.getExpireTime())) {
+            throw new BusinessException("错误报告不存在或已过期");
+        }
+        response.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+        response.setHeader("Content-Disposition",
+                "attachment; filename=" + URLEncoder.encode(errorFileName(job), StandardCharsets.UTF_8));
+        try (InputStream inputStream = fileService.getFileStream(job.getArtifactPath())) {
+            inputStream.transferTo(response.getOutputStream());
+        }
+    }
+
+    @Override
+    public int cleanExpired() {
+        return jobSupport.cleanExpired();
+    }
+
+    private ImportJobVO toVO(ImportJobBO job) {
+        long processed = job.getValidCount() + job.getInvalidCount();
+        ImportJobVO vo = new ImportJobVO();
+        vo.setJobId(job.getJobId());
+        vo.setFileName(job.getFileName());
+        vo.setStatus(job.getStatus());
+        vo.setTotalRows(job.getTotalRows());
+        vo.setProcessedRows(processed);
+        vo.setValidCount(job.getValidCount());
+        vo.setInvalidCount(job.getInvalidCount());
+        vo.setPercent(BackgroundJobSupport.percent(job, processed));
+        vo.setEtaSeconds(BackgroundJobSupport.etaSeconds(job, processed));
+        vo.setMessages(job.getMessages());
+        vo.setHasErrorFile(StrUtil.isNotBlank(job.getArtifactPath()));
+        vo.setErrorMessage(job.getErrorMessage());
+        vo.setCreateTime(job.getCreateTime());
+        vo.setFinishTime(job.getFinishTime());
+        vo.setExpireTime(job.getExpireTime());
+        return vo;
+    }
+
+    private static String errorFileName(ImportJobBO job) {
+        return FileUtil.mainName(job.getFileName()) + "-错误报告.xlsx";
+    }
+
+    /**
+     * 导入任务上下文实现：累计成功/失败数，失败行按需写入错误报告，并节流上报进度
+     */
+    private class JobContext<E> implements ImportJobContext<E> {
+
+        private final ImportJobBO job;
+
+        private final Class<E> errorHead;
+
+        private final Path errorFile;
+
+        private final BackgroundJobSupport.JobProgress progress;
+
+        private OutputStream errorOutputStream;
+
+        private ExcelChunkWriter<E> errorWriter;
+
+        JobContext(ImportJobBO job, Class<E> errorHead, Path errorFile, BackgroundJobSupport.JobProgress progress) {
+            this.job = job;
+            this.errorHead = errorHead;
+            this.errorFile = errorFile;
+            this.progress = progress;
+        }
+
+        @Override
+        public void setTotalRows(long totalRows) {
+            job.setTotalRows(totalRows);
+        }
+
+        @Override
+        public void success(int count) {
+            job.setValidCount(job.getValidCount() + count);
+            progress.report();
+        }
+
+        @Override
+        public void fail(String message, E errorRow) {
+            job.setInvalidCount(job.getInvalidCount() + 1);
+            if (job.getMessages().size() < properties.getMaxMessages()) {
+                job.getMessages().add(message);
+            }
+            if (errorRow != null) {
+                errorWriter().write(errorRow);
+            }
+            progress.report();
+        }
+
+        void closeErrorWriter() throws IOException {
+            if (errorWriter == null) {
+                return;
+            }
+            try {
+                errorWriter.close();
+            } finally {
+                errorOutputStream.close();
+            }
+        }
+
+        /**
+         * 首个失败行出现时才创建错误报告，全部成功时不产生产出文件
+         */
+        private ExcelChunkWriter<E> errorWriter() {
+            if (errorWriter == null) {
+                try {
+                    errorOutputStream = Files.newOutputStream(errorFile);
+                    errorWriter = new ExcelChunkWriter<>(errorOutputStream, errorHead, "错误报告");
+                } catch (IOException e) {
+                    throw new IllegalStateException("创建错误报告失败", e);
+                }
+            }
+            return errorWriter;
+        }
+    }
+}
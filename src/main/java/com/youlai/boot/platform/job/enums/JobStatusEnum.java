@@ -0,0 +1,30 @@
+package com.youlai.boot.platform.job.enums;
+
+import com.youlai.boot.common.base.IBaseEnum;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+/**
+ * 后台任务（导入、导出）状态枚举
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+@Getter
+@Schema(enumAsRef = true)
+public enum JobStatusEnum implements IBaseEnum<Integer> {
+
+    PENDING(0, "排队中"),
+    RUNNING(1, "执行中"),
+    SUCCESS(2, "已完成"),
+    FAILED(3, "失败");
+
+    private final Integer value;
+
+    private final String label;
+
+    JobStatusEnum(Integer value, String label) {
+        this.value = value;
+        this.label = label;
+    }
+}
@@ -0,0 +1,62 @@
+package com.youlai.boot.platform.job.model.bo;
+
+import com.youlai.boot.platform.job.enums.JobStatusEnum;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 后台任务公共状态（存储于 Redis）
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+@Data
+public class BackgroundJobBO {
+
+    /**
+     * 任务ID
+     */
+    private String jobId;
+
+    /**
+     * 文件名（导出文件名或上传的文件名）
+     */
+    private String fileName;
+
+    /**
+     * 提交人用户名，仅提交人可查询和下载
+     */
+    private String username;
+
+    /**
+     * 任务状态
+     */
+    private JobStatusEnum status;
+
+    /**
+     * 预计总行数，未知时为空
+     */
+    private Long totalRows;
+
+    /**
+     * 任务产出文件的存储路径（文件服务返回的 url），没有产出文件时为空
+     */
+    private String artifactPath;
+
+    /**
+     * 任务失败原因
+     */
+    private String errorMessage;
+
+    private LocalDateTime createTime;
+
+    private LocalDateTime startTime;
+
+    private LocalDateTime finishTime;
+
+    /**
+     * 产出文件过期时间，过期后文件被删除
+     */
+    private LocalDateTime expireTime;
+}
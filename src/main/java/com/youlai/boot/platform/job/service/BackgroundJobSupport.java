@@ -0,0 +1,382 @@
+package com.youlai.boot.platform.job.service;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.util.IdUtil;
+import cn.hutool.core.util.StrUtil;
+import com.youlai.boot.config.property.BackgroundJobProperties;
+import com.youlai.boot.core.exception.BusinessException;
+import com.youlai.boot.core.web.ResultCode;
+import com.youlai.boot.platform.file.model.FileInfo;
+import com.youlai.boot.platform.file.service.FileService;
+import com.youlai.boot.platform.job.enums.JobStatusEnum;
+import com.youlai.boot.platform.job.model.bo.BackgroundJobBO;
+import com.youlai.boot.platform.websocket.publisher.WebSocketPublisher;
+import com.youlai.boot.platform.websocket.topic.WebSocketTopics;
+import com.youlai.boot.security.util.SecurityUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 后台任务（导入、导出）公共执行逻辑
+ * <p>
+ * 各任务服务只实现自身的生成或解析逻辑，其余由本类负责：
+ * <ul>
+ *   <li>有界线程池执行任务，队列满时拒绝提交；任务线程沿用提交人的安全上下文</li>
+ *   <li>任务状态保存在 Redis，多节点均可查询，仅提交人可访问；进度按 progressInterval 节流后推送到提交人的 /user/queue/messages</li>
+ *   <li>任务产出的文件上传到文件存储，保留 artifactTtl，过期索引为 ZSet，后台线程按 cleanupInterval 删除过期文件和任务记录</li>
+ * </ul>
+ *
+ * @param <J> 任务类型
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+@Slf4j
+public class BackgroundJobSupport<J extends BackgroundJobBO> {
+
+    /**
+     * 任务记录比产出文件多保留的时长，保证清理时仍能读到文件路径
+     */
+    private static final Duration RECORD_GRACE = Duration.ofHours(1);
+
+    /**
+     * 失败原因的最大长度
+     */
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final String name;
+
+    private final String label;
+
+    private final String jobKeyPattern;
+
+    private final String artifactsKey;
+
+    private final BackgroundJobProperties properties;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private final FileService fileService;
+
+    private final WebSocketPublisher webSocketPublisher;
+
+    private final Function<J, Object> voConverter;
+
+    private final Function<J, String> artifactNamer;
+
+    private ThreadPoolExecutor workerPool;
+
+    private ScheduledExecutorService cleaner;
+
+    /**
+     * @param name              任务类型名，用于线程名（如 export）
+     * @param label             任务类型中文名，用于提示信息（如 导出）
+     * @param jobKeyPattern     任务记录的 Redis 键模板，{} 为任务ID
+     * @param artifactsKey      产出文件过期索引的 Redis 键
+     * @param properties        任务配置
+     * @param redisTemplate     Redis
+     * @param fileService       文件存储
+     * @param webSocketPublisher 进度推送
+     * @param voConverter       推送给提交人的视图对象转换
+     * @param artifactNamer     产出文件上传后的文件名
+     */
+    public BackgroundJobSupport(String name, String label, String jobKeyPattern, String artifactsKey,
+                                BackgroundJobProperties properties, RedisTemplate<String, Object> redisTemplate,
+                                FileService fileService, WebSocketPublisher webSocketPublisher,
+                                Function<J, Object> voConverter, Function<J, String> artifactNamer) {
+        this.name = name;
+        this.label = label;
+        this.jobKeyPattern = jobKeyPattern;
+        this.artifactsKey = artifactsKey;
+        this.properties = properties;
+        this.redisTemplate = redisTemplate;
+        this.fileService = fileService;
+        this.webSocketPublisher = webSocketPublisher;
+        this.voConverter = voConverter;
+        this.artifactNamer = artifactNamer;
+    }
+
+    /**
+     * 创建线程池并启动过期文件清理
+     */
+    public void start() {
+        int threads = Math.max(1, properties.getWorkerThreads());
+        AtomicInteger threadIndex = new AtomicInteger();
+        workerPool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity())),
+                runnable -> {
+                    Thread thread = new Thread(runnable, name + "-worker-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        cleaner = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name + "-cleaner");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = Math.max(1, properties.getCleanupInterval().toMillis());
+        cleaner.scheduleWithFixedDelay(this::cleanQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        cleaner.shutdownNow();
+        workerPool.shutdownNow();
+    }
+
+    /**
+     * 初始化待提交的任务：生成任务ID，记录提交人并置为排队中
+     *
+     * @param job      任务
+     * @param fileName 文件名
+     * @return 任务
+     */
+    public J init(J job, String fileName) {
+        job.setJobId(IdUtil.simpleUUID());
+        job.setFileName(fileName);
+        job.setUsername(SecurityUtils.getUsername());
+        job.setStatus(JobStatusEnum.PENDING);
+        job.setCreateTime(LocalDateTime.now());
+        return job;
+    }
+
+    /**
+     * 保存任务并放入线程池，任务线程以提交人身份执行
+     * <p>
+     * 任务逻辑执行完成后，产出文件存在则上传，无论成败都会删除本地产出文件
+     *
+     * @param job            已初始化的任务
+     * @param artifactSuffix 本地产出文件的后缀
+     * @param body           任务逻辑
+     * @throws BusinessException 排队已满
+     */
+    public void submit(J job, String artifactSuffix, JobBody<J> body) {
+        // 复制安全上下文，请求结束后任务线程仍以提交人身份执行
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(SecurityContextHolder.getContext().getAuthentication());
+        save(job);
+        try {
+            workerPool.execute(() -> run(job, tempFile(job.getJobId(), artifactSuffix), body, context));
+        } catch (RejectedExecutionException e) {
+            redisTemplate.delete(jobKey(job.getJobId()));
+            throw new BusinessException(ResultCode.REQUEST_CONCURRENCY_LIMIT_EXCEEDED, label + "任务排队已满，请稍后重试");
+        }
+    }
+
+    /**
+     * 获取提交人自己的任务
+     *
+     * @param jobId 任务ID
+     * @return 任务
+     * @throws BusinessException 任务不存在、已过期或不属于当前用户
+     */
+    @SuppressWarnings("unchecked")
+    public J getOwnedJob(String jobId) {
+        J job = (J) redisTemplate.opsForValue().get(jobKey(jobId));
+        if (job == null || !StrUtil.equals(job.getUsername(), SecurityUtils.getUsername())) {
+            throw new BusinessException(label + "任务不存在或已过期");
+        }
+        return job;
+    }
+
+    /**
+     * 删除已过期的产出文件与任务记录
+     *
+     * @return 删除的文件数
+     */
+    @SuppressWarnings("unchecked")
+    public int cleanExpired() {
+        long now = System.currentTimeMillis();
+        Set<Object> jobIds = redisTemplate.opsForZSet().rangeByScore(artifactsKey, 0, now);
+        if (jobIds == null || jobIds.isEmpty()) {
+            return 0;
+        }
+        int cleaned = 0;
+        for (Object jobId : jobIds) {
+            J job = (J) redisTemplate.opsForValue().get(jobKey(jobId));
+            if (job != null && StrUtil.isNotBlank(job.getArtifactPath())) {
+                try {
+                    fileService.deleteFile(job.getArtifactPath());
+                    cleaned++;
+                } catch (Exception e) {
+                    // 保留过期索引，下次清理重试
+                    log.warn("删除过期{}文件失败：jobId={}, {}", label, jobId, e.getMessage());
+                    continue;
+                }
+            }
+            redisTemplate.delete(jobKey(jobId));
+            redisTemplate.opsForZSet().remove(artifactsKey, jobId);
+        }
+        return cleaned;
+    }
+
+    /**
+     * 创建任务进度上报器，每次调用 {@link JobProgress#report()} 按 progressInterval 节流后保存并推送
+     *
+     * @param job 任务
+     * @return 进度上报器
+     */
+    public JobProgress progress(J job) {
+        long intervalMillis = properties.getProgressInterval().toMillis();
+        long[] lastReportTime = {System.currentTimeMillis()};
+        return () -> {
+            long now = System.currentTimeMillis();
+            if (now - lastReportTime[0] >= intervalMillis) {
+                lastReportTime[0] = now;
+                saveAndPublish(job);
+            }
+        };
+    }
+
+    /**
+     * 获取任务的临时文件路径
+     *
+     * @param jobId  任务ID
+     * @param suffix 文件名后缀
+     * @return 临时文件路径
+     */
+    public Path tempFile(String jobId, String suffix) {
+        return Path.of(properties.getTempDir(), jobId + suffix);
+    }
+
+    /**
+     * 计算进度百分比，已完成为 100，未完成最多 99，总行数未知时为空
+     *
+     * @param job       任务
+     * @param processed 已处理行数
+     */
+    public static Integer percent(BackgroundJobBO job, long processed) {
+        if (job.getStatus() == JobStatusEnum.SUCCESS) {
+            return 100;
+        }
+        Long total = job.getTotalRows();
+        return total != null && total > 0 ? (int) Math.min(99, processed * 100 / total) : null;
+    }
+
+    /**
+     * 按已用时长估算剩余秒数，已完成为 0，无法估算时为空
+     *
+     * @param job       任务
+     * @param processed 已处理行数
+     */
+    public static Long etaSeconds(BackgroundJobBO job, long processed) {
+        if (job.getStatus() == JobStatusEnum.SUCCESS) {
+            return 0L;
+        }
+        Long total = job.getTotalRows();
+        if (job.getStatus() != JobStatusEnum.RUNNING || total == null || total <= 0
+                || processed <= 0 || job.getStartTime() == null) {
+            return null;
+        }
+        long elapsedMillis = Duration.between(job.getStartTime(), LocalDateTime.now()).toMillis();
+        return Math.max(0, total - processed) * elapsedMillis / processed / 1000;
+    }
+
+    /**
+     * 在任务线程中执行，完成后上传产出文件
+     */
+    private void run(J job, Path artifactFile, JobBody<J> body, SecurityContext context) {
+        SecurityContextHolder.setContext(context);
+        try {
+            job.setStatus(JobStatusEnum.RUNNING);
+            job.setStartTime(LocalDateTime.now());
+            saveAndPublish(job);
+
+            Files.createDirectories(artifactFile.getParent());
+            body.execute(job, artifactFile);
+
+            LocalDateTime now = LocalDateTime.now();
+            job.setFinishTime(now);
+            job.setExpireTime(now.plus(properties.getArtifactTtl()));
+            if (Files.exists(artifactFile)) {
+                FileInfo fileInfo = fileService.uploadFile(artifactFile.toFile(), artifactNamer.apply(job));
+                job.setArtifactPath(fileInfo.getUrl());
+                redisTemplate.opsForZSet().add(artifactsKey, job.getJobId(),
+                        job.getExpireTime().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+            }
+            job.setStatus(JobStatusEnum.SUCCESS);
+            saveAndPublish(job);
+            log.info("{}任务完成：jobId={}, fileName={}", label, job.getJobId(), job.getFileName());
+        } catch (Exception e) {
+            log.error("{}任务失败：jobId={}, fileName={}", label, job.getJobId(), job.getFileName(), e);
+            job.setStatus(JobStatusEnum.FAILED);
+            job.setErrorMessage(StrUtil.maxLength(StrUtil.blankToDefault(e.getMessage(), e.getClass().getSimpleName()), MAX_ERROR_LENGTH));
+            job.setFinishTime(LocalDateTime.now());
+            saveAndPublish(job);
+        } finally {
+            FileUtil.del(artifactFile.toFile());
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private void save(J job) {
+        Duration ttl = properties.getArtifactTtl().plus(RECORD_GRACE);
+        redisTemplate.opsForValue().set(jobKey(job.getJobId()), job, ttl);
+    }
+
+    private void saveAndPublish(J job) {
+        save(job);
+        if (job.getUsername() != null) {
+            webSocketPublisher.publishToUser(job.getUsername(), WebSocketTopics.USER_QUEUE_MESSAGES, voConverter.apply(job));
+        }
+    }
+
+    private String jobKey(Object jobId) {
+        return StrUtil.format(jobKeyPattern, jobId);
+    }
+
+    private void cleanQuietly() {
+        try {
+            int cleaned = cleanExpired();
+            if (cleaned > 0) {
+                log.info("已清理过期{}文件 {} 个", label, cleaned);
+            }
+        } catch (Exception e) {
+            log.warn("清理过期{}文件失败：{}", label, e.getMessage());
+        }
+    }
+
+    /**
+     * 任务逻辑，在任务线程中执行
+     *
+     * @param <J> 任务类型
+     */
+    @FunctionalInterface
+    public interface JobBody<J> {
+
+        /**
+         * 执行任务
+         *
+         * @param job          任务
+         * @param artifactFile 本地产出文件路径，写入后由调用方上传，不写入表示没有产出文件
+         */
+        void execute(J job, Path artifactFile) throws Exception;
+    }
+
+    /**
+     * 任务进度上报器
+     */
+    @FunctionalInterface
+    public interface JobProgress {
+
+        /**
+         * 上报进度（节流）
+         */
+        void report();
+    }
+}
@@ -0,0 +1,31 @@
+package com.youlai.boot.plugin.mybatis;
+
+import com.baomidou.mybatisplus.core.injector.AbstractMethod;
+import com.baomidou.mybatisplus.core.injector.DefaultSqlInjector;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.youlai.boot.common.base.BatchMapper;
+import org.apache.ibatis.session.Configuration;
+
+import java.util.List;
+
+/**
+ * SQL 注入器
+ * <p>
+ * 在默认方法基础上，为继承 {@link BatchMapper} 的 Mapper 注入多行 VALUES 批量插入方法
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+public class BatchSqlInjector extends DefaultSqlInjector {
+
+    @Override
+    public List<AbstractMethod> getMethodList(Configuration configuration, Class<?> mapperClass, TableInfo tableInfo) {
+        List<AbstractMethod> methodList = super.getMethodList(configuration, mapperClass, tableInfo);
+        if (BatchMapper.class.isAssignableFrom(mapperClass)) {
+            methodList.add(new InsertValuesMethod("insertValues", InsertValuesMethod.Mode.INSERT));
+            methodList.add(new InsertValuesMethod("insertIgnoreValues", InsertValuesMethod.Mode.INSERT_IGNORE));
+            methodList.add(new InsertValuesMethod("upsertValues", InsertValuesMethod.Mode.UPSERT));
+        }
+        return methodList;
+    }
+}
@@ -0,0 +1,119 @@
+package com.youlai.boot.plugin.mybatis;
+
+import com.baomidou.mybatisplus.annotation.FieldFill;
+import com.baomidou.mybatisplus.annotation.FieldStrategy;
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.core.injector.AbstractMethod;
+import com.baomidou.mybatisplus.core.metadata.TableFieldInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.toolkit.StringUtils;
+import com.baomidou.mybatisplus.core.toolkit.sql.SqlScriptUtils;
+import org.apache.ibatis.executor.keygen.Jdbc3KeyGenerator;
+import org.apache.ibatis.executor.keygen.KeyGenerator;
+import org.apache.ibatis.executor.keygen.NoKeyGenerator;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 多行 VALUES 批量插入方法（MySQL）
+ * <p>
+ * 生成 {@code INSERT [IGNORE] INTO t (c1, c2) VALUES (..), (..) [ON DUPLICATE KEY UPDATE ..]}，
+ * 一条语句写入一批数据；值为空的列写 {@code DEFAULT}，由数据库默认值兜底（如逻辑删除标识）。
+ * 自增主键不写入，通过 JDBC 回填到实体。
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+public class InsertValuesMethod extends AbstractMethod {
+
+    /**
+     * 插入方式
+     */
+    public enum Mode {
+        /**
+         * 普通插入，唯一键冲突时报错
+         */
+        INSERT,
+        /**
+         * 忽略唯一键冲突的行
+         */
+        INSERT_IGNORE,
+        /**
+         * 唯一键冲突时更新非主键、非插入填充列
+         */
+        UPSERT
+    }
+
+    private final Mode mode;
+
+    public InsertValuesMethod(String methodName, Mode mode) {
+        super(methodName);
+        this.mode = mode;
+    }
+
+    @Override
+    public MappedStatement injectMappedStatement(Class<?> mapperClass, Class<?> modelClass, TableInfo tableInfo) {
+        boolean autoIncrementKey = tableInfo.havePK() && tableInfo.getIdType() == IdType.AUTO;
+
+        List<String> columns = new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        if (tableInfo.havePK() && !autoIncrementKey) {
+            columns.add(tableInfo.getKeyColumn());
+            values.add(SqlScriptUtils.safeParam(ENTITY_DOT + tableInfo.getKeyProperty()));
+        }
+        List<TableFieldInfo> insertFields = tableInfo.getFieldList().stream()
+                .filter(field -> field.getInsertStrategy() != FieldStrategy.NEVER)
+                .toList();
+        for (TableFieldInfo field : insertFields) {
+            columns.add(field.getColumn());
+            values.add(valueOrDefault(field));
+        }
+
+        String sql = "<script>" + (mode == Mode.INSERT_IGNORE ? "INSERT IGNORE INTO " : "INSERT INTO ")
+                + tableInfo.getTableName()
+                + " (" + String.join(COMMA, columns) + ") VALUES "
+                + SqlScriptUtils.convertForeach("(" + String.join(COMMA, values) + ")", LIST, null, ENTITY, COMMA)
+                + (mode == Mode.UPSERT ? onDuplicateKeyUpdate(tableInfo, insertFields) : EMPTY)
+                + "</script>";
+        SqlSource sqlSource = super.createSqlSource(configuration, sql, modelClass);
+
+        KeyGenerator keyGenerator = NoKeyGenerator.INSTANCE;
+        String keyProperty = null;
+        String keyColumn = null;
+        if (autoIncrementKey) {
+            keyGenerator = Jdbc3KeyGenerator.INSTANCE;
+            keyProperty = LIST + DOT + tableInfo.getKeyProperty();
+            keyColumn = tableInfo.getKeyColumn();
+        }
+        return this.addInsertMappedStatement(mapperClass, modelClass, methodName, sqlSource, keyGenerator, keyProperty, keyColumn);
+    }
+
+    /**
+     * 列值：非空写参数，空值写 DEFAULT，保证每行列数一致
+     */
+    private String valueOrDefault(TableFieldInfo field) {
+        String property = ENTITY_DOT + field.getProperty();
+        return SqlScriptUtils.convertChoose(property + " != null",
+                SqlScriptUtils.safeParam(ENTITY_DOT + field.getEl()), "DEFAULT");
+    }
+
+    /**
+     * 冲突时更新的列：排除主键、仅插入时填充的列（如创建时间）和逻辑删除列；
+     * 没有可更新列时（纯关联表）自赋值一列，使语句等价于忽略冲突
+     */
+    private String onDuplicateKeyUpdate(TableInfo tableInfo, List<TableFieldInfo> insertFields) {
+        String assignments = insertFields.stream()
+                .filter(field -> field.getFieldFill() != FieldFill.INSERT && !field.isLogicDelete())
+                .map(field -> field.getColumn() + EQUALS + "VALUES(" + field.getColumn() + ")")
+                .collect(Collectors.joining(COMMA));
+        if (StringUtils.isBlank(assignments)) {
+            String column = tableInfo.havePK() ? tableInfo.getKeyColumn() : insertFields.get(0).getColumn();
+            assignments = column + EQUALS + column;
+        }
+        return " ON DUPLICATE KEY UPDATE " + assignments;
+    }
+}
@@ -0,0 +1,242 @@
+package com.youlai.boot.system.archive;
+
+import cn.hutool.core.collection.CollectionUtil;
+import cn.hutool.core.util.StrUtil;
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.youlai.boot.core.exception.BusinessException;
+import com.youlai.boot.system.mapper.UserMapper;
+import com.youlai.boot.system.model.entity.Log;
+import com.youlai.boot.system.model.entity.User;
+import com.youlai.boot.system.model.query.LogQuery;
+import com.youlai.boot.system.model.vo.LogPageVO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 归档日志查询
+ * <p>
+ * 按操作时间范围选出涉及的月归档文件，流式解压逐行过滤，内存中只保留当前页：
+ * <ul>
+ *   <li>第一遍统计每个文件的匹配条数得到总数，第二遍只读取当前页所在的文件并取出对应行</li>
+ *   <li>结果与在线查询一致按操作时间倒序（月份倒序，文件内按主键倒序）</li>
+ * </ul>
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LogArchiveReader {
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final LogLifecycleManager logLifecycleManager;
+
+    private final UserMapper userMapper;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 获取归档日志分页列表
+     *
+     * @param queryParams 查询参数
+     * @return 归档日志分页列表
+     */
+    public Page<LogPageVO> getLogPage(LogQuery queryParams) {
+        int pageNum = Math.max(1, queryParams.getPageNum());
+        int pageSize = Math.max(1, queryParams.getPageSize());
+        Page<LogPageVO> page = new Page<>(pageNum, pageSize);
+
+        LocalDateTime start = parseTime(queryParams.getCreateTime(), 0);
+        LocalDateTime end = parseTime(queryParams.getCreateTime(), 1);
+        List<Path> files = listArchiveFiles(start, end);
+        Predicate<Log> filter = buildFilter(queryParams.getKeywords(), start, end);
+
+        try {
+            // 第一遍：统计各文件匹配条数
+            long[] counts = new long[files.size()];
+            long total = 0;
+            for (int i = 0; i < files.size(); i++) {
+                counts[i] = scan(files.get(i), filter, -1, -1, null);
+                total += counts[i];
+            }
+            page.setTotal(total);
+
+            // 第二遍：倒序位置 [offset, offset + pageSize) 换算为各文件内的正序位置
+            List<Log> records = new ArrayList<>(pageSize);
+            long offset = (long) (pageNum - 1) * pageSize;
+            long remaining = pageSize;
+            for (int i = 0; i < files.size() && remaining > 0; i++) {
+                if (offset >= counts[i]) {
+                    offset -= counts[i];
+                    continue;
+                }
+                long take = Math.min(remaining, counts[i] - offset);
+                long toIndex = counts[i] - offset;
+                List<Log> fileRecords = new ArrayList<>();
+                scan(files.get(i), filter, toIndex - take, toIndex, fileRecords);
+                Collections.reverse(fileRecords);
+                records.addAll(fileRecords);
+                remaining -= take;
+                offset = 0;
+            }
+            page.setRecords(toPageVOs(records));
+        } catch (IOException e) {
+            log.error("读取归档日志失败", e);
+            throw new BusinessException("读取归档日志失败");
+        }
+        return page;
+    }
+
+    /**
+     * 逐行读取归档文件并计数匹配的日志，匹配序号在 [fromIndex, toIndex) 内的日志放入 collector
+     *
+     * @return 匹配条数
+     */
+    private long scan(Path file, Predicate<Log> filter, long fromIndex, long toIndex, List<Log> collector)
+            throws IOException {
+        long index = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                Log sysLog = objectMapper.readValue(line, Log.class);
+                if (!filter.test(sysLog)) {
+                    continue;
+                }
+                if (collector != null && index >= fromIndex) {
+                    collector.add(sysLog);
+                }
+                index++;
+                if (collector != null && index >= toIndex) {
+                    break;
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * 列出与时间范围有交集的归档文件，按月份倒序
+     */
+    private List<Path> listArchiveFiles(LocalDateTime start, LocalDateTime end) {
+        Path dir = logLifecycleManager.archiveDir();
+        if (dir == null || Files.notExists(dir)) {
+            return List.of();
+        }
+        try (var stream = Files.list(dir)) {
+            return stream
+                    .map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(LogLifecycleManager.ARCHIVE_PREFIX)
+                            && name.endsWith(LogLifecycleManager.ARCHIVE_SUFFIX))
+                    .map(name -> name.substring(LogLifecycleManager.ARCHIVE_PREFIX.length(),
+                            name.length() - LogLifecycleManager.ARCHIVE_SUFFIX.length()))
+                    .filter(month -> month.matches("\\d{6}"))
+                    .map(month -> YearMonth.parse(month, LogLifecycleManager.MONTH_FORMATTER))
+                    .filter(month -> (start == null || !month.atEndOfMonth().isBefore(start.toLocalDate()))
+                            && (end == null || !month.atDay(1).isAfter(end.toLocalDate())))
+                    .sorted(Comparator.reverseOrder())
+                    .map(logLifecycleManager::archiveFile)
+                    .toList();
+        } catch (IOException e) {
+            log.error("列出归档日志文件失败", e);
+            throw new BusinessException("读取归档日志失败");
+        }
+    }
+
+    /**
+     * 构建过滤条件，关键字匹配日志内容、IP 与操作人昵称（与在线查询一致）
+     */
+    private Predicate<Log> buildFilter(String keywords, LocalDateTime start, LocalDateTime end) {
+        Set<Long> operatorIds = StrUtil.isBlank(keywords) ? Set.of() : userMapper.selectList(
+                        new LambdaQueryWrapper<User>()
+                                .select(User::getId)
+                                .like(User::getNickname, keywords)
+                ).stream()
+                .map(User::getId)
+                .collect(Collectors.toSet());
+        return sysLog -> {
+            LocalDateTime createTime = sysLog.getCreateTime();
+            if (start != null && (createTime == null || createTime.isBefore(start))) {
+                return false;
+            }
+            if (end != null && (createTime == null || createTime.isAfter(end))) {
+                return false;
+            }
+            return StrUtil.isBlank(keywords)
+                    || StrUtil.contains(sysLog.getContent(), keywords)
+                    || StrUtil.contains(sysLog.getIp(), keywords)
+                    || sysLog.getCreateBy() != null && operatorIds.contains(sysLog.getCreateBy());
+        };
+    }
+
+    private List<LogPageVO> toPageVOs(List<Log> logs) {
+        Set<Long> userIds = logs.stream()
+                .map(Log::getCreateBy)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, String> nicknames = CollectionUtil.isEmpty(userIds) ? Map.of() : userMapper.selectList(
+                        new LambdaQueryWrapper<User>()
+                                .select(User::getId, User::getNickname)
+                                .in(User::getId, userIds)
+                ).stream()
+                .filter(user -> user.getNickname() != null)
+                .collect(Collectors.toMap(User::getId, User::getNickname));
+
+        return logs.stream().map(sysLog -> {
+            LogPageVO vo = new LogPageVO();
+            vo.setId(sysLog.getId());
+            vo.setModule(sysLog.getModule());
+            vo.setContent(sysLog.getContent());
+            vo.setRequestUri(sysLog.getRequestUri());
+            vo.setMethod(sysLog.getMethod());
+            vo.setIp(sysLog.getIp());
+            vo.setRegion(StrUtil.nullToEmpty(sysLog.getProvince()) + " " + StrUtil.nullToEmpty(sysLog.getCity()));
+            vo.setBrowser(StrUtil.nullToEmpty(sysLog.getBrowser()) + " " + StrUtil.nullToEmpty(sysLog.getBrowserVersion()));
+            vo.setOs(sysLog.getOs());
+            vo.setExecutionTime(sysLog.getExecutionTime());
+            vo.setCreateBy(sysLog.getCreateBy());
+            vo.setCreateTime(sysLog.getCreateTime());
+            vo.setOperator(sysLog.getOperatorName() != null ? sysLog.getOperatorName()
+                    : sysLog.getCreateBy() != null ? nicknames.get(sysLog.getCreateBy()) : null);
+            return vo;
+        }).toList();
+    }
+
+    /**
+     * 解析操作时间范围，只有日期时取当天开始或结束时刻
+     */
+    private LocalDateTime parseTime(List<String> range, int index) {
+        if (range == null || range.size() <= index || StrUtil.isBlank(range.get(index))) {
+            return null;
+        }
+        String value = range.get(index).trim();
+        if (value.length() == 10) {
+            LocalDate date = LocalDate.parse(value);
+            return index == 0 ? date.atStartOfDay() : date.atTime(23, 59, 59);
+        }
+        return LocalDateTime.parse(value, DATE_TIME_FORMATTER);
+    }
+}
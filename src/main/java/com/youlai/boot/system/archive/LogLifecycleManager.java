@@ -0,0 +1,241 @@
+package com.youlai.boot.system.archive;
+
+import cn.hutool.core.util.StrUtil;
+import com.youlai.boot.config.property.LogLifecycleProperties;
+import com.youlai.boot.system.mapper.LogPartitionMapper;
+import com.youlai.boot.system.model.bo.LogPartitionBO;
+import com.youlai.boot.system.model.entity.Log;
+import com.youlai.boot.system.writer.LogSearchIndexer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 操作日志生命周期管理
+ * <p>
+ * sys_log 按 create_time 按月 RANGE 分区（分区名 pYYYYMM，另有兜底分区 p_future），本组件负责：
+ * <ul>
+ *   <li>预建：从 p_future 中提前拆分出当月及之后 precreateMonths 个月的分区，p_future 为空时拆分不搬移数据</li>
+ *   <li>过期：早于 retentionMonths 的月分区先导出为归档文件，再整体 DROP PARTITION，不逐行删除、不锁表；
+ *   随后分批清理日志检索表中对应的记录</li>
+ *   <li>归档：每月一个 gzip 压缩的 JSON Lines 文件，先写临时文件再原子重命名，归档文件已存在时跳过导出；
+ *   删除分区前回读归档文件，逐行解析并核对条数与分区一致，校验失败或未配置归档目录时不删除分区</li>
+ * </ul>
+ * 由定时任务 {@code logLifecycleJobHandler} 每日执行，应用启动后也会在后台执行一次。
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LogLifecycleManager {
+
+    static final String ARCHIVE_PREFIX = "sys_log-";
+
+    static final String ARCHIVE_SUFFIX = ".jsonl.gz";
+
+    static final DateTimeFormatter MONTH_FORMATTER = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static final Pattern MONTH_PARTITION = Pattern.compile("p\\d{6}");
+
+    private final LogPartitionMapper logPartitionMapper;
+
+    private final LogSearchIndexer logSearchIndexer;
+
+    private final LogLifecycleProperties properties;
+
+    private final ObjectMapper objectMapper;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (properties.isEnabled()) {
+            CompletableFuture.runAsync(() -> {
+                try {
+                    maintain();
+                } catch (Exception e) {
+                    log.error("日志分区维护失败", e);
+                }
+            });
+        }
+    }
+
+    /**
+     * 执行一次分区维护：预建分区，归档并删除过期分区
+     *
+     * @return 本次删除的分区数量
+     */
+    public int maintain() throws IOException {
+        if (!properties.isEnabled() || !running.compareAndSet(false, true)) {
+            return 0;
+        }
+        try {
+            List<String> partitions = logPartitionMapper.listPartitions();
+            if (!partitions.contains("p_future")) {
+                log.warn("sys_log 未按月分区（缺少 p_future 分区），跳过分区维护");
+                return 0;
+            }
+            List<YearMonth> months = partitions.stream()
+                    .filter(name -> MONTH_PARTITION.matcher(name).matches())
+                    .map(name -> YearMonth.parse(name.substring(1), MONTH_FORMATTER))
+                    .toList();
+            precreate(months);
+            return expire(months);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 获取归档目录，未配置时返回 null
+     */
+    Path archiveDir() {
+        String dir = properties.getArchiveDir();
+        return StrUtil.isBlank(dir) ? null : Path.of(dir);
+    }
+
+    /**
+     * 获取归档文件路径
+     */
+    Path archiveFile(YearMonth month) {
+        return archiveDir().resolve(ARCHIVE_PREFIX + month.format(MONTH_FORMATTER) + ARCHIVE_SUFFIX);
+    }
+
+    private void precreate(List<YearMonth> months) {
+        YearMonth last = months.isEmpty() ? null : months.get(months.size() - 1);
+        YearMonth target = YearMonth.now().plusMonths(Math.max(0, properties.getPrecreateMonths()));
+        // 只能在已有月分区之后追加
+        YearMonth month = last != null ? last.plusMonths(1) : YearMonth.now();
+        List<LogPartitionBO> partitions = new ArrayList<>();
+        while (!month.isAfter(target)) {
+            partitions.add(new LogPartitionBO(partitionName(month), month.plusMonths(1).atDay(1).toString()));
+            month = month.plusMonths(1);
+        }
+        if (!partitions.isEmpty()) {
+            logPartitionMapper.addPartitions(partitions);
+            log.info("已创建日志分区：{}", partitions.stream().map(LogPartitionBO::name).toList());
+        }
+    }
+
+    private int expire(List<YearMonth> months) throws IOException {
+        YearMonth oldestRetained = YearMonth.now().minusMonths(Math.max(1, properties.getRetentionMonths()) - 1L);
+        if (properties.isArchiveEnabled() && archiveDir() == null
+                && !months.isEmpty() && months.get(0).isBefore(oldestRetained)) {
+            log.warn("未配置日志归档目录（log-lifecycle.archive-dir），不删除过期分区");
+            return 0;
+        }
+        int dropped = 0;
+        for (YearMonth month : months) {
+            if (!month.isBefore(oldestRetained)) {
+                break;
+            }
+            if (properties.isArchiveEnabled()) {
+                archive(month);
+            }
+            logPartitionMapper.dropPartition(partitionName(month));
+            logSearchIndexer.purgeBefore(month.plusMonths(1).atDay(1).atStartOfDay());
+            dropped++;
+            log.info("日志分区 {} 已过期删除", partitionName(month));
+        }
+        return dropped;
+    }
+
+    /**
+     * 按主键顺序分批导出分区中的日志，并校验归档文件可完整读回
+     */
+    private void archive(YearMonth month) throws IOException {
+        Path target = archiveFile(month);
+        String name = partitionName(month);
+        long expected = logPartitionMapper.countPartitionLogs(name);
+        if (Files.exists(target)) {
+            // 上次已导出但删除分区失败；文件不完整时重新导出
+            if (countArchivedLogs(target) == expected) {
+                return;
+            }
+            log.warn("归档文件 {} 与分区 {} 条数不一致，重新导出", target, name);
+        }
+        export(name, target);
+        long archived = countArchivedLogs(target);
+        if (archived != expected) {
+            throw new IOException("归档文件校验失败：" + target + " 共 " + archived + " 条，分区 " + name + " 共 " + expected + " 条");
+        }
+    }
+
+    /**
+     * 按主键顺序分批导出分区中的日志
+     */
+    private void export(String name, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path tmpFile = target.resolveSibling(target.getFileName() + ".tmp");
+        int batchSize = Math.max(1, properties.getArchiveBatchSize());
+        long count = 0;
+        try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(tmpFile)), StandardCharsets.UTF_8))) {
+            long afterId = 0;
+            List<Log> batch;
+            do {
+                batch = logPartitionMapper.listPartitionLogs(name, afterId, batchSize);
+                for (Log sysLog : batch) {
+                    writer.write(objectMapper.writeValueAsString(sysLog));
+                    writer.newLine();
+                }
+                if (!batch.isEmpty()) {
+                    afterId = batch.get(batch.size() - 1).getId();
+                    count += batch.size();
+                }
+            } while (batch.size() == batchSize);
+        }
+        Files.move(tmpFile, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        log.info("日志分区 {} 已归档 {} 条：{}", name, count, target);
+    }
+
+    /**
+     * 回读归档文件，逐行解析并统计日志条数；文件损坏或内容无法解析时抛出异常
+     */
+    long countArchivedLogs(Path file) throws IOException {
+        long count = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                objectMapper.readTree(line);
+                count++;
+            }
+        } catch (JacksonException e) {
+            throw new IOException("归档文件内容无法解析：" + file, e);
+        }
+        return count;
+    }
+
+    private static String partitionName(YearMonth month) {
+        return "p" + month.format(MONTH_FORMATTER);
+    }
+}
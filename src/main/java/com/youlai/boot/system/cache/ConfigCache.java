@@ -0,0 +1,195 @@
+package com.youlai.boot.system.cache;
+
+import cn.hutool.core.util.StrUtil;
+import com.youlai.boot.common.constant.RedisConstants;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 系统配置本地快照
+ * <p>
+ * 将 Redis 中的系统配置整体加载为不可变快照，热点路径读取配置只是一次 volatile 字段读：
+ * <ul>
+ *   <li>刷新：{@code ConfigService#refreshCache()} 重建 Redis 缓存后替换本节点快照，并通过 Redis 频道通知其他节点</li>
+ *   <li>其他节点收到通知后从 Redis 重新加载快照（每次变更一次 HGETALL）</li>
+ *   <li>频道消息不会重发，快照加载超过 {@link #RELOAD_INTERVAL} 后读取时再从 Redis 重新加载，作为消息丢失或订阅重连时的兜底</li>
+ *   <li>数值、布尔、时长类型在构建快照时一次性解析，读取时不再重复解析</li>
+ * </ul>
+ *
+ * @author Theo
+ * @since 4.1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConfigCache implements MessageListener {
+
+    /**
+     * 快照兜底重新加载间隔
+     */
+    static final Duration RELOAD_INTERVAL = Duration.ofMinutes(10);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private volatile ConfigSnapshot snapshot = ConfigSnapshot.EMPTY;
+
+    /**
+     * 快照加载时间（毫秒）
+     */
+    private volatile long loadedAt;
+
+    /**
+     * 兜底重新加载是否正在执行，同一时刻只有一个读取线程访问 Redis，其余线程继续读旧快照
+     */
+    private final AtomicBoolean reloading = new AtomicBoolean();
+
+    @PostConstruct
+    public void init() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(RedisConstants.System.CONFIG_CHANNEL));
+    }
+
+    /**
+     * 获取当前配置快照
+     */
+    public ConfigSnapshot getSnapshot() {
+        if (System.currentTimeMillis() - loadedAt >= RELOAD_INTERVAL.toMillis() && reloading.compareAndSet(false, true)) {
+            try {
+                reload();
+            } catch (Exception e) {
+                // Redis 不可用时继续使用旧快照，间隔后再重试
+                loadedAt = System.currentTimeMillis();
+                log.warn("系统配置本地快照重新加载失败：{}", e.getMessage());
+            } finally {
+                reloading.set(false);
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * 替换本节点快照并通知其他节点重新加载
+     *
+     * @param configs 配置键 -> 配置值
+     */
+    public void publish(Map<String, String> configs) {
+        replace(configs);
+        redisTemplate.convertAndSend(RedisConstants.System.CONFIG_CHANNEL, System.currentTimeMillis());
+    }
+
+    /**
+     * 处理配置变更频道消息，从 Redis 重新加载本节点快照
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        reload();
+    }
+
+    /**
+     * 从 Redis 重新加载本节点快照
+     */
+    void reload() {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(RedisConstants.System.CONFIG);
+        Map<String, String> configs = new HashMap<>(entries.size());
+        entries.forEach((key, value) -> {
+            if (key != null && value != null) {
+                configs.put(key.toString(), value.toString());
+            }
+        });
+        replace(configs);
+        log.debug("系统配置本地快照已重新加载，共 {} 项", configs.size());
+    }
+
+    private void replace(Map<String, String> configs) {
+        this.snapshot = new ConfigSnapshot(configs);
+        this.loadedAt = System.currentTimeMillis();
+    }
+
+    /**
+     * 系统配置快照（不可变）
+     */
+    public static final class ConfigSnapshot {
+
+        static final ConfigSnapshot EMPTY = new ConfigSnapshot(Map.of());
+
+        private final Map<String, String> values;
+        private final Map<String, Long> longValues = new HashMap<>();
+        private final Map<String, Boolean> booleanValues = new HashMap<>();
+        private final Map<String, Duration> durationValues = new HashMap<>();
+
+        ConfigSnapshot(Map<String, String> configs) {
+            this.values = Map.copyOf(configs);
+            values.forEach((key, raw) -> {
+                String value = raw.trim();
+                try {
+                    longValues.put(key, Long.parseLong(value));
+                } catch (NumberFormatException ignored) {
+                    // 非数值配置
+                }
+                if ("true".equalsIgnoreCase(value) || "1".equals(value)) {
+                    booleanValues.put(key, Boolean.TRUE);
+                } else if ("false".equalsIgnoreCase(value) || "0".equals(value)) {
+                    booleanValues.put(key, Boolean.FALSE);
+                }
+                try {
+                    durationValues.put(key, DurationStyle.detectAndParse(value));
+                } catch (IllegalArgumentException ignored) {
+                    // 非时长配置
+                }
+            });
+        }
+
+        /**
+         * 获取配置原始值
+         */
+        public String get(String key) {
+            return key != null ? values.get(key) : null;
+        }
+
+        /**
+         * 是否存在配置
+         */
+        public boolean contains(String key) {
+            return key != null && values.containsKey(key);
+        }
+
+        /**
+         * 获取长整型配置，未配置或格式错误时返回默认值
+         */
+        public long getLong(String key, long defaultValue) {
+            Long value = StrUtil.isNotBlank(key) ? longValues.get(key) : null;
+            return value != null ? value : defaultValue;
+        }
+
+        /**
+         * 获取布尔配置（true/false/1/0），未配置或格式错误时返回默认值
+         */
+        public boolean getBoolean(String key, boolean defaultValue) {
+            Boolean value = StrUtil.isNotBlank(key) ? booleanValues.get(key) : null;
+            return value != null ? value : defaultValue;
+        }
+
+        /**
+         * 获取时长配置（如 500ms、30s、5m、PT1H，纯数字按毫秒），未配置或格式错误时返回默认值
+         */
+        public Duration getDuration(String key, Duration defaultValue) {
+            Duration value = StrUtil.isNotBlank(key) ? durationValues.get(key) : null;
+            return value != null ? value : defaultValue;
+        }
+    }
+
+}
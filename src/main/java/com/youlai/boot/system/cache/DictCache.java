@@ -0,0 +1,284 @@
+package com.youlai.boot.system.cache;
+
+import cn.hutool.core.collection.CollectionUtil;
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.youlai.boot.common.constant.RedisConstants;
+import com.youlai.boot.common.enums.StatusEnum;
+import com.youlai.boot.system.mapper.DictItemMapper;
+import com.youlai.boot.system.model.entity.DictItem;
+import com.youlai.boot.system.model.vo.DictItemOptionVO;
+import com.youlai.boot.system.model.vo.DictItemsVO;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 字典缓存（本地 Caffeine + Redis 二级缓存）
+ * <p>
+ * 缓存每个字典编码下已启用且按排序号排好序的字典项，并携带版本号：
+ * <ul>
+ *   <li>读取顺序：本地缓存 -> Redis Hash -> 数据库（批量读取时每一级都只有一次往返）</li>
+ *   <li>失效：字典或字典项写入后递增版本号、删除 Redis 缓存，并通过 Redis 频道通知所有节点清除本地缓存</li>
+ * </ul>
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DictCache implements MessageListener {
+
+    private final DictItemMapper dictItemMapper;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    /**
+     * 本地缓存，过期时间作为频道消息丢失时的兜底
+     */
+    private final Cache<String, DictItemsVO> localCache = Caffeine.newBuilder()
+            .maximumSize(1000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
+
+    /**
+     * 字典查找表缓存，与本地字典缓存同步失效
+     */
+    private final Cache<String, DictLookup> lookupCache = Caffeine.newBuilder()
+            .maximumSize(1000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
+
+    @PostConstruct
+    public void init() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(RedisConstants.System.DICT_CHANNEL));
+    }
+
+    /**
+     * 获取字典数据
+     *
+     * @param dictCode 字典编码
+     * @return 字典数据（不存在的字典返回空列表）
+     */
+    public DictItemsVO get(String dictCode) {
+        return getAll(Collections.singletonList(dictCode)).get(dictCode);
+    }
+
+    /**
+     * 批量获取字典数据
+     *
+     * @param dictCodes 字典编码列表
+     * @return 字典编码 -> 字典数据，顺序与入参一致
+     */
+    public Map<String, DictItemsVO> getAll(Collection<String> dictCodes) {
+        Map<String, DictItemsVO> result = new LinkedHashMap<>();
+        if (CollectionUtil.isEmpty(dictCodes)) {
+            return result;
+        }
+
+        // 1. 本地缓存
+        List<String> missingCodes = new ArrayList<>();
+        for (String dictCode : new LinkedHashSet<>(dictCodes)) {
+            DictItemsVO cached = localCache.getIfPresent(dictCode);
+            result.put(dictCode, cached);
+            if (cached == null) {
+                missingCodes.add(dictCode);
+            }
+        }
+        if (missingCodes.isEmpty()) {
+            return result;
+        }
+
+        // 2. Redis 缓存
+        List<Object> redisValues = redisTemplate.opsForHash()
+                .multiGet(RedisConstants.System.DICT_ITEMS, new ArrayList<>(missingCodes));
+        List<String> dbCodes = new ArrayList<>();
+        for (int i = 0; i < missingCodes.size(); i++) {
+            String dictCode = missingCodes.get(i);
+            if (redisValues.get(i) instanceof DictItemsVO dictItems) {
+                localCache.put(dictCode, dictItems);
+                result.put(dictCode, dictItems);
+            } else {
+                dbCodes.add(dictCode);
+            }
+        }
+
+        // 3. 回源数据库
+        if (!dbCodes.isEmpty()) {
+            result.putAll(loadFromDb(dbCodes));
+        }
+        return result;
+    }
+
+    /**
+     * 获取字典查找表，用于字典值与标签的 O(1) 互译
+     *
+     * @param dictCode 字典编码
+     * @return 不可变的字典查找表
+     */
+    public DictLookup getLookup(String dictCode) {
+        DictLookup lookup = lookupCache.getIfPresent(dictCode);
+        if (lookup == null) {
+            lookup = DictLookup.of(get(dictCode));
+            lookupCache.put(dictCode, lookup);
+        }
+        return lookup;
+    }
+
+    /**
+     * 清除字典缓存
+     * <p>
+     * 在事务中调用时延迟到事务提交后执行，避免并发读取在提交前把旧数据重新写回缓存
+     *
+     * @param dictCodes 字典编码
+     */
+    public void evict(String... dictCodes) {
+        List<String> codes = Arrays.stream(dictCodes)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (codes.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    doEvict(codes);
+                }
+            });
+        } else {
+            doEvict(codes);
+        }
+    }
+
+    /**
+     * 处理字典变更频道消息，清除本节点本地缓存
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object dictCode = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        if (dictCode != null) {
+            localCache.invalidate(dictCode.toString());
+            lookupCache.invalidate(dictCode.toString());
+            log.debug("字典[{}]本地缓存已清除", dictCode);
+        }
+    }
+
+    private void doEvict(List<String> dictCodes) {
+        for (String dictCode : dictCodes) {
+            redisTemplate.opsForHash().increment(RedisConstants.System.DICT_VERSION, dictCode, 1);
+            redisTemplate.opsForHash().delete(RedisConstants.System.DICT_ITEMS, dictCode);
+            localCache.invalidate(dictCode);
+            lookupCache.invalidate(dictCode);
+            redisTemplate.convertAndSend(RedisConstants.System.DICT_CHANNEL, dictCode);
+        }
+    }
+
+    /**
+     * 从数据库批量加载字典数据并写入 Redis 和本地缓存
+     * <p>
+     * 先读取版本号再查库，写入后版本号若已变化说明期间发生了变更，丢弃写入的缓存数据
+     */
+    private Map<String, DictItemsVO> loadFromDb(List<String> dictCodes) {
+        List<Object> versions = redisTemplate.opsForHash()
+                .multiGet(RedisConstants.System.DICT_VERSION, new ArrayList<>(dictCodes));
+
+        Map<String, List<DictItemOptionVO>> itemsMap = dictItemMapper.selectList(
+                        new LambdaQueryWrapper<DictItem>()
+                                .in(DictItem::getDictCode, dictCodes)
+                                .eq(DictItem::getStatus, StatusEnum.ENABLE.getValue())
+                                .orderByAsc(DictItem::getSort)
+                ).stream()
+                .collect(Collectors.groupingBy(DictItem::getDictCode, Collectors.mapping(item -> {
+                    DictItemOptionVO dictItemOptionVo = new DictItemOptionVO();
+                    dictItemOptionVo.setLabel(item.getLabel());
+                    dictItemOptionVo.setValue(item.getValue());
+                    dictItemOptionVo.setTagType(item.getTagType());
+                    return dictItemOptionVo;
+                }, Collectors.toList())));
+
+        Map<String, DictItemsVO> result = new LinkedHashMap<>();
+        for (int i = 0; i < dictCodes.size(); i++) {
+            String dictCode = dictCodes.get(i);
+            DictItemsVO dictItems = new DictItemsVO();
+            dictItems.setDictCode(dictCode);
+            dictItems.setVersion(toVersion(versions.get(i)));
+            dictItems.setItems(itemsMap.getOrDefault(dictCode, new ArrayList<>()));
+            result.put(dictCode, dictItems);
+        }
+        redisTemplate.opsForHash().putAll(RedisConstants.System.DICT_ITEMS, result);
+
+        List<Object> latestVersions = redisTemplate.opsForHash()
+                .multiGet(RedisConstants.System.DICT_VERSION, new ArrayList<>(dictCodes));
+        for (int i = 0; i < dictCodes.size(); i++) {
+            String dictCode = dictCodes.get(i);
+            if (Objects.equals(toVersion(versions.get(i)), toVersion(latestVersions.get(i)))) {
+                localCache.put(dictCode, result.get(dictCode));
+            } else {
+                redisTemplate.opsForHash().delete(RedisConstants.System.DICT_ITEMS, dictCode);
+            }
+        }
+        return result;
+    }
+
+    private Long toVersion(Object value) {
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        return value != null ? Long.parseLong(value.toString()) : 0L;
+    }
+
+    /**
+     * 字典查找表（不可变）
+     *
+     * @param labels 字典值 -> 字典标签
+     * @param values 字典标签 -> 字典值
+     */
+    public record DictLookup(Map<String, String> labels, Map<String, String> values) {
+
+        static DictLookup of(DictItemsVO dictItems) {
+            Map<String, String> labels = new HashMap<>();
+            Map<String, String> values = new HashMap<>();
+            for (DictItemOptionVO item : dictItems.getItems()) {
+                if (item.getValue() == null || item.getLabel() == null) {
+                    continue;
+                }
+                labels.putIfAbsent(item.getValue(), item.getLabel());
+                values.putIfAbsent(item.getLabel(), item.getValue());
+            }
+            return new DictLookup(Map.copyOf(labels), Map.copyOf(values));
+        }
+
+        /**
+         * 根据字典值获取字典标签
+         */
+        public String getLabel(String value) {
+            return value != null ? labels.get(value) : null;
+        }
+
+        /**
+         * 根据字典标签获取字典值
+         */
+        public String getValue(String label) {
+            return label != null ? values.get(label) : null;
+        }
+    }
+
+}
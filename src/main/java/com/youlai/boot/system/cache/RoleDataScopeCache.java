@@ -0,0 +1,137 @@
+package com.youlai.boot.system.cache;
+
+import cn.hutool.core.collection.CollectionUtil;
+import com.youlai.boot.common.constant.RedisConstants;
+import com.youlai.boot.common.enums.DataScopeEnum;
+import com.youlai.boot.security.model.RoleDataScope;
+import com.youlai.boot.system.mapper.RoleMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 角色数据权限缓存
+ * <p>
+ * 按角色编码缓存数据权限范围和自定义部门ID（Redis Hash）：
+ * <ul>
+ *   <li>读取：一次 HMGET 取出所有角色，未命中的角色合并为一次关联查询回源，登录耗时不随角色数增长</li>
+ *   <li>失效：角色的数据权限、自定义部门或编码变更以及删除角色时，在事务提交后删除对应角色的缓存</li>
+ *   <li>过期：整个 Hash 自首次写入起 {@link #TTL} 后过期，失效消息丢失时缓存也能自行恢复</li>
+ * </ul>
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoleDataScopeCache {
+
+    /**
+     * 缓存过期时间（续写不延长）
+     */
+    static final Duration TTL = Duration.ofHours(1);
+
+    private final RoleMapper roleMapper;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    /**
+     * 批量获取角色数据权限
+     *
+     * @param roleCodes 角色编码集合
+     * @return 角色数据权限列表（不存在的角色不返回）
+     */
+    public List<RoleDataScope> getAll(Collection<String> roleCodes) {
+        if (CollectionUtil.isEmpty(roleCodes)) {
+            return List.of();
+        }
+        List<Object> roleCodeList = new ArrayList<>(new LinkedHashSet<>(roleCodes));
+        List<Object> cachedList = redisTemplate.opsForHash().multiGet(RedisConstants.System.ROLE_DATA_SCOPES, roleCodeList);
+
+        Map<String, RoleDataScope> dataScopeMap = new LinkedHashMap<>();
+        List<String> missingRoleCodes = new ArrayList<>();
+        for (int i = 0; i < roleCodeList.size(); i++) {
+            String roleCode = (String) roleCodeList.get(i);
+            Object cached = cachedList == null ? null : cachedList.get(i);
+            if (cached instanceof RoleDataScope dataScope) {
+                dataScopeMap.put(roleCode, dataScope);
+            } else {
+                dataScopeMap.put(roleCode, null);
+                missingRoleCodes.add(roleCode);
+            }
+        }
+
+        if (!missingRoleCodes.isEmpty()) {
+            Map<String, Object> toCache = new HashMap<>();
+            for (RoleDataScope dataScope : roleMapper.listRoleDataScopes(missingRoleCodes)) {
+                normalize(dataScope);
+                dataScopeMap.put(dataScope.getRoleCode(), dataScope);
+                toCache.put(dataScope.getRoleCode(), dataScope);
+            }
+            if (!toCache.isEmpty()) {
+                redisTemplate.opsForHash().putAll(RedisConstants.System.ROLE_DATA_SCOPES, toCache);
+                // 只在尚未设置过期时间时设置，避免持续回填使旧数据永不过期
+                Long expire = redisTemplate.getExpire(RedisConstants.System.ROLE_DATA_SCOPES);
+                if (expire != null && expire == -1) {
+                    redisTemplate.expire(RedisConstants.System.ROLE_DATA_SCOPES, TTL);
+                }
+            }
+        }
+
+        return dataScopeMap.values().stream()
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 清除角色数据权限缓存
+     * <p>
+     * 在事务中调用时延迟到事务提交后执行，避免并发登录在提交前把旧数据重新写回缓存
+     *
+     * @param roleCodes 角色编码
+     */
+    public void evict(String... roleCodes) {
+        Object[] codes = Arrays.stream(roleCodes)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toArray();
+        if (codes.length == 0) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    doEvict(codes);
+                }
+            });
+        } else {
+            doEvict(codes);
+        }
+    }
+
+    private void doEvict(Object[] roleCodes) {
+        redisTemplate.opsForHash().delete(RedisConstants.System.ROLE_DATA_SCOPES, roleCodes);
+        log.debug("角色{}数据权限缓存已清除", Arrays.toString(roleCodes));
+    }
+
+    /**
+     * 只有自定义数据权限保留部门ID列表（关联查询对其他角色会映射出空列表）
+     */
+    private void normalize(RoleDataScope dataScope) {
+        if (DataScopeEnum.CUSTOM.getValue().equals(dataScope.getDataScope())) {
+            if (dataScope.getCustomDeptIds() == null) {
+                dataScope.setCustomDeptIds(new ArrayList<>());
+            }
+        } else {
+            dataScope.setCustomDeptIds(null);
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.youlai.boot.system.cache;
+
+import cn.hutool.core.util.StrUtil;
+import com.youlai.boot.common.constant.RedisConstants;
+import com.youlai.boot.config.property.VisitStatsProperties;
+import com.youlai.boot.system.model.bo.VisitSummaryBO;
+import com.youlai.boot.system.writer.LogRecord;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+
+/**
+ * 访问量实时计数（Redis 计数器 + HyperLogLog）
+ * <p>
+ * 日志写入线程（或溢出线程）按批次把访问记录累加到按日、按小时分桶的计数中：
+ * <ul>
+ *   <li>PV：INCRBY 日计数与小时计数</li>
+ *   <li>UV：PFADD 日、小时与累计三个 HyperLogLog，误差约 0.81%</li>
+ *   <li>每个批次的所有命令在一次管道往返中发送，计数失败只记录日志，不影响日志写入</li>
+ * </ul>
+ * 分桶按配置的保留时长过期，过期前由日汇总任务写入汇总表；读取时桶不存在（未启用、已过期或 Redis 数据丢失）、
+ * 早于开始计数的时间（分桶不完整）或 Redis 不可用时返回 null，调用方应回退到数据库统计。
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VisitCounter {
+
+    private static final DateTimeFormatter DAY_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private static final DateTimeFormatter HOUR_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHH");
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private final VisitStatsProperties properties;
+
+    /**
+     * 是否启用实时计数
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 累加一批访问记录
+     *
+     * @param records 日志原始记录
+     */
+    public void record(Collection<LogRecord> records) {
+        if (!properties.isEnabled() || records.isEmpty()) {
+            return;
+        }
+        // 先在本地按桶聚合，每个桶只发送一条 INCRBY 与一条 PFADD
+        Map<String, Long> pvCounts = new HashMap<>();
+        Map<String, Set<String>> uvMembers = new HashMap<>();
+        Set<String> totalMembers = new HashSet<>();
+        for (LogRecord record : records) {
+            LocalDateTime time = record.createTime() != null ? record.createTime() : LocalDateTime.now();
+            String day = time.format(DAY_FORMATTER);
+            String hour = time.format(HOUR_FORMATTER);
+            pvCounts.merge(StrUtil.format(RedisConstants.Statistics.PV_DAY, day), 1L, Long::sum);
+            pvCounts.merge(StrUtil.format(RedisConstants.Statistics.PV_HOUR, hour), 1L, Long::sum);
+            if (StrUtil.isNotBlank(record.ip())) {
+                uvMembers.computeIfAbsent(StrUtil.format(RedisConstants.Statistics.UV_DAY, day), k -> new HashSet<>())
+                        .add(record.ip());
+                uvMembers.computeIfAbsent(StrUtil.format(RedisConstants.Statistics.UV_HOUR, hour), k -> new HashSet<>())
+                        .add(record.ip());
+                totalMembers.add(record.ip());
+            }
+        }
+
+        long dayTtl = properties.getDayRetention().toSeconds();
+        long hourTtl = properties.getHourRetention().toSeconds();
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                pvCounts.forEach((key, count) -> {
+                    byte[] rawKey = raw(key);
+                    connection.stringCommands().incrBy(rawKey, count);
+                    connection.keyCommands().expire(rawKey, ttlOf(key, dayTtl, hourTtl));
+                });
+                uvMembers.forEach((key, members) -> {
+                    byte[] rawKey = raw(key);
+                    connection.hyperLogLogCommands().pfAdd(rawKey, raw(members));
+                    connection.keyCommands().expire(rawKey, ttlOf(key, dayTtl, hourTtl));
+                });
+                connection.stringCommands().setNX(raw(RedisConstants.Statistics.SINCE),
+                        raw(String.valueOf(System.currentTimeMillis())));
+                if (!totalMembers.isEmpty()) {
+                    connection.hyperLogLogCommands().pfAdd(raw(RedisConstants.Statistics.UV_TOTAL), raw(totalMembers));
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("访问量实时计数失败：{}", e.getMessage());
+        }
+    }
+
+    /**
+     * 批量获取日访问量
+     *
+     * @param dates 日期列表
+     * @return 与日期一一对应，未计数的日期为 null
+     */
+    public List<VisitSummaryBO> getDaySummaries(List<LocalDate> dates) {
+        List<VisitSummaryBO> summaries = new ArrayList<>(Collections.nCopies(dates.size(), null));
+        if (!properties.isEnabled() || dates.isEmpty()) {
+            return summaries;
+        }
+        List<Object> results;
+        try {
+            results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.stringCommands().get(raw(RedisConstants.Statistics.SINCE));
+                for (LocalDate date : dates) {
+                    String day = date.format(DAY_FORMATTER);
+                    connection.stringCommands().get(raw(StrUtil.format(RedisConstants.Statistics.PV_DAY, day)));
+                    connection.hyperLogLogCommands().pfCount(raw(StrUtil.format(RedisConstants.Statistics.UV_DAY, day)));
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("读取访问量实时计数失败，回退到数据库统计：{}", e.getMessage());
+            return summaries;
+        }
+        for (int i = 0; i < dates.size(); i++) {
+            if (isComplete(dates.get(i), results.get(0))) {
+                summaries.set(i, toSummary(results.get(i * 2 + 1), results.get(i * 2 + 2)));
+            }
+        }
+        return summaries;
+    }
+
+    /**
+     * 获取指定日期从 0 点到指定小时（含）的访问量，UV 为各小时 HyperLogLog 的并集基数
+     *
+     * @param date     日期
+     * @param lastHour 截止小时（0-23）
+     * @return 访问量，该日期未计数时返回 null
+     */
+    public VisitSummaryBO getHourSummary(LocalDate date, int lastHour) {
+        if (!properties.isEnabled()) {
+            return null;
+        }
+        String[] pvKeys = new String[lastHour + 1];
+        byte[][] uvKeys = new byte[lastHour + 1][];
+        for (int hour = 0; hour <= lastHour; hour++) {
+            String hourText = date.atTime(hour, 0).format(HOUR_FORMATTER);
+            pvKeys[hour] = StrUtil.format(RedisConstants.Statistics.PV_HOUR, hourText);
+            uvKeys[hour] = raw(StrUtil.format(RedisConstants.Statistics.UV_HOUR, hourText));
+        }
+        List<Object> results;
+        try {
+            results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.stringCommands().get(raw(RedisConstants.Statistics.SINCE));
+                connection.stringCommands().get(raw(StrUtil.format(RedisConstants.Statistics.PV_DAY, date.format(DAY_FORMATTER))));
+                for (String pvKey : pvKeys) {
+                    connection.stringCommands().get(raw(pvKey));
+                }
+                connection.hyperLogLogCommands().pfCount(uvKeys);
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("读取小时访问量实时计数失败，回退到数据库统计：{}", e.getMessage());
+            return null;
+        }
+        // 日计数不存在说明该日未计数
+        if (!isComplete(date, results.get(0)) || results.get(1) == null) {
+            return null;
+        }
+        long pv = 0;
+        for (int i = 2; i <= pvKeys.length + 1; i++) {
+            if (results.get(i) instanceof Number number) {
+                pv += number.longValue();
+            }
+        }
+        return toSummary(pv, results.get(results.size() - 1));
+    }
+
+    /**
+     * 获取累计独立访客数
+     *
+     * @return 累计独立访客数，尚未从访客 IP 登记表导入历史访客时返回 null
+     */
+    public Long getTotalUv() {
+        if (!properties.isEnabled()) {
+            return null;
+        }
+        try {
+            if (!isTotalUvSeeded()) {
+                return null;
+            }
+            return redisTemplate.opsForHyperLogLog().size(RedisConstants.Statistics.UV_TOTAL);
+        } catch (Exception e) {
+            log.warn("读取累计独立访客数失败，回退到数据库统计：{}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 累计访客是否已导入历史访客
+     */
+    public boolean isTotalUvSeeded() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(RedisConstants.Statistics.UV_TOTAL_SEEDED));
+    }
+
+    /**
+     * 导入一批历史访客 IP 到累计访客
+     *
+     * @param ips 访客 IP
+     */
+    public void seedTotalUv(Collection<String> ips) {
+        if (!ips.isEmpty()) {
+            redisTemplate.execute((RedisCallback<Long>) connection ->
+                    connection.hyperLogLogCommands().pfAdd(raw(RedisConstants.Statistics.UV_TOTAL), raw(ips)));
+        }
+    }
+
+    /**
+     * 标记历史访客导入完成
+     */
+    public void markTotalUvSeeded() {
+        redisTemplate.opsForValue().set(RedisConstants.Statistics.UV_TOTAL_SEEDED, System.currentTimeMillis());
+    }
+
+    /**
+     * 该日期的分桶是否完整：开始计数的时间不晚于当日 0 点
+     */
+    private boolean isComplete(LocalDate date, Object since) {
+        return since instanceof Number sinceMillis
+                && sinceMillis.longValue() <= date.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private VisitSummaryBO toSummary(Object pv, Object uv) {
+        if (!(pv instanceof Number pvCount)) {
+            return null;
+        }
+        VisitSummaryBO summary = new VisitSummaryBO();
+        summary.setPvCount(pvCount.longValue());
+        summary.setUvCount(uv instanceof Number uvCount ? uvCount.longValue() : 0L);
+        return summary;
+    }
+
+    private static long ttlOf(String key, long dayTtl, long hourTtl) {
+        return key.contains(":hour:") ? hourTtl : dayTtl;
+    }
+
+    private static byte[] raw(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[][] raw(Collection<String> values) {
+        return values.stream().map(VisitCounter::raw).toArray(byte[][]::new);
+    }
+}
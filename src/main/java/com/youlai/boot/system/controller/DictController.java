@@ -10,6 +10,7 @@ import com.youlai.boot.system.model.query.DictItemQuery;
 import com.youlai.boot.system.model.query.DictQuery;
 import com.youlai.boot.system.model.vo.DictItemOptionVO;
 import com.youlai.boot.system.model.vo.DictItemPageVO;
+import com.youlai.boot.system.model.vo.DictItemsVO;
 import com.youlai.boot.system.model.vo.DictPageVO;
 import com.youlai.boot.common.annotation.RepeatSubmit;
 import com.youlai.boot.system.model.form.DictForm;
@@ -145,6 +146,17 @@ public class DictController {
         return Result.success(list);
     }
 
+    @Operation(summary = "批量获取字典数据")
+    @GetMapping("/items")
+    public Result<List<DictItemsVO>> listDictItems(
+            @Parameter(description = "字典编码，多个以英文逗号(,)拼接") @RequestParam List<String> codes,
+            @Parameter(description = "客户端已缓存的字典版本号，与字典编码一一对应，版本未变化的字典不返回字典项")
+            @RequestParam(required = false) List<Long> versions
+    ) {
+        List<DictItemsVO> list = dictItemService.listDictItems(codes, versions);
+        return Result.success(list);
+    }
+
     @Operation(summary = "新增字典项")
     @PostMapping("/{dictCode}/items")
     @PreAuthorize("@ss.hasPerm('sys:dict-item:create')")
@@ -2,9 +2,13 @@ package com.youlai.boot.system.controller;
 
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.youlai.boot.core.web.PageResult;
+import com.youlai.boot.core.web.Result;
 import com.youlai.boot.system.model.query.LogQuery;
+import com.youlai.boot.system.model.vo.LogCursorPageVO;
 import com.youlai.boot.system.model.vo.LogPageVO;
+import com.youlai.boot.system.model.vo.LogWriterStatsVO;
 import com.youlai.boot.system.service.LogService;
+import com.youlai.boot.system.writer.AsyncLogWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -23,6 +27,7 @@ import org.springframework.web.bind.annotation.*;
 public class LogController {
 
     private final LogService logService;
+    private final AsyncLogWriter asyncLogWriter;
 
     @Operation(summary = "日志分页列表")
     @GetMapping
@@ -33,4 +38,20 @@ public class LogController {
         return PageResult.success(result);
     }
 
+    @Operation(summary = "日志游标分页列表")
+    @GetMapping("/cursor")
+    public Result<LogCursorPageVO> getLogCursorPage(
+            LogQuery queryParams
+    ) {
+        LogCursorPageVO result = logService.getLogCursorPage(queryParams);
+        return Result.success(result);
+    }
+
+    @Operation(summary = "日志写入状态")
+    @GetMapping("/writer-stats")
+    public Result<LogWriterStatsVO> getWriterStats() {
+        LogWriterStatsVO result = asyncLogWriter.getStats();
+        return Result.success(result);
+    }
+
 }
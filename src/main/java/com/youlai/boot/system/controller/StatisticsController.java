@@ -1,6 +1,8 @@
 package com.youlai.boot.system.controller;
 
+import com.youlai.boot.core.ratelimit.ConcurrencyLimiterRegistry;
 import com.youlai.boot.core.web.Result;
+import com.youlai.boot.system.model.vo.ConcurrencyLimitVO;
 import com.youlai.boot.system.model.vo.VisitStatsVO;
 import com.youlai.boot.system.model.vo.VisitTrendVO;
 import com.youlai.boot.system.service.LogService;
@@ -8,9 +10,11 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
+import java.util.List;
 
 /**
  * 统计分析控制层
@@ -25,6 +29,7 @@ import java.time.LocalDate;
 public class StatisticsController {
 
     private final LogService logService;
+    private final ConcurrencyLimiterRegistry concurrencyLimiterRegistry;
 
     @Operation(summary = "访问趋势统计")
     @GetMapping("/visits/trend")
@@ -44,4 +49,12 @@ public class StatisticsController {
         VisitStatsVO result = logService.getVisitStats();
         return Result.success(result);
     }
+
+    @Operation(summary = "并发限流状态")
+    @GetMapping("/concurrency-limits")
+    @PreAuthorize("@ss.hasPerm('sys:config:list')")
+    public Result<List<ConcurrencyLimitVO>> listConcurrencyLimits() {
+        List<ConcurrencyLimitVO> result = concurrencyLimiterRegistry.listStats();
+        return Result.success(result);
+    }
 }
@@ -4,13 +4,18 @@ import cn.idev.excel.EasyExcel;
 import cn.idev.excel.ExcelWriter;
 import com.baomidou.mybatisplus.core.conditions.update.LambdaUpdateWrapper;
 import com.youlai.boot.common.annotation.Log;
+import com.youlai.boot.common.annotation.RateLimit;
 import com.youlai.boot.common.annotation.RepeatSubmit;
 import com.youlai.boot.common.enums.LogModuleEnum;
+import com.youlai.boot.common.enums.RateLimitKeyTypeEnum;
 import com.youlai.boot.common.model.Option;
 import com.youlai.boot.core.web.ExcelResult;
 import com.youlai.boot.core.web.PageResult;
 import com.youlai.boot.core.web.Result;
+import com.youlai.boot.common.util.ExcelChunkWriter;
 import com.youlai.boot.common.util.ExcelUtils;
+import com.youlai.boot.platform.export.model.vo.ExportJobVO;
+import com.youlai.boot.platform.importer.model.vo.ImportJobVO;
 import com.youlai.boot.security.util.SecurityUtils;
 import com.youlai.boot.system.listener.UserImportListener;
 import com.youlai.boot.system.model.dto.UserExportDTO;
@@ -167,24 +172,48 @@ public class UserController {
     @PostMapping("/import")
     @PreAuthorize("@ss.hasPerm('sys:user:import')")
     @Log(value = "导入用户", module = LogModuleEnum.USER)
+    @RateLimit(name = "user-import", keyType = RateLimitKeyTypeEnum.USER, limit = 3, window = 60)
     public Result<ExcelResult> importUsers(MultipartFile file) throws IOException {
         UserImportListener listener = new UserImportListener();
         ExcelUtils.importExcel(file.getInputStream(), UserImportDTO.class, listener);
         return Result.success(listener.getExcelResult());
     }
 
+    @Operation(summary = "提交用户导入任务", description = "后台解析写入，通过 /api/v1/import-jobs/{jobId} 查询进度并下载错误报告")
+    @PostMapping("/import-jobs")
+    @PreAuthorize("@ss.hasPerm('sys:user:import')")
+    @Log(value = "提交用户导入任务", module = LogModuleEnum.USER)
+    @RateLimit(name = "user-import-job", keyType = RateLimitKeyTypeEnum.USER, limit = 2, window = 60)
+    public Result<ImportJobVO> submitImportJob(MultipartFile file) throws IOException {
+        ImportJobVO job = userService.submitImportJob(file);
+        return Result.success(job);
+    }
+
     @Operation(summary = "导出用户")
     @GetMapping("/export")
     @PreAuthorize("@ss.hasPerm('sys:user:export')")
     @Log(value = "导出用户", module = LogModuleEnum.USER)
+    @RateLimit(name = "user-export", keyType = RateLimitKeyTypeEnum.USER, limit = 5, window = 60)
     public void exportUsers(UserQuery queryParams, HttpServletResponse response) throws IOException {
         String fileName = "用户列表.xlsx";
         response.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
         response.setHeader("Content-Disposition", "attachment; filename=" + URLEncoder.encode(fileName, StandardCharsets.UTF_8));
 
-        List<UserExportDTO> exportUserList = userService.listExportUsers(queryParams);
-        EasyExcel.write(response.getOutputStream(), UserExportDTO.class).sheet("用户列表")
-                .doWrite(exportUserList);
+        // 流式读取、分块写入，内存占用与导出行数无关
+        try (ExcelChunkWriter<UserExportDTO> writer =
+                     new ExcelChunkWriter<>(response.getOutputStream(), UserExportDTO.class, "用户列表")) {
+            userService.exportUsers(queryParams, writer);
+        }
+    }
+
+    @Operation(summary = "提交用户导出任务", description = "后台生成文件，通过 /api/v1/export-jobs/{jobId} 查询进度并下载")
+    @PostMapping("/export-jobs")
+    @PreAuthorize("@ss.hasPerm('sys:user:export')")
+    @Log(value = "提交用户导出任务", module = LogModuleEnum.USER)
+    @RateLimit(name = "user-export-job", keyType = RateLimitKeyTypeEnum.USER, limit = 3, window = 60)
+    public Result<ExportJobVO> submitExportJob(@RequestBody UserQuery queryParams) {
+        ExportJobVO job = userService.submitExportJob(queryParams);
+        return Result.success(job);
     }
 
     @Operation(summary = "获取用户下拉选项")
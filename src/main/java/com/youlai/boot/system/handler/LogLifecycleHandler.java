@@ -0,0 +1,29 @@
+package com.youlai.boot.system.handler;
+
+import com.xxl.job.core.context.XxlJobHelper;
+import com.xxl.job.core.handler.annotation.XxlJob;
+import com.youlai.boot.system.archive.LogLifecycleManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * 日志分区维护定时任务（建议每天执行）
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class LogLifecycleHandler {
+
+    private final LogLifecycleManager logLifecycleManager;
+
+    @XxlJob("logLifecycleJobHandler")
+    public void maintain() throws IOException {
+        int dropped = logLifecycleManager.maintain();
+        XxlJobHelper.log("日志分区维护完成，删除过期分区 {} 个", dropped);
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.youlai.boot.system.handler;
+
+import com.xxl.job.core.context.XxlJobHelper;
+import com.xxl.job.core.handler.annotation.XxlJob;
+import com.youlai.boot.system.writer.LogSearchIndexer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 日志检索表同步定时任务（建议每 10 秒执行，间隔应小于 search.log-index-lag）
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class LogSearchIndexHandler {
+
+    private final LogSearchIndexer logSearchIndexer;
+
+    @XxlJob("logSearchIndexJobHandler")
+    public void sync() {
+        int synced = logSearchIndexer.sync();
+        XxlJobHelper.log("日志检索表同步完成，新同步 {} 条", synced);
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.youlai.boot.system.handler;
+
+import com.xxl.job.core.context.XxlJobHelper;
+import com.xxl.job.core.handler.annotation.XxlJob;
+import com.youlai.boot.system.service.LogService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 访问量日汇总定时任务（建议每天凌晨执行）
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class VisitStatsRollupHandler {
+
+    private final LogService logService;
+
+    @XxlJob("visitStatsRollupJobHandler")
+    public void rollup() {
+        int days = logService.rollupVisitStats();
+        XxlJobHelper.log("访问量日汇总完成，共汇总 {} 天", days);
+    }
+
+}
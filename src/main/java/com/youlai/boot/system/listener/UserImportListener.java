@@ -1,35 +1,39 @@
 package com.youlai.boot.system.listener;
 
-import cn.hutool.core.collection.CollectionUtil;
-import cn.hutool.core.convert.Convert;
+import cn.hutool.core.bean.BeanUtil;
 import cn.hutool.core.lang.Validator;
 import cn.hutool.core.util.StrUtil;
 import cn.hutool.extra.spring.SpringUtil;
-import cn.hutool.json.JSONUtil;
 import cn.idev.excel.context.AnalysisContext;
 import cn.idev.excel.event.AnalysisEventListener;
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.youlai.boot.common.constant.SystemConstants;
 import com.youlai.boot.common.enums.StatusEnum;
 import com.youlai.boot.core.web.ExcelResult;
+import com.youlai.boot.platform.importer.service.ImportJobContext;
 import com.youlai.boot.system.converter.UserConverter;
-import com.youlai.boot.system.enums.DictCodeEnum;
 import com.youlai.boot.system.model.dto.UserImportDTO;
+import com.youlai.boot.system.model.dto.UserImportErrorDTO;
 import com.youlai.boot.system.model.entity.*;
 import com.youlai.boot.system.service.*;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 /**
  * 用户导入监听器
  * <p>
  * <a href="https://easyexcel.opensource.alibaba.com/docs/current/quickstart/read#%E6%9C%80%E7%AE%80%E5%8D%95%E7%9A%84%E8%AF%BB%E7%9A%84%E7%9B%91%E5%90%AC%E5%99%A8">最简单的读的监听器</a>
+ * <p>
+ * 按批处理：逐行只做字段校验和文件内用户名查重，攒满 {@link #BATCH_SIZE} 行后
+ * 一次 IN 查询校验用户名是否已存在、在有界线程池中并行加密默认密码、多行 INSERT 写入用户和用户角色。
  *
  * @author Ray
  * @since 2022/4/10
@@ -37,6 +41,26 @@ import java.util.stream.Collectors;
 @Slf4j
 public class UserImportListener extends AnalysisEventListener<UserImportDTO> {
 
+    /**
+     * 每批处理的行数
+     */
+    private static final int BATCH_SIZE = 500;
+
+    /**
+     * 密码加密线程池（BCrypt 为 CPU 密集型，所有导入共用，线程数不超过 CPU 核数）
+     */
+    private static final ExecutorService PASSWORD_ENCODE_POOL;
+
+    static {
+        int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+        AtomicInteger threadIndex = new AtomicInteger();
+        PASSWORD_ENCODE_POOL = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "user-import-encoder-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
     /**
      * Excel 导入结果
      */
@@ -46,11 +70,31 @@ public class UserImportListener extends AnalysisEventListener<UserImportDTO> {
     private final UserService userService;
     private final PasswordEncoder passwordEncoder;
     private final UserConverter userConverter;
-    private final UserRoleService userRoleService;
 
-    private final List<Role> roleList;
-    private final List<Dept> deptList;
-    private final List<DictItem> genderList;
+    /**
+     * 角色编码 -> 角色ID
+     */
+    private final Map<String, Long> roleIdMap;
+
+    /**
+     * 部门编码 -> 部门ID
+     */
+    private final Map<String, Long> deptIdMap;
+
+    /**
+     * 文件中已出现的用户名，用于文件内查重
+     */
+    private final Set<String> fileUsernames = new HashSet<>();
+
+    /**
+     * 待入库的行
+     */
+    private final List<PendingRow> pendingRows = new ArrayList<>(BATCH_SIZE);
+
+    /**
+     * 后台导入任务上下文，同步导入时为空
+     */
+    private final ImportJobContext<UserImportErrorDTO> jobContext;
 
     /**
      * 当前行
@@ -62,44 +106,60 @@ public class UserImportListener extends AnalysisEventListener<UserImportDTO> {
      * <p>在构造方法中给需要查询的内容查询好，尽量避免每条数据查询一次</p>
      */
     public UserImportListener() {
+        this(null);
+    }
+
+    /**
+     * 后台导入任务使用：进度与失败行上报到任务上下文，失败行写入错误报告而不在内存中累积
+     *
+     * @param jobContext 导入任务上下文
+     */
+    public UserImportListener(ImportJobContext<UserImportErrorDTO> jobContext) {
+        this.jobContext = jobContext;
         this.userService = SpringUtil.getBean(UserService.class);
         this.passwordEncoder = SpringUtil.getBean(PasswordEncoder.class);
-        this.userRoleService = SpringUtil.getBean(UserRoleService.class);
         this.userConverter = SpringUtil.getBean(UserConverter.class);
-        this.roleList = SpringUtil.getBean(RoleService.class)
+        this.roleIdMap = SpringUtil.getBean(RoleService.class)
                 .list(new LambdaQueryWrapper<Role>().eq(Role::getStatus, StatusEnum.ENABLE.getValue())
-                        .select(Role::getId, Role::getCode));
-        this.deptList = SpringUtil.getBean(DeptService.class)
-                .list(new LambdaQueryWrapper<Dept>().select(Dept::getId, Dept::getCode));
-        this.genderList = SpringUtil.getBean(DictItemService.class)
-                .list(new LambdaQueryWrapper<DictItem>().eq(DictItem::getDictCode, DictCodeEnum.GENDER.getValue()));
+                        .select(Role::getId, Role::getCode))
+                .stream()
+                .filter(role -> role.getCode() != null)
+                .collect(Collectors.toMap(Role::getCode, Role::getId, (a, b) -> a));
+        this.deptIdMap = SpringUtil.getBean(DeptService.class)
+                .list(new LambdaQueryWrapper<Dept>().select(Dept::getId, Dept::getCode))
+                .stream()
+                .filter(dept -> dept.getCode() != null)
+                .collect(Collectors.toMap(Dept::getCode, Dept::getId, (a, b) -> a));
         this.excelResult = new ExcelResult();
     }
 
     /**
      * 每一条数据解析都会来调用
      * <p>
-     * 1. 数据校验；全字段校验
-     * 2. 数据持久化；
+     * 1. 字段校验、文件内用户名查重；
+     * 2. 校验通过的行攒满一批后统一校验用户名是否已存在并持久化；
      *
      * @param userImportDto 一行数据，类似于 {@link AnalysisContext#readRowHolder()}
      */
     @Override
     public void invoke(UserImportDTO userImportDto, AnalysisContext analysisContext) {
-        log.info("解析到一条用户数据:{}", JSONUtil.toJsonStr(userImportDto));
+        if (jobContext != null && currentRow == 1) {
+            Integer approximateRows = analysisContext.readSheetHolder().getApproximateTotalRowNumber();
+            if (approximateRows != null) {
+                // 估算行数包含表头
+                jobContext.setTotalRows(Math.max(0, approximateRows - 1));
+            }
+        }
 
         boolean validation = true;
-        String errorMsg = "第" + currentRow + "行数据校验失败：";
+        String errorMsg = "";
         String username = userImportDto.getUsername();
         if (StrUtil.isBlank(username)) {
             errorMsg += "用户名为空；";
             validation = false;
-        } else {
-            long count = userService.count(new LambdaQueryWrapper<User>().eq(User::getUsername, username));
-            if (count > 0) {
-                errorMsg += "用户名已存在；";
-                validation = false;
-            }
+        } else if (!fileUsernames.add(username)) {
+            errorMsg += "用户名在文件中重复；";
+            validation = false;
         }
 
         String nickname = userImportDto.getNickname();
@@ -120,41 +180,116 @@ public class UserImportListener extends AnalysisEventListener<UserImportDTO> {
         }
 
         if (validation) {
-            // 校验通过，持久化至数据库
-            User entity = userConverter.toEntity(userImportDto);
-            entity.setPassword(passwordEncoder.encode(SystemConstants.DEFAULT_PASSWORD));   // 默认密码
-            // 性别逆向翻译 根据字典标签得到字典值
-            String genderLabel = userImportDto.getGenderLabel();
-            entity.setGender(getGenderValue(genderLabel));
-            // 角色解析
-            String roleCodes = userImportDto.getRoleCodes();
-            List<Long> roleIds = getRoleIds(roleCodes);
-            // 部门解析
-            String deptCode = userImportDto.getDeptCode();
-            entity.setDeptId(getDeptId(deptCode));
-
-            boolean saveResult = userService.save(entity);
-            if (saveResult) {
-                excelResult.setValidCount(excelResult.getValidCount() + 1);
-                // 保存用户角色关联
-                if (CollectionUtil.isNotEmpty(roleIds)) {
-                    List<UserRole> userRoles = roleIds.stream()
-                            .map(roleId -> new UserRole(entity.getId(), roleId))
-                            .collect(Collectors.toList());
-                    userRoleService.saveBatch(userRoles);
-                }
-            } else {
-                excelResult.setInvalidCount(excelResult.getInvalidCount() + 1);
-                errorMsg += "第" + currentRow + "行数据保存失败；";
-                excelResult.getMessageList().add(errorMsg);
+            pendingRows.add(new PendingRow(currentRow, userImportDto));
+            if (pendingRows.size() >= BATCH_SIZE) {
+                saveBatch();
             }
         } else {
-            excelResult.setInvalidCount(excelResult.getInvalidCount() + 1);
-            excelResult.getMessageList().add(errorMsg);
+            addError(currentRow, userImportDto, "第" + currentRow + "行数据校验失败：" + errorMsg, errorMsg);
         }
         currentRow++;
     }
 
+    /**
+     * 校验并保存一批数据
+     * <p>
+     * 用户名已存在的行记为失败；整批写入失败时该批所有行记为失败。
+     */
+    private void saveBatch() {
+        if (pendingRows.isEmpty()) {
+            return;
+        }
+        List<PendingRow> rows = new ArrayList<>(pendingRows);
+        pendingRows.clear();
+
+        // 一次 IN 查询校验整批用户名
+        Set<String> existingUsernames = userService.listExistingUsernames(
+                rows.stream().map(row -> row.data().getUsername()).toList());
+
+        List<PendingRow> validRows = new ArrayList<>(rows.size());
+        for (PendingRow row : rows) {
+            if (existingUsernames.contains(row.data().getUsername())) {
+                addError(row.rowNum(), row.data(), "第" + row.rowNum() + "行数据校验失败：用户名已存在；", "用户名已存在；");
+            } else {
+                validRows.add(row);
+            }
+        }
+        if (validRows.isEmpty()) {
+            return;
+        }
+
+        // 并行加密默认密码（BCrypt 每次加盐，单次耗时数十毫秒）
+        List<CompletableFuture<String>> passwords = validRows.stream()
+                .map(row -> CompletableFuture.supplyAsync(
+                        () -> passwordEncoder.encode(SystemConstants.DEFAULT_PASSWORD), PASSWORD_ENCODE_POOL))
+                .toList();
+
+        List<User> users = new ArrayList<>(validRows.size());
+        List<List<Long>> roleIdsList = new ArrayList<>(validRows.size());
+        for (int i = 0; i < validRows.size(); i++) {
+            UserImportDTO data = validRows.get(i).data();
+            User entity = userConverter.toEntity(data);
+            entity.setPassword(passwords.get(i).join());   // 默认密码
+            entity.setDeptId(getDeptId(data.getDeptCode()));
+            users.add(entity);
+            roleIdsList.add(getRoleIds(data.getRoleCodes()));
+        }
+
+        try {
+            userService.saveImportBatch(users, roleIdsList);
+            excelResult.setValidCount(excelResult.getValidCount() + users.size());
+            if (jobContext != null) {
+                jobContext.success(users.size());
+            }
+            log.debug("已导入用户 {} 条，当前行 {}", users.size(), currentRow);
+        } catch (Exception e) {
+            log.warn("用户批量导入失败，逐行重试：第{}-{}行 {}", validRows.get(0).rowNum(),
+                    validRows.get(validRows.size() - 1).rowNum(), e.getMessage());
+            saveRowByRow(validRows, users, roleIdsList);
+        }
+    }
+
+    /**
+     * 批量保存失败后逐行重试，只把真正保存失败的行记为错误
+     */
+    private void saveRowByRow(List<PendingRow> rows, List<User> users, List<List<Long>> roleIdsList) {
+        for (int i = 0; i < rows.size(); i++) {
+            PendingRow row = rows.get(i);
+            User user = users.get(i);
+            // 批量插入已回滚，清除可能回填的主键
+            user.setId(null);
+            try {
+                userService.saveImportBatch(List.of(user), List.of(roleIdsList.get(i)));
+                excelResult.setValidCount(excelResult.getValidCount() + 1);
+                if (jobContext != null) {
+                    jobContext.success(1);
+                }
+            } catch (Exception e) {
+                log.error("用户导入失败：第{}行", row.rowNum(), e);
+                addError(row.rowNum(), row.data(), "第" + row.rowNum() + "行数据保存失败；", "数据保存失败；");
+            }
+        }
+    }
+
+    /**
+     * 记录失败行：同步导入时加入结果信息，后台导入时上报到任务上下文（写入错误报告）
+     *
+     * @param rowNum  行号
+     * @param data    行数据
+     * @param message 错误信息
+     * @param reason  失败原因（不含行号）
+     */
+    private void addError(int rowNum, UserImportDTO data, String message, String reason) {
+        excelResult.setInvalidCount(excelResult.getInvalidCount() + 1);
+        if (jobContext == null) {
+            excelResult.getMessageList().add(message);
+            return;
+        }
+        UserImportErrorDTO errorRow = BeanUtil.copyProperties(data, UserImportErrorDTO.class);
+        errorRow.setRowNum(rowNum);
+        errorRow.setReason(reason);
+        jobContext.fail(message, errorRow);
+    }
 
     /**
      * 根据角色编码获取角色ID
@@ -163,18 +298,14 @@ public class UserImportListener extends AnalysisEventListener<UserImportDTO> {
      * @return 角色ID集合
      */
     private List<Long> getRoleIds(String roleCodes) {
-        if (StrUtil.isNotBlank(roleCodes)) {
-            String[] split = roleCodes.split(",");
-            if (split.length > 0) {
-                List<Long> roleIds = new ArrayList<>();
-                for (String roleCode : split) {
-                    this.roleList.stream().filter(r -> r.getCode().equals(roleCode))
-                            .findFirst().ifPresent(role -> roleIds.add(role.getId()));
-                }
-                return roleIds.stream().distinct().toList();
-            }
+        if (StrUtil.isBlank(roleCodes)) {
+            return Collections.emptyList();
         }
-        return Collections.emptyList();
+        return Arrays.stream(roleCodes.split(","))
+                .map(roleIdMap::get)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
     }
 
     /**
@@ -185,26 +316,7 @@ public class UserImportListener extends AnalysisEventListener<UserImportDTO> {
      */
     private Long getDeptId(String deptCode) {
         if (StrUtil.isNotBlank(deptCode)) {
-            return this.deptList.stream().filter(r -> r.getCode().equals(deptCode))
-                    .findFirst().map(Dept::getId).orElse(null);
-        }
-        return null;
-    }
-
-    /**
-     * 根据性别标签获取性别值
-     *
-     * @param genderLabel 性别标签
-     * @return 性别值
-     */
-    private Integer getGenderValue(String genderLabel) {
-        if (StrUtil.isNotBlank(genderLabel)) {
-            return this.genderList.stream()
-                    .filter(r -> r.getLabel().equals(genderLabel))
-                    .findFirst()
-                    .map(DictItem::getValue)
-                    .map(Convert::toInt)
-                    .orElse(null);
+            return deptIdMap.get(deptCode);
         }
         return null;
     }
@@ -214,7 +326,17 @@ public class UserImportListener extends AnalysisEventListener<UserImportDTO> {
      */
     @Override
     public void doAfterAllAnalysed(AnalysisContext analysisContext) {
-        log.info("所有数据解析完成！");
+        saveBatch();
+        log.info("所有数据解析完成！成功 {} 条，失败 {} 条", excelResult.getValidCount(), excelResult.getInvalidCount());
+    }
+
+    /**
+     * 待入库的行
+     *
+     * @param rowNum 行号
+     * @param data   行数据
+     */
+    private record PendingRow(int rowNum, UserImportDTO data) {
     }
 
 }
@@ -17,4 +17,13 @@ public interface DeptMapper extends BaseMapper<Dept> {
     @DataPermission(deptIdColumnName = "id")
     @Override
     List<Dept> selectList(@Param(Constants.WRAPPER) Wrapper<Dept> queryWrapper);
+
+    /**
+     * 替换子树所有后代部门的树路径前缀（单条 SQL 完成整棵子树更新）
+     *
+     * @param oldPrefix 移动前后代部门的树路径前缀（原树路径 + , + 部门ID）
+     * @param newPrefix 移动后后代部门的树路径前缀（新树路径 + , + 部门ID）
+     * @return 受影响行数
+     */
+    int updateSubtreeTreePath(@Param("oldPrefix") String oldPrefix, @Param("newPrefix") String newPrefix);
 }
@@ -2,12 +2,13 @@ package com.youlai.boot.system.mapper;
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.youlai.boot.system.model.bo.LogCursorBO;
 import com.youlai.boot.system.model.bo.VisitCountBO;
-import com.youlai.boot.system.model.bo.VisitStatsBO;
 import com.youlai.boot.system.model.entity.Log;
 import com.youlai.boot.system.model.query.LogQuery;
 import com.youlai.boot.system.model.vo.LogPageVO;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
 
@@ -21,11 +22,40 @@ import java.util.List;
 @Mapper
 public interface LogMapper extends BaseMapper<Log> {
 
+    /**
+     * 批量插入日志（单条多行 INSERT）
+     *
+     * @param logs 日志列表
+     * @return 插入条数
+     */
+    int insertBatch(@Param("logs") List<Log> logs);
+
     /**
      * 获取日志分页列表
      */
     Page<LogPageVO> getLogPage(Page<LogPageVO> page, LogQuery queryParams);
 
+    /**
+     * 获取日志游标分页列表（按创建时间、主键倒序）
+     *
+     * @param queryParams 查询参数
+     * @param cursor      上一页最后一条日志的游标，为空时查询第一页
+     * @param limit       查询条数
+     */
+    List<LogPageVO> getLogCursorList(@Param("queryParams") LogQuery queryParams,
+                                     @Param("cursor") LogCursorBO cursor,
+                                     @Param("limit") int limit);
+
+    /**
+     * 统计日志总数
+     */
+    long countLogs(@Param("queryParams") LogQuery queryParams);
+
+    /**
+     * 估算日志总数（表统计信息）
+     */
+    Long estimateLogCount();
+
     /**
      * 统计浏览数(PV)
      *
@@ -42,15 +72,6 @@ public interface LogMapper extends BaseMapper<Log> {
      */
     List<VisitCountBO> getIpCounts(String startDate, String endDate);
 
-    /**
-     * 获取浏览量(PV)统计
-     */
-    VisitStatsBO getPvStats();
-
-    /**
-     * 获取访问IP统计
-     */
-    VisitStatsBO getUvStats();
 }
 
 
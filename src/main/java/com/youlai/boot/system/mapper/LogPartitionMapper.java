@@ -0,0 +1,55 @@
+package com.youlai.boot.system.mapper;
+
+import com.youlai.boot.system.model.bo.LogPartitionBO;
+import com.youlai.boot.system.model.entity.Log;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * 系统日志分区数据访问层
+ * <p>
+ * 分区名由 {@link com.youlai.boot.system.archive.LogLifecycleManager} 按 pYYYYMM 生成，不接受外部输入
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+@Mapper
+public interface LogPartitionMapper {
+
+    /**
+     * 获取日志表的分区名（按分区顺序），未分区时返回空列表
+     */
+    List<String> listPartitions();
+
+    /**
+     * 从兜底分区 p_future 中拆分出新的月分区
+     *
+     * @param partitions 新分区，须按时间顺序且晚于已有的月分区
+     */
+    void addPartitions(@Param("partitions") List<LogPartitionBO> partitions);
+
+    /**
+     * 删除分区
+     *
+     * @param name 分区名
+     */
+    void dropPartition(@Param("name") String name);
+
+    /**
+     * 统计分区中的日志条数
+     *
+     * @param name 分区名
+     */
+    long countPartitionLogs(@Param("name") String name);
+
+    /**
+     * 按主键顺序分批读取分区中的日志
+     *
+     * @param name    分区名
+     * @param afterId 上一批最后一条日志的主键
+     * @param limit   每批数量
+     */
+    List<Log> listPartitionLogs(@Param("name") String name, @Param("afterId") long afterId, @Param("limit") int limit);
+}
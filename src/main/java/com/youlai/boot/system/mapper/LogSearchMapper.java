@@ -0,0 +1,44 @@
+package com.youlai.boot.system.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+
+/**
+ * 系统日志检索表数据访问层
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+@Mapper
+public interface LogSearchMapper {
+
+    /**
+     * 获取已同步的最大日志ID
+     */
+    long getMaxLogId();
+
+    /**
+     * 获取日志表的最大日志ID
+     */
+    long getMaxSourceLogId();
+
+    /**
+     * 把主键在 (afterId, toId] 范围内的日志同步到检索表（已同步的忽略）
+     *
+     * @param afterId 起始日志ID（不含）
+     * @param toId    截止日志ID（含）
+     * @return 新同步的条数
+     */
+    int syncLogs(@Param("afterId") long afterId, @Param("toId") long toId);
+
+    /**
+     * 删除创建时间早于指定时间的检索记录
+     *
+     * @param before 截止时间（不含）
+     * @param limit  最大条数
+     * @return 删除条数
+     */
+    int deleteBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
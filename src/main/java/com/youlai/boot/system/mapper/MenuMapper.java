@@ -3,6 +3,7 @@ package com.youlai.boot.system.mapper;
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import com.youlai.boot.system.model.entity.Menu;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
 import java.util.Set;
@@ -24,4 +25,13 @@ public interface MenuMapper extends BaseMapper<Menu> {
      */
     List<Menu> getMenusByRoleCodes(Set<String> roleCodes);
 
+    /**
+     * 替换子树所有后代节点的树路径前缀（单条 SQL 完成整棵子树更新）
+     *
+     * @param oldPrefix 移动前后代节点的树路径前缀（原树路径 + , + 节点ID）
+     * @param newPrefix 移动后后代节点的树路径前缀（新树路径 + , + 节点ID）
+     * @return 受影响行数
+     */
+    int updateSubtreeTreePath(@Param("oldPrefix") String oldPrefix, @Param("newPrefix") String newPrefix);
+
 }
@@ -1,6 +1,6 @@
 package com.youlai.boot.system.mapper;
 
-import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.youlai.boot.common.base.BatchMapper;
 import com.youlai.boot.system.model.entity.RoleDept;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
@@ -14,7 +14,7 @@ import java.util.List;
  * @since 3.0.0
  */
 @Mapper
-public interface RoleDeptMapper extends BaseMapper<RoleDept> {
+public interface RoleDeptMapper extends BatchMapper<RoleDept> {
 
     /**
      * 根据角色ID获取部门ID列表
@@ -1,12 +1,13 @@
 package com.youlai.boot.system.mapper;
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.youlai.boot.security.model.RoleDataScope;
 import com.youlai.boot.system.model.entity.Role;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 
 /**
@@ -27,13 +28,13 @@ public interface RoleMapper extends BaseMapper<Role> {
     Integer getMaximumDataScope(Set<String> roles);
 
     /**
-     * 获取角色的数据权限信息列表
+     * 批量获取角色的数据权限
      * <p>
-     * 返回角色编码和数据权限范围的映射列表
+     * 一次关联查询返回每个角色的数据权限范围，自定义数据权限的角色同时带出部门ID
      *
      * @param roleCodes 角色编码集合
-     * @return 角色数据权限信息列表 [{code: 'ADMIN', data_scope: 1}, ...]
+     * @return 角色数据权限列表
      */
-    List<Map<String, Object>> getRoleDataScopeList(@Param("roleCodes") Set<String> roleCodes);
+    List<RoleDataScope> listRoleDataScopes(@Param("roleCodes") Collection<String> roleCodes);
 
 }
@@ -1,6 +1,6 @@
 package com.youlai.boot.system.mapper;
 
-import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.youlai.boot.common.base.BatchMapper;
 import com.youlai.boot.system.model.bo.RolePermsBO;
 import com.youlai.boot.system.model.entity.RoleMenu;
 import org.apache.ibatis.annotations.Mapper;
@@ -15,7 +15,7 @@ import java.util.Set;
  * @since 2022/6/4
  */
 @Mapper
-public interface RoleMenuMapper extends BaseMapper<RoleMenu> {
+public interface RoleMenuMapper extends BatchMapper<RoleMenu> {
 
     /**
      * 获取角色拥有的菜单ID集合
@@ -11,7 +11,9 @@ import com.youlai.boot.security.model.UserAuthInfo;
 import com.youlai.boot.system.model.dto.UserExportDTO;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -66,13 +68,22 @@ public interface UserMapper extends BaseMapper<User> {
     }
 
     /**
-     * 获取导出用户列表
+     * 流式获取导出用户列表，逐行回调 handler，不在内存中保留整个结果集
      *
      * @param queryParams 查询参数
-     * @return 导出用户列表
+     * @param handler     行处理器
      */
     @DataPermission(deptAlias = "u", userAlias = "u")
-    List<UserExportDTO> listExportUsers(UserQuery queryParams);
+    void listExportUsers(UserQuery queryParams, ResultHandler<UserExportDTO> handler);
+
+    /**
+     * 统计用户导出行数
+     *
+     * @param queryParams 查询参数
+     * @return 导出行数
+     */
+    @DataPermission(deptAlias = "u", userAlias = "u")
+    long countExportUsers(UserQuery queryParams);
 
     /**
      * 获取用户个人中心信息
@@ -82,4 +93,20 @@ public interface UserMapper extends BaseMapper<User> {
      */
     UserBO getUserProfile(Long userId);
 
+    /**
+     * 获取已存在的用户名（含已逻辑删除的用户，用户名唯一索引同样约束这些记录）
+     *
+     * @param usernames 待校验的用户名
+     * @return 已存在的用户名
+     */
+    List<String> listExistingUsernames(@Param("usernames") Collection<String> usernames);
+
+    /**
+     * 批量插入用户（多行 INSERT），回填自增主键
+     *
+     * @param users 用户列表
+     * @return 插入条数
+     */
+    int insertBatch(@Param("users") List<User> users);
+
 }
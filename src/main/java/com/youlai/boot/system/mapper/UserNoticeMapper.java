@@ -1,8 +1,8 @@
 package com.youlai.boot.system.mapper;
 
-import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import com.baomidou.mybatisplus.core.metadata.IPage;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.youlai.boot.common.base.BatchMapper;
 import com.youlai.boot.system.model.entity.UserNotice;
 import com.youlai.boot.system.model.query.NoticeQuery;
 import com.youlai.boot.system.model.vo.NoticePageVO;
@@ -18,7 +18,7 @@ import org.apache.ibatis.annotations.Param;
  * @since 2024-08-28 16:56
  */
 @Mapper
-public interface UserNoticeMapper extends BaseMapper<UserNotice> {
+public interface UserNoticeMapper extends BatchMapper<UserNotice> {
     /**
      * 分页获取我的通知公告
      * @param page 分页对象
@@ -1,6 +1,6 @@
 package com.youlai.boot.system.mapper;
 
-import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.youlai.boot.common.base.BatchMapper;
 import com.youlai.boot.system.model.entity.UserRole;
 import org.apache.ibatis.annotations.Mapper;
 
@@ -11,7 +11,7 @@ import org.apache.ibatis.annotations.Mapper;
  * @since 2022/1/15
  */
 @Mapper
-public interface UserRoleMapper extends BaseMapper<UserRole> {
+public interface UserRoleMapper extends BatchMapper<UserRole> {
 
     /**
      * 获取角色绑定的用户数
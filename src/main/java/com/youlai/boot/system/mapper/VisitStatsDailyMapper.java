@@ -0,0 +1,92 @@
+package com.youlai.boot.system.mapper;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.youlai.boot.system.model.bo.VisitSummaryBO;
+import com.youlai.boot.system.model.entity.VisitStatsDaily;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 访问量日汇总数据访问层
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+@Mapper
+public interface VisitStatsDailyMapper extends BaseMapper<VisitStatsDaily> {
+
+    /**
+     * 获取最后一个已汇总的日期
+     */
+    LocalDate getLastStatDate();
+
+    /**
+     * 获取最早的日志日期
+     */
+    LocalDate getFirstLogDate();
+
+    /**
+     * 登记当日首次出现的访客 IP（已登记的忽略）
+     *
+     * @param statDate 统计日期
+     * @param start    当日开始时间（含）
+     * @param end      次日开始时间（不含）
+     */
+    int insertVisitorIps(@Param("statDate") LocalDate statDate,
+                         @Param("start") LocalDateTime start,
+                         @Param("end") LocalDateTime end);
+
+    /**
+     * 汇总当日访问量（重复执行覆盖）
+     *
+     * @param statDate 统计日期
+     * @param start    当日开始时间（含）
+     * @param end      次日开始时间（不含）
+     */
+    int upsertDailyStats(@Param("statDate") LocalDate statDate,
+                         @Param("start") LocalDateTime start,
+                         @Param("end") LocalDateTime end);
+
+    /**
+     * 按给定计数写入当日汇总（重复执行覆盖）
+     *
+     * @param statDate 统计日期
+     * @param pvCount  页面浏览量
+     * @param uvCount  独立访客数
+     */
+    int upsertDailyStatsValues(@Param("statDate") LocalDate statDate,
+                               @Param("pvCount") long pvCount,
+                               @Param("uvCount") long uvCount);
+
+    /**
+     * 按 IP 顺序分批读取已登记的访客 IP
+     *
+     * @param afterIp 上一批最后一个 IP，为空时从头读取
+     * @param limit   每批数量
+     */
+    List<String> listVisitorIps(@Param("afterIp") String afterIp, @Param("limit") int limit);
+
+    /**
+     * 获取已汇总的累计访问量
+     */
+    VisitSummaryBO getRollupSummary();
+
+    /**
+     * 获取尚未汇总部分的访问量，UV 只统计未登记的访客 IP
+     *
+     * @param start 开始时间（含），为空时统计全部日志
+     */
+    VisitSummaryBO getUnrolledSummary(@Param("start") LocalDateTime start);
+
+    /**
+     * 获取时间段内的访问量
+     *
+     * @param start 开始时间（含）
+     * @param end   结束时间（含）
+     */
+    VisitSummaryBO getVisitSummary(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+}
@@ -0,0 +1,51 @@
+package com.youlai.boot.system.model.bo;
+
+import cn.hutool.core.util.StrUtil;
+import com.youlai.boot.core.exception.BusinessException;
+import com.youlai.boot.core.web.ResultCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 日志分页游标，定位到 (create_time, id) 倒序中的上一页最后一条
+ * <p>
+ * 对外以不透明的 Base64URL 字符串传递，客户端不应解析其内容
+ *
+ * @param createTime 上一页最后一条日志的创建时间
+ * @param id         上一页最后一条日志的主键
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+public record LogCursorBO(LocalDateTime createTime, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * 编码为游标字符串
+     */
+    public String encode() {
+        String raw = createTime + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 解析游标字符串
+     *
+     * @param cursor 游标字符串，为空表示第一页
+     * @return 游标，第一页返回 null
+     */
+    public static LogCursorBO decode(String cursor) {
+        if (StrUtil.isBlank(cursor)) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(SEPARATOR);
+            return new LogCursorBO(LocalDateTime.parse(raw.substring(0, index)), Long.parseLong(raw.substring(index + 1)));
+        } catch (RuntimeException e) {
+            throw new BusinessException(ResultCode.PARAMETER_FORMAT_MISMATCH, "无效的分页游标");
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.youlai.boot.system.model.bo;
+
+/**
+ * 日志月分区
+ *
+ * @param name     分区名（pYYYYMM）
+ * @param lessThan 分区上界（次月 1 日，yyyy-MM-dd，不含）
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+public record LogPartitionBO(String name, String lessThan) {
+}
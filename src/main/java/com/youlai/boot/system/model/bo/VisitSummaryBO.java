@@ -0,0 +1,23 @@
+package com.youlai.boot.system.model.bo;
+
+import lombok.Data;
+
+/**
+ * 时间段访问汇总
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+@Data
+public class VisitSummaryBO {
+
+    /**
+     * 页面浏览量 (PV)
+     */
+    private Long pvCount;
+
+    /**
+     * 独立访客数 (UV)
+     */
+    private Long uvCount;
+}
@@ -3,6 +3,9 @@ package com.youlai.boot.system.model.dto;
 import cn.idev.excel.annotation.ExcelProperty;
 import cn.idev.excel.annotation.format.DateTimeFormat;
 import cn.idev.excel.annotation.write.style.ColumnWidth;
+import com.youlai.boot.common.annotation.DictLabel;
+import com.youlai.boot.core.serializer.DictLabelExcelConverter;
+import com.youlai.boot.system.enums.DictCodeEnum;
 import lombok.Data;
 
 import java.time.LocalDateTime;
@@ -27,7 +30,8 @@ public class UserExportDTO {
     @ExcelProperty(value = "部门")
     private String deptName;
 
-    @ExcelProperty(value = "性别")
+    @ExcelProperty(value = "性别", converter = DictLabelExcelConverter.class)
+    @DictLabel(DictCodeEnum.GENDER)
     private String gender;
 
     @ExcelProperty(value = "手机号码")
@@ -1,6 +1,9 @@
 package com.youlai.boot.system.model.dto;
 
 import cn.idev.excel.annotation.ExcelProperty;
+import com.youlai.boot.common.annotation.DictLabel;
+import com.youlai.boot.core.serializer.DictLabelExcelConverter;
+import com.youlai.boot.system.enums.DictCodeEnum;
 import lombok.Data;
 
 /**
@@ -18,8 +21,9 @@ public class UserImportDTO {
     @ExcelProperty(value = "昵称")
     private String nickname;
 
-    @ExcelProperty(value = "性别")
-    private String genderLabel;
+    @ExcelProperty(value = "性别", converter = DictLabelExcelConverter.class)
+    @DictLabel(DictCodeEnum.GENDER)
+    private Integer gender;
 
     @ExcelProperty(value = "手机号码")
     private String mobile;
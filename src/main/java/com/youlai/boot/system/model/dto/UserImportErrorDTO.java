@@ -0,0 +1,23 @@
+package com.youlai.boot.system.model.dto;
+
+import cn.idev.excel.annotation.ExcelProperty;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * 用户导入错误报告行（原始数据 + 行号、失败原因）
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class UserImportErrorDTO extends UserImportDTO {
+
+    @ExcelProperty(value = "行号")
+    private Integer rowNum;
+
+    @ExcelProperty(value = "失败原因")
+    private String reason;
+
+}
@@ -102,6 +102,11 @@ public class Log implements Serializable {
      */
     private Long createBy;
 
+    /**
+     * 操作人昵称（写入时记录，查询无需关联用户表）
+     */
+    private String operatorName;
+
     /**
      * 创建时间
      */
@@ -0,0 +1,47 @@
+package com.youlai.boot.system.model.entity;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import lombok.Data;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 访问量日汇总 实体类
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+@Data
+@TableName("sys_visit_stats_daily")
+public class VisitStatsDaily implements Serializable {
+
+    /**
+     * 统计日期
+     */
+    @TableId(type = IdType.INPUT)
+    private LocalDate statDate;
+
+    /**
+     * 页面浏览量 (PV)
+     */
+    private Long pvCount;
+
+    /**
+     * 独立访客数 (UV)
+     */
+    private Long uvCount;
+
+    /**
+     * 首次访问的独立访客数
+     */
+    private Long newUvCount;
+
+    /**
+     * 更新时间
+     */
+    private LocalDateTime updateTime;
+}
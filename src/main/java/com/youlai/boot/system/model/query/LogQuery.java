@@ -1,6 +1,7 @@
 package com.youlai.boot.system.model.query;
 
 import com.youlai.boot.common.base.BaseQuery;
+import com.youlai.boot.common.enums.CountModeEnum;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
 import lombok.Setter;
@@ -24,4 +25,13 @@ public class LogQuery extends BaseQuery {
     @Schema(description="操作时间范围")
     List<String> createTime;
 
+    @Schema(description="是否查询已归档的日志（按操作时间范围读取归档文件）")
+    private Boolean archived;
+
+    @Schema(description="游标分页：上一页返回的游标，为空时查询第一页")
+    private String cursor;
+
+    @Schema(description="游标分页：总数统计方式，默认不统计")
+    private CountModeEnum countMode;
+
 }
@@ -0,0 +1,35 @@
+package com.youlai.boot.system.model.vo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 并发限流状态视图对象
+ *
+ * @author Theo
+ * @since 4.1.0
+ */
+@Schema(description = "并发限流状态视图对象")
+@Getter
+@Setter
+public class ConcurrencyLimitVO {
+
+    @Schema(description = "分组名称")
+    private String group;
+
+    @Schema(description = "当前并发上限")
+    private Integer limit;
+
+    @Schema(description = "当前在途请求数")
+    private Integer inflight;
+
+    @Schema(description = "累计拒绝次数")
+    private Long rejected;
+
+    @Schema(description = "长期基线延迟(毫秒)")
+    private Double longRttMillis;
+
+    @Schema(description = "最近一次请求延迟(毫秒)")
+    private Double lastRttMillis;
+}
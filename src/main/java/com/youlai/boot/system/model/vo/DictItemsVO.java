@@ -0,0 +1,29 @@
+package com.youlai.boot.system.model.vo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 字典数据对象（带版本号）
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+@Schema(description = "字典数据对象")
+@Getter
+@Setter
+public class DictItemsVO {
+
+    @Schema(description = "字典编码")
+    private String dictCode;
+
+    @Schema(description = "字典版本号，字典或字典项变更时递增")
+    private Long version;
+
+    @Schema(description = "字典项列表（版本未变化时为空，客户端沿用本地数据）")
+    private List<DictItemOptionVO> items;
+
+}
@@ -0,0 +1,33 @@
+package com.youlai.boot.system.model.vo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 日志游标分页视图对象
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+@Data
+@Schema(description = "日志游标分页视图对象")
+public class LogCursorPageVO implements Serializable {
+
+    @Schema(description = "当前页日志")
+    private List<LogPageVO> list;
+
+    @Schema(description = "下一页游标，没有下一页时为空")
+    private String nextCursor;
+
+    @Schema(description = "是否还有下一页")
+    private boolean hasMore;
+
+    @Schema(description = "总数，不统计时为空")
+    private Long total;
+
+    @Schema(description = "总数是否为精确值")
+    private Boolean totalExact;
+}
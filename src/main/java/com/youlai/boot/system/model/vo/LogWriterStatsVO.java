@@ -0,0 +1,35 @@
+package com.youlai.boot.system.model.vo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 日志写入状态视图对象
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+@Schema(description = "日志写入状态视图对象")
+@Getter
+@Setter
+public class LogWriterStatsVO {
+
+    @Schema(description = "队列中待写入数")
+    private Integer queueSize;
+
+    @Schema(description = "队列容量")
+    private Integer queueCapacity;
+
+    @Schema(description = "累计写入数")
+    private Long written;
+
+    @Schema(description = "累计丢弃数")
+    private Long dropped;
+
+    @Schema(description = "累计溢出到本地文件数")
+    private Long spilled;
+
+    @Schema(description = "累计写库失败数")
+    private Long failed;
+}
@@ -7,6 +7,8 @@ import com.youlai.boot.system.model.form.ConfigForm;
 import com.youlai.boot.system.model.query.ConfigQuery;
 import com.youlai.boot.system.model.vo.ConfigVO;
 
+import java.time.Duration;
+
 /**
  * 系统配置Service接口
  *
@@ -65,4 +67,28 @@ public interface ConfigService extends IService<Config> {
      */
     Object getSystemConfig(String key);
 
+    /**
+     * 获取长整型系统配置
+     * @param key 配置键
+     * @param defaultValue 未配置或格式错误时的默认值
+     * @return 配置值
+     */
+    long getLong(String key, long defaultValue);
+
+    /**
+     * 获取布尔型系统配置
+     * @param key 配置键
+     * @param defaultValue 未配置或格式错误时的默认值
+     * @return 配置值
+     */
+    boolean getBoolean(String key, boolean defaultValue);
+
+    /**
+     * 获取时长型系统配置
+     * @param key 配置键
+     * @param defaultValue 未配置或格式错误时的默认值
+     * @return 配置值
+     */
+    Duration getDuration(String key, Duration defaultValue);
+
 }
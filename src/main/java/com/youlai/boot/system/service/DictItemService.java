@@ -7,6 +7,7 @@ import com.youlai.boot.system.model.form.DictItemForm;
 import com.youlai.boot.system.model.query.DictItemQuery;
 import com.youlai.boot.system.model.vo.DictItemOptionVO;
 import com.youlai.boot.system.model.vo.DictItemPageVO;
+import com.youlai.boot.system.model.vo.DictItemsVO;
 
 import java.util.List;
 
@@ -34,6 +35,15 @@ public interface DictItemService extends IService<DictItem> {
      */
     List<DictItemOptionVO> getDictItems(String dictCode);
 
+    /**
+     * 批量获取字典数据
+     *
+     * @param dictCodes 字典编码列表
+     * @param versions  客户端已持有的字典版本号列表（与字典编码一一对应，可为空），版本未变化的字典不返回字典项
+     * @return 字典数据列表
+     */
+    List<DictItemsVO> listDictItems(List<String> dictCodes, List<Long> versions);
+
     /**
      * 获取字典项表单
      *
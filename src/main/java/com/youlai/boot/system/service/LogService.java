@@ -4,6 +4,7 @@ import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.youlai.boot.system.model.entity.Log;
 import com.baomidou.mybatisplus.extension.service.IService;
 import com.youlai.boot.system.model.query.LogQuery;
+import com.youlai.boot.system.model.vo.LogCursorPageVO;
 import com.youlai.boot.system.model.vo.LogPageVO;
 import com.youlai.boot.system.model.vo.VisitStatsVO;
 import com.youlai.boot.system.model.vo.VisitTrendVO;
@@ -24,6 +25,11 @@ public interface LogService extends IService<Log> {
      */
     Page<LogPageVO> getLogPage(LogQuery queryParams);
 
+    /**
+     * 获取日志游标分页列表
+     */
+    LogCursorPageVO getLogCursorPage(LogQuery queryParams);
+
 
     /**
      * 获取访问趋势
@@ -38,4 +44,11 @@ public interface LogService extends IService<Log> {
      */
     VisitStatsVO getVisitStats();
 
+    /**
+     * 按日汇总访问量（从最后一个已汇总日期的次日汇总到昨天）
+     *
+     * @return 本次汇总的天数
+     */
+    int rollupVisitStats();
+
 }
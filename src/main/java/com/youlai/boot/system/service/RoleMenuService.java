@@ -23,6 +23,15 @@ public interface RoleMenuService extends IService<RoleMenu> {
      */
     List<Long> listMenuIdsByRoleId(Long roleId);
 
+    /**
+     * 保存角色菜单（按差异增删）
+     *
+     * @param roleId  角色ID
+     * @param menuIds 菜单ID集合
+     * @return 是否有变更
+     */
+    boolean saveRoleMenus(Long roleId, List<Long> menuIds);
+
 
     /**
      * 刷新权限缓存(所有角色)
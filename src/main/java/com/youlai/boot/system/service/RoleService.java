@@ -81,8 +81,9 @@ public interface RoleService extends IService<Role> {
      *
      * @param roleId 角色ID
      * @param menuIds 菜单ID集合
+     * @return 是否有变更
      */
-    void assignMenusToRole(Long roleId, List<Long> menuIds);
+    boolean assignMenusToRole(Long roleId, List<Long> menuIds);
 
     /**
      * 获取最大范围的数据权限
@@ -32,4 +32,11 @@ public interface UserNoticeService extends IService<UserNotice> {
      * @return 我的通知公告分页列表
      */
     IPage<UserNoticePageVO> getMyNoticePage(Page<NoticePageVO> page, NoticeQuery queryParams);
+
+    /**
+     * 批量新增用户通知（多行 INSERT）
+     *
+     * @param userNotices 用户通知
+     */
+    void insertUserNotices(List<UserNotice> userNotices);
 }
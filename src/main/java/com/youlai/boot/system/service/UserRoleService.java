@@ -23,6 +23,13 @@ public interface UserRoleService extends IService<UserRole> {
      */
     void saveUserRoles(Long userId, List<Long> roleIds);
 
+    /**
+     * 批量新增用户角色关联（多行 INSERT，用于新建用户，不做差异比对）
+     *
+     * @param userRoles 用户角色关联
+     */
+    void insertUserRoles(List<UserRole> userRoles);
+
     /**
      * 判断角色是否存在绑定的用户
      *
@@ -3,6 +3,8 @@ package com.youlai.boot.system.service;
 import com.baomidou.mybatisplus.core.metadata.IPage;
 import com.baomidou.mybatisplus.extension.service.IService;
 import com.youlai.boot.common.model.Option;
+import com.youlai.boot.platform.export.model.vo.ExportJobVO;
+import com.youlai.boot.platform.importer.model.vo.ImportJobVO;
 import com.youlai.boot.security.model.UserAuthInfo;
 import com.youlai.boot.system.model.dto.CurrentUserDTO;
 import com.youlai.boot.system.model.dto.UserExportDTO;
@@ -11,8 +13,13 @@ import com.youlai.boot.system.model.query.UserQuery;
 import com.youlai.boot.system.model.vo.UserPageVO;
 import com.youlai.boot.system.model.vo.UserProfileVO;
 import com.youlai.boot.system.model.form.*;
+import org.apache.ibatis.session.ResultHandler;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 /**
  * 用户业务接口
@@ -79,12 +86,44 @@ public interface UserService extends IService<User> {
 
 
     /**
-     * 获取导出用户列表
+     * 流式导出用户，逐行回调 handler
      *
      * @param queryParams 查询参数
-     * @return {@link List<UserExportDTO>} 导出用户列表
+     * @param handler     行处理器（如 {@link com.youlai.boot.common.util.ExcelChunkWriter}）
      */
-    List<UserExportDTO> listExportUsers(UserQuery queryParams);
+    void exportUsers(UserQuery queryParams, ResultHandler<UserExportDTO> handler);
+
+    /**
+     * 提交用户导出任务，后台生成文件
+     *
+     * @param queryParams 查询参数
+     * @return 导出任务
+     */
+    ExportJobVO submitExportJob(UserQuery queryParams);
+
+    /**
+     * 提交用户导入任务，后台解析写入
+     *
+     * @param file 上传的 Excel 文件
+     * @return 导入任务
+     */
+    ImportJobVO submitImportJob(MultipartFile file) throws IOException;
+
+    /**
+     * 获取已存在的用户名（含已逻辑删除的用户）
+     *
+     * @param usernames 待校验的用户名
+     * @return 已存在的用户名
+     */
+    Set<String> listExistingUsernames(Collection<String> usernames);
+
+    /**
+     * 批量保存导入的用户及其角色（多行 INSERT，同一事务）
+     *
+     * @param users       用户列表（密码已加密）
+     * @param roleIdsList 与 users 按下标一一对应的角色ID列表
+     */
+    void saveImportBatch(List<User> users, List<List<Long>> roleIdsList);
 
 
     /**
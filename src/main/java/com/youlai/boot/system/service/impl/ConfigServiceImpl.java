@@ -1,11 +1,17 @@
 package com.youlai.boot.system.service.impl;
 
+import cn.hutool.core.util.IdUtil;
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import cn.hutool.core.util.IdUtil;
 import com.baomidou.mybatisplus.core.conditions.update.LambdaUpdateWrapper;
+import cn.hutool.core.util.IdUtil;
 import com.baomidou.mybatisplus.core.metadata.IPage;
+import cn.hutool.core.util.IdUtil;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import cn.hutool.core.util.IdUtil;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
 import com.youlai.boot.common.constant.RedisConstants;
+import com.youlai.boot.system.cache.ConfigCache;
 import com.youlai.boot.system.converter.ConfigConverter;
 import com.youlai.boot.system.mapper.ConfigMapper;
 import com.youlai.boot.system.model.entity.Config;
@@ -21,6 +27,7 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -39,6 +46,8 @@ public class ConfigServiceImpl extends ServiceImpl<ConfigMapper, Config> impleme
 
     private final RedisTemplate<String, Object> redisTemplate;
 
+    private final ConfigCache configCache;
+
     /**
      * 系统启动完成后，加载系统配置到缓存
      */
@@ -133,23 +142,32 @@ public class ConfigServiceImpl extends ServiceImpl<ConfigMapper, Config> impleme
 
     /**
      * 刷新系统配置缓存
+     * <p>
+     * 重建 Redis 缓存后替换本地快照，并通知其他节点重新加载；
+     * 新配置先写入临时键再 RENAME 覆盖，其他节点任何时刻重新加载都不会读到空配置
      *
      * @return 是否刷新成功
      */
     @Override
     public boolean refreshCache() {
-        redisTemplate.delete(RedisConstants.System.CONFIG);
         List<Config> list = this.list();
         if (list != null) {
             Map<String, String> map = list.stream().collect(Collectors.toMap(Config::getConfigKey, Config::getConfigValue));
-            redisTemplate.opsForHash().putAll(RedisConstants.System.CONFIG, map);
+            if (map.isEmpty()) {
+                redisTemplate.delete(RedisConstants.System.CONFIG);
+            } else {
+                String stagingKey = RedisConstants.System.CONFIG + ":" + IdUtil.simpleUUID();
+                redisTemplate.opsForHash().putAll(stagingKey, map);
+                redisTemplate.rename(stagingKey, RedisConstants.System.CONFIG);
+            }
+            configCache.publish(map);
             return true;
         }
         return false;
     }
 
     /**
-     * 获取系统配置
+     * 获取系统配置（读取本地快照）
      *
      * @param key 配置键
      * @return 配置值
@@ -157,9 +175,45 @@ public class ConfigServiceImpl extends ServiceImpl<ConfigMapper, Config> impleme
     @Override
     public Object getSystemConfig(String key) {
         if (StringUtils.isNotBlank(key)) {
-            return redisTemplate.opsForHash().get(RedisConstants.System.CONFIG, key);
+            return configCache.getSnapshot().get(key);
         }
         return null;
     }
 
+    /**
+     * 获取长整型系统配置
+     *
+     * @param key          配置键
+     * @param defaultValue 默认值
+     * @return 配置值
+     */
+    @Override
+    public long getLong(String key, long defaultValue) {
+        return configCache.getSnapshot().getLong(key, defaultValue);
+    }
+
+    /**
+     * 获取布尔型系统配置
+     *
+     * @param key          配置键
+     * @param defaultValue 默认值
+     * @return 配置值
+     */
+    @Override
+    public boolean getBoolean(String key, boolean defaultValue) {
+        return configCache.getSnapshot().getBoolean(key, defaultValue);
+    }
+
+    /**
+     * 获取时长型系统配置
+     *
+     * @param key          配置键
+     * @param defaultValue 默认值
+     * @return 配置值
+     */
+    @Override
+    public Duration getDuration(String key, Duration defaultValue) {
+        return configCache.getSnapshot().getDuration(key, defaultValue);
+    }
+
 }
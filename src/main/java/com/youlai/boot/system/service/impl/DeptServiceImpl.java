@@ -19,6 +19,7 @@ import com.youlai.boot.common.model.Option;
 import com.youlai.boot.system.service.DeptService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
 import java.util.List;
@@ -179,6 +180,7 @@ public class DeptServiceImpl extends ServiceImpl<DeptMapper, Dept> implements De
      * @return 部门ID
      */
     @Override
+    @Transactional(rollbackFor = Exception.class)
     public Long updateDept(Long deptId, DeptForm formData) {
         // 校验部门名称/部门编号是否存在
         String code = formData.getCode();
@@ -189,18 +191,29 @@ public class DeptServiceImpl extends ServiceImpl<DeptMapper, Dept> implements De
         Assert.isTrue(count == 0, "部门编号已存在");
 
 
+        Dept oldDept = this.getById(deptId);
+        Assert.notNull(oldDept, "部门不存在");
+
         // form->entity
         Dept entity = deptConverter.toEntity(formData);
         entity.setId(deptId);
 
         // 生成部门路径(tree_path)，格式：父节点tree_path + , + 父节点ID，用于删除部门时级联删除子部门
         String treePath = generateDeptTreePath(formData.getParentId());
+        Assert.isFalse(treePath != null && ("," + treePath + ",").contains("," + deptId + ","),
+                "上级部门不能为当前部门或其子部门");
         entity.setTreePath(treePath);
 
         // 保存部门并返回部门ID
         boolean result = this.updateById(entity);
         Assert.isTrue(result, "部门更新失败");
 
+        // 部门树路径变化时，以前缀替换的方式一次性更新所有子部门的树路径（数据权限子查询依赖 tree_path）
+        String oldTreePath = oldDept.getTreePath();
+        if (oldTreePath != null && treePath != null && !oldTreePath.equals(treePath)) {
+            this.baseMapper.updateSubtreeTreePath(oldTreePath + "," + deptId, treePath + "," + deptId);
+        }
+
         return entity.getId();
     }
 
@@ -3,6 +3,7 @@ package com.youlai.boot.system.service.impl;
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+import com.youlai.boot.system.cache.DictCache;
 import com.youlai.boot.system.converter.DictItemConverter;
 import com.youlai.boot.system.mapper.DictItemMapper;
 import com.youlai.boot.system.model.entity.DictItem;
@@ -10,12 +11,12 @@ import com.youlai.boot.system.model.form.DictItemForm;
 import com.youlai.boot.system.model.query.DictItemQuery;
 import com.youlai.boot.system.model.vo.DictItemOptionVO;
 import com.youlai.boot.system.model.vo.DictItemPageVO;
+import com.youlai.boot.system.model.vo.DictItemsVO;
 import com.youlai.boot.system.service.DictItemService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.util.Arrays;
-import java.util.List;
+import java.util.*;
 
 /**
  * 字典项实现类
@@ -29,6 +30,8 @@ public class DictItemServiceImpl extends ServiceImpl<DictItemMapper, DictItem> i
 
     private final DictItemConverter dictItemConverter;
 
+    private final DictCache dictCache;
+
     /**
      * 获取字典项分页列表
      *
@@ -52,22 +55,40 @@ public class DictItemServiceImpl extends ServiceImpl<DictItemMapper, DictItem> i
      */
     @Override
     public List<DictItemOptionVO> getDictItems(String dictCode) {
-        return this.list(
-                        new LambdaQueryWrapper<DictItem>()
-                                .eq(DictItem::getDictCode, dictCode)
-                                .eq(DictItem::getStatus, 1)
-                                .orderByAsc(DictItem::getSort)
-                ).stream()
-                .map(item -> {
-                    DictItemOptionVO dictItemOptionVo = new DictItemOptionVO();
-                    dictItemOptionVo.setLabel(item.getLabel());
-                    dictItemOptionVo.setValue(item.getValue());
-                    dictItemOptionVo.setTagType(item.getTagType());
-                    return dictItemOptionVo;
-                }).toList();
+        return dictCache.get(dictCode).getItems();
     }
 
-
+    /**
+     * 批量获取字典数据
+     *
+     * @param dictCodes 字典编码列表
+     * @param versions  客户端已持有的字典版本号列表
+     * @return 字典数据列表
+     */
+    @Override
+    public List<DictItemsVO> listDictItems(List<String> dictCodes, List<Long> versions) {
+        Map<String, DictItemsVO> dictItemsMap = dictCache.getAll(dictCodes);
+
+        List<DictItemsVO> list = new ArrayList<>(dictItemsMap.size());
+        Set<String> visited = new HashSet<>();
+        for (int i = 0; i < dictCodes.size(); i++) {
+            DictItemsVO dictItems = dictItemsMap.get(dictCodes.get(i));
+            if (dictItems == null || !visited.add(dictItems.getDictCode())) {
+                continue;
+            }
+            Long clientVersion = versions != null && i < versions.size() ? versions.get(i) : null;
+            if (Objects.equals(clientVersion, dictItems.getVersion())) {
+                // 版本未变化，只返回版本号
+                DictItemsVO unchanged = new DictItemsVO();
+                unchanged.setDictCode(dictItems.getDictCode());
+                unchanged.setVersion(dictItems.getVersion());
+                list.add(unchanged);
+            } else {
+                list.add(dictItems);
+            }
+        }
+        return list;
+    }
 
     /**
      * 获取字典项表单
@@ -90,7 +111,11 @@ public class DictItemServiceImpl extends ServiceImpl<DictItemMapper, DictItem> i
     @Override
     public boolean saveDictItem(DictItemForm formData) {
         DictItem entity = dictItemConverter.toEntity(formData);
-        return this.save(entity);
+        boolean result = this.save(entity);
+        if (result) {
+            dictCache.evict(entity.getDictCode());
+        }
+        return result;
     }
 
     /**
@@ -102,7 +127,13 @@ public class DictItemServiceImpl extends ServiceImpl<DictItemMapper, DictItem> i
     @Override
     public boolean updateDictItem(DictItemForm formData) {
         DictItem entity = dictItemConverter.toEntity(formData);
-        return this.updateById(entity);
+        // 更新前获取原字典编码，字典项移到其他字典时新旧字典缓存都要清除
+        DictItem oldEntity = this.getById(entity.getId());
+        boolean result = this.updateById(entity);
+        if (result) {
+            dictCache.evict(entity.getDictCode(), oldEntity != null ? oldEntity.getDictCode() : null);
+        }
+        return result;
     }
 
     /**
@@ -115,11 +146,13 @@ public class DictItemServiceImpl extends ServiceImpl<DictItemMapper, DictItem> i
         List<Long> idList = Arrays.stream(ids.split(","))
           .map(Long::parseLong)
           .toList();
+        // 删除前获取字典编码，用于清除字典缓存
+        String[] dictCodes = this.listByIds(idList).stream()
+                .map(DictItem::getDictCode)
+                .distinct()
+                .toArray(String[]::new);
         this.removeByIds(idList);
+        dictCache.evict(dictCodes);
     }
 
 }
-
-
-
-
@@ -5,6 +5,7 @@ import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
 import com.youlai.boot.core.exception.BusinessException;
+import com.youlai.boot.system.cache.DictCache;
 import com.youlai.boot.common.model.Option;
 import com.youlai.boot.system.converter.DictConverter;
 import com.youlai.boot.system.mapper.DictMapper;
@@ -33,6 +34,7 @@ public class DictServiceImpl extends ServiceImpl<DictMapper, Dict> implements Di
 
     private final DictItemService dictItemService;
     private final DictConverter dictConverter;
+    private final DictCache dictCache;
 
     /**
      * 字典分页列表
@@ -82,7 +84,12 @@ public class DictServiceImpl extends ServiceImpl<DictMapper, Dict> implements Di
 
         Assert.isTrue(count == 0, "字典编码已存在");
 
-        return this.save(entity);
+        boolean result = this.save(entity);
+        if (result) {
+            // 清除可能已缓存的空字典
+            dictCache.evict(dictCode);
+        }
+        return result;
     }
 
 
@@ -143,6 +150,7 @@ public class DictServiceImpl extends ServiceImpl<DictMapper, Dict> implements Di
                                 .in(DictItem::getId, dictItemIds)
                 );
             }
+            dictCache.evict(entity.getDictCode(), dict.getDictCode());
         }
         return result;
     }
@@ -155,16 +163,19 @@ public class DictServiceImpl extends ServiceImpl<DictMapper, Dict> implements Di
     @Transactional
     @Override
     public void deleteDictByIds(List<String> ids) {
+        // 删除前获取字典编码（逻辑删除后无法再查询到）
+        List<Dict> list = this.listByIds(ids);
+
         // 删除字典
         this.removeByIds(ids);
 
         // 删除字典项
-        List<Dict> list = this.listByIds(ids);
         if (!list.isEmpty()) {
             List<String> dictCodes = list.stream().map(Dict::getDictCode).toList();
             dictItemService.remove(new LambdaQueryWrapper<DictItem>()
                     .in(DictItem::getDictCode, dictCodes)
             );
+            dictCache.evict(dictCodes.toArray(String[]::new));
         }
     }
 
@@ -1,34 +1,97 @@
 package com.youlai.boot.system.service.impl;
 
+import cn.hutool.core.collection.CollectionUtil;
+import cn.hutool.core.util.StrUtil;
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+import com.youlai.boot.common.enums.CountModeEnum;
+import com.youlai.boot.system.archive.LogArchiveReader;
+import com.youlai.boot.system.cache.VisitCounter;
 import com.youlai.boot.system.mapper.LogMapper;
-import com.youlai.boot.system.model.bo.VisitCountBO;
-import com.youlai.boot.system.model.bo.VisitStatsBO;
+import com.youlai.boot.system.mapper.VisitStatsDailyMapper;
+import com.youlai.boot.system.model.bo.LogCursorBO;
+import com.youlai.boot.system.model.bo.VisitSummaryBO;
 import com.youlai.boot.system.model.entity.Log;
+import com.youlai.boot.system.model.entity.VisitStatsDaily;
 import com.youlai.boot.system.model.query.LogQuery;
+import com.youlai.boot.system.model.vo.LogCursorPageVO;
 import com.youlai.boot.system.model.vo.LogPageVO;
 import com.youlai.boot.system.model.vo.VisitStatsVO;
 import com.youlai.boot.system.model.vo.VisitTrendVO;
 import com.youlai.boot.system.service.LogService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * 系统日志 服务实现类
+ * <p>
+ * 访问统计优先读取 Redis 实时计数（{@link VisitCounter}），未计数的部分读取按日汇总表 {@code sys_visit_stats_daily}，
+ * 只有尚未汇总的日期（通常只有今天）回查 {@code sys_log}：
+ * <ul>
+ *   <li>汇总由定时任务 {@code visitStatsRollupJobHandler} 执行，读取统计时发现汇总落后也会在后台补齐</li>
+ *   <li>累计 UV 依赖访客 IP 登记表 {@code sys_visit_ip}，未汇总部分只统计未登记过的 IP</li>
+ *   <li>汇总按日期顺序逐日执行，每日的汇总行最后写入，重复执行结果不变</li>
+ * </ul>
  *
  * @author Ray.Hao
  * @since 2.10.0
  */
+@Slf4j
 @Service
+@RequiredArgsConstructor
 public class LogServiceImpl extends ServiceImpl<LogMapper, Log>
         implements LogService {
 
+    /**
+     * 导入累计访客时每批读取的 IP 数量
+     */
+    private static final int SEED_BATCH_SIZE = 5000;
+
+    private final VisitStatsDailyMapper visitStatsDailyMapper;
+
+    private final VisitCounter visitCounter;
+
+    private final LogArchiveReader logArchiveReader;
+
+    /**
+     * 后台补齐汇总是否正在执行
+     */
+    private final AtomicBoolean rollupRunning = new AtomicBoolean();
+
+    /**
+     * 后台补齐汇总的专用线程，汇总读写数据库与 Redis，不占用公共线程池
+     */
+    private final ExecutorService rollupExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(1), runnable -> {
+                Thread thread = new Thread(runnable, "visit-stats-rollup");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    @PreDestroy
+    public void shutdown() {
+        rollupExecutor.shutdownNow();
+    }
+
     /**
      * 获取日志分页列表
      *
@@ -37,10 +100,49 @@ public class LogServiceImpl extends ServiceImpl<LogMapper, Log>
      */
     @Override
     public Page<LogPageVO> getLogPage(LogQuery queryParams) {
+        if (Boolean.TRUE.equals(queryParams.getArchived())) {
+            return logArchiveReader.getLogPage(queryParams);
+        }
         return this.baseMapper.getLogPage(new Page<>(queryParams.getPageNum(), queryParams.getPageSize()),
                 queryParams);
     }
 
+    /**
+     * 获取日志游标分页列表
+     * <p>
+     * 按 (create_time, id) 倒序从游标位置向后定位，查询代价与翻页深度无关；总数按需统计
+     *
+     * @param queryParams 查询参数
+     * @return 日志游标分页列表
+     */
+    @Override
+    public LogCursorPageVO getLogCursorPage(LogQuery queryParams) {
+        int pageSize = Math.max(1, queryParams.getPageSize());
+        List<LogPageVO> records = this.baseMapper.getLogCursorList(queryParams,
+                LogCursorBO.decode(queryParams.getCursor()), pageSize + 1);
+
+        LogCursorPageVO result = new LogCursorPageVO();
+        boolean hasMore = records.size() > pageSize;
+        if (hasMore) {
+            records = records.subList(0, pageSize);
+            LogPageVO last = records.get(pageSize - 1);
+            result.setNextCursor(new LogCursorBO(last.getCreateTime(), last.getId()).encode());
+        }
+        result.setList(records);
+        result.setHasMore(hasMore);
+
+        CountModeEnum countMode = queryParams.getCountMode() != null ? queryParams.getCountMode() : CountModeEnum.NONE;
+        boolean filtered = StrUtil.isNotBlank(queryParams.getKeywords()) || CollectionUtil.isNotEmpty(queryParams.getCreateTime());
+        if (countMode == CountModeEnum.ESTIMATE && !filtered) {
+            result.setTotal(this.baseMapper.estimateLogCount());
+            result.setTotalExact(false);
+        } else if (countMode != CountModeEnum.NONE) {
+            result.setTotal(this.baseMapper.countLogs(queryParams));
+            result.setTotalExact(true);
+        }
+        return result;
+    }
+
     /**
      * 获取访问趋势
      *
@@ -51,30 +153,44 @@ public class LogServiceImpl extends ServiceImpl<LogMapper, Log>
     @Override
     public VisitTrendVO getVisitTrend(LocalDate startDate, LocalDate endDate) {
         VisitTrendVO visitTrend = new VisitTrendVO();
+        List<LocalDate> days = new ArrayList<>();
         List<String> dates = new ArrayList<>();
 
         // 获取日期范围内的日期
-        while (!startDate.isAfter(endDate)) {
-            dates.add(startDate.toString());
-            startDate = startDate.plusDays(1);
+        LocalDate date = startDate;
+        while (!date.isAfter(endDate)) {
+            days.add(date);
+            dates.add(date.toString());
+            date = date.plusDays(1);
         }
         visitTrend.setDates(dates);
 
-        // 获取访问量和访问 IP 数的统计数据
-        List<VisitCountBO> pvCounts = this.baseMapper.getPvCounts(dates.get(0) + " 00:00:00", dates.get(dates.size() - 1) + " 23:59:59");
-        List<VisitCountBO> ipCounts = this.baseMapper.getIpCounts(dates.get(0) + " 00:00:00", dates.get(dates.size() - 1) + " 23:59:59");
+        Map<String, Integer> pvMap = new HashMap<>();
+        Map<String, Integer> ipMap = new HashMap<>();
 
-        // 将统计数据转换为 Map
-        Map<String, Integer> pvMap = pvCounts.stream().collect(Collectors.toMap(VisitCountBO::getDate, VisitCountBO::getCount));
-        Map<String, Integer> ipMap = ipCounts.stream().collect(Collectors.toMap(VisitCountBO::getDate, VisitCountBO::getCount));
+        // 优先读取 Redis 实时计数，未计数的日期回查数据库
+        List<VisitSummaryBO> counted = visitCounter.getDaySummaries(days);
+        List<LocalDate> missingDays = new ArrayList<>();
+        for (int i = 0; i < days.size(); i++) {
+            VisitSummaryBO summary = counted.get(i);
+            if (summary != null) {
+                pvMap.put(dates.get(i), summary.getPvCount().intValue());
+                ipMap.put(dates.get(i), summary.getUvCount().intValue());
+            } else {
+                missingDays.add(days.get(i));
+            }
+        }
+        if (!missingDays.isEmpty()) {
+            fillTrendFromDb(missingDays.get(0), missingDays.get(missingDays.size() - 1), pvMap, ipMap);
+        }
 
         // 匹配日期和访问量/访问 IP 数
         List<Integer> pvList = new ArrayList<>();
         List<Integer> ipList = new ArrayList<>();
 
-        for (String date : dates) {
-            pvList.add(pvMap.getOrDefault(date, 0));
-            ipList.add(ipMap.getOrDefault(date, 0));
+        for (String day : dates) {
+            pvList.add(pvMap.getOrDefault(day, 0));
+            ipList.add(ipMap.getOrDefault(day, 0));
         }
 
         visitTrend.setPvList(pvList);
@@ -90,27 +206,159 @@ public class LogServiceImpl extends ServiceImpl<LogMapper, Log>
     public VisitStatsVO getVisitStats() {
         VisitStatsVO result = new VisitStatsVO();
 
-        // 访客数统计(UV)
-        VisitStatsBO uvStats = this.baseMapper.getUvStats();
-        if(uvStats!=null){
-            result.setTodayUvCount(uvStats.getTodayCount());
-            result.setTotalUvCount(uvStats.getTotalCount());
-            result.setUvGrowthRate(uvStats.getGrowthRate());
+        LocalDate today = LocalDate.now();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate lastStatDate = visitStatsDailyMapper.getLastStatDate();
+        if (lastStatDate == null || lastStatDate.isBefore(today.minusDays(1))) {
+            triggerRollup();
         }
 
-        // 浏览量统计(PV)
-        VisitStatsBO pvStats = this.baseMapper.getPvStats();
-        if(pvStats!=null){
-            result.setTodayPvCount(pvStats.getTodayCount());
-            result.setTotalPvCount(pvStats.getTotalCount());
-            result.setPvGrowthRate(pvStats.getGrowthRate());
+        // 累计：已汇总部分 + 未汇总部分（优先读取 Redis 实时计数）
+        VisitSummaryBO rollup = visitStatsDailyMapper.getRollupSummary();
+        Long unrolledPv = null;
+        if (lastStatDate != null) {
+            List<LocalDate> unrolledDays = lastStatDate.plusDays(1).datesUntil(today.plusDays(1)).toList();
+            List<VisitSummaryBO> counted = visitCounter.getDaySummaries(unrolledDays);
+            if (counted.stream().allMatch(Objects::nonNull)) {
+                unrolledPv = counted.stream().mapToLong(VisitSummaryBO::getPvCount).sum();
+            }
         }
+        Long totalUv = visitCounter.getTotalUv();
+        VisitSummaryBO unrolled = unrolledPv == null || totalUv == null
+                ? visitStatsDailyMapper.getUnrolledSummary(lastStatDate != null ? lastStatDate.plusDays(1).atStartOfDay() : null)
+                : null;
+        result.setTotalPvCount(Math.toIntExact(rollup.getPvCount() + (unrolledPv != null ? unrolledPv : unrolled.getPvCount())));
+        result.setTotalUvCount(Math.toIntExact(totalUv != null ? totalUv : rollup.getUvCount() + unrolled.getUvCount()));
+
+        // 今日与昨日同一时段的对比（Redis 按小时分桶对比，未计数时回查数据库）
+        VisitSummaryBO todayStats = visitCounter.getDaySummaries(List.of(today)).get(0);
+        if (todayStats == null) {
+            todayStats = visitStatsDailyMapper.getVisitSummary(today.atStartOfDay(), now);
+        }
+        VisitSummaryBO yesterdayStats = visitCounter.getHourSummary(today.minusDays(1), now.getHour());
+        if (yesterdayStats == null) {
+            yesterdayStats = visitStatsDailyMapper.getVisitSummary(today.minusDays(1).atStartOfDay(), now.minusDays(1));
+        }
+
+        result.setTodayUvCount(todayStats.getUvCount().intValue());
+        result.setUvGrowthRate(growthRate(todayStats.getUvCount(), yesterdayStats.getUvCount()));
+        result.setTodayPvCount(todayStats.getPvCount().intValue());
+        result.setPvGrowthRate(growthRate(todayStats.getPvCount(), yesterdayStats.getPvCount()));
 
         return result;
     }
 
-}
+    /**
+     * 按日汇总访问量，从最后一个已汇总日期的次日汇总到昨天
+     * <p>
+     * 有完整 Redis 计数的日期直接写入计数，否则从日志表统计；汇总完成后把访客 IP 登记表导入 Redis 累计访客
+     */
+    @Override
+    public int rollupVisitStats() {
+        LocalDate lastStatDate = visitStatsDailyMapper.getLastStatDate();
+        LocalDate date = lastStatDate != null ? lastStatDate.plusDays(1) : visitStatsDailyMapper.getFirstLogDate();
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        int days = 0;
+        while (date != null && !date.isAfter(yesterday)) {
+            LocalDateTime start = date.atStartOfDay();
+            LocalDateTime end = date.plusDays(1).atStartOfDay();
+            visitStatsDailyMapper.insertVisitorIps(date, start, end);
+            VisitSummaryBO counted = visitCounter.getDaySummaries(List.of(date)).get(0);
+            if (counted != null) {
+                visitStatsDailyMapper.upsertDailyStatsValues(date, counted.getPvCount(), counted.getUvCount());
+            } else {
+                visitStatsDailyMapper.upsertDailyStats(date, start, end);
+            }
+            date = date.plusDays(1);
+            days++;
+        }
+        if (days > 0) {
+            log.info("访问量日汇总完成，共汇总 {} 天", days);
+        }
+        if (visitCounter.isEnabled() && !visitCounter.isTotalUvSeeded()) {
+            seedTotalUv();
+        }
+        return days;
+    }
+
+    /**
+     * 把访客 IP 登记表分批导入 Redis 累计访客
+     */
+    private void seedTotalUv() {
+        String afterIp = null;
+        List<String> ips;
+        do {
+            ips = visitStatsDailyMapper.listVisitorIps(afterIp, SEED_BATCH_SIZE);
+            visitCounter.seedTotalUv(ips);
+            afterIp = ips.isEmpty() ? afterIp : ips.get(ips.size() - 1);
+        } while (ips.size() == SEED_BATCH_SIZE);
+        visitCounter.markTotalUvSeeded();
+        log.info("累计访客已从访客 IP 登记表导入 Redis");
+    }
+
+    /**
+     * 从日汇总表与日志表读取日期范围内的访问趋势，已有数据的日期不覆盖
+     */
+    private void fillTrendFromDb(LocalDate startDate, LocalDate endDate,
+                                 Map<String, Integer> pvMap, Map<String, Integer> ipMap) {
+        // 已汇总的日期读取日汇总表
+        LocalDate lastStatDate = visitStatsDailyMapper.getLastStatDate();
+        if (lastStatDate != null && !startDate.isAfter(lastStatDate)) {
+            List<VisitStatsDaily> dailyStats = visitStatsDailyMapper.selectList(
+                    new LambdaQueryWrapper<VisitStatsDaily>()
+                            .between(VisitStatsDaily::getStatDate, startDate,
+                                    endDate.isBefore(lastStatDate) ? endDate : lastStatDate)
+            );
+            for (VisitStatsDaily dailyStat : dailyStats) {
+                pvMap.putIfAbsent(dailyStat.getStatDate().toString(), dailyStat.getPvCount().intValue());
+                ipMap.putIfAbsent(dailyStat.getStatDate().toString(), dailyStat.getUvCount().intValue());
+            }
+        }
 
+        // 未汇总的日期回查日志表
+        LocalDate tailStartDate = lastStatDate != null && !startDate.isAfter(lastStatDate)
+                ? lastStatDate.plusDays(1) : startDate;
+        if (!tailStartDate.isAfter(endDate)) {
+            String tailStart = tailStartDate + " 00:00:00";
+            String tailEnd = endDate + " 23:59:59";
+            this.baseMapper.getPvCounts(tailStart, tailEnd)
+                    .forEach(count -> pvMap.putIfAbsent(count.getDate(), count.getCount()));
+            this.baseMapper.getIpCounts(tailStart, tailEnd)
+                    .forEach(count -> ipMap.putIfAbsent(count.getDate(), count.getCount()));
+        }
+    }
 
+    /**
+     * 在后台补齐汇总，同一时刻只执行一次
+     */
+    private void triggerRollup() {
+        if (!rollupRunning.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            rollupExecutor.execute(() -> {
+                try {
+                    rollupVisitStats();
+                } catch (Exception e) {
+                    log.error("访问量日汇总失败", e);
+                } finally {
+                    rollupRunning.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rollupRunning.set(false);
+        }
+    }
 
+    /**
+     * 计算增长率，保留两位小数；对比值为 0 时返回 0
+     */
+    private BigDecimal growthRate(long current, long previous) {
+        if (previous == 0) {
+            return BigDecimal.ZERO;
+        }
+        return BigDecimal.valueOf(current - previous)
+                .divide(BigDecimal.valueOf(previous), 2, RoundingMode.HALF_UP);
+    }
 
+}
@@ -30,6 +30,7 @@ import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -280,6 +281,7 @@ public class MenuServiceImpl extends ServiceImpl<MenuMapper, Menu> implements Me
      * 新增/修改菜单
      */
     @Override
+    @Transactional(rollbackFor = Exception.class)
     @CacheEvict(cacheNames = "menu", key = "'routes'")
     public boolean saveMenu(MenuForm menuForm) {
 
@@ -304,6 +306,16 @@ public class MenuServiceImpl extends ServiceImpl<MenuMapper, Menu> implements Me
         String treePath = generateMenuTreePath(menuForm.getParentId());
         entity.setTreePath(treePath);
 
+        // 修改时记录原树路径，用于移动子树；并校验不能移动到自身的子菜单下
+        String oldTreePath = null;
+        if (menuForm.getId() != null) {
+            Menu oldMenu = this.getById(menuForm.getId());
+            Assert.notNull(oldMenu, "菜单不存在");
+            oldTreePath = oldMenu.getTreePath();
+            Assert.isFalse(treePath != null && ("," + treePath + ",").contains("," + menuForm.getId() + ","),
+                    "父级菜单不能为当前菜单的子菜单");
+        }
+
         List<KeyValue> params = menuForm.getParams();
         // 路由参数 [{key:"id",value:"1"}，{key:"name",value:"张三"}] 转换为 [{"id":"1"},{"name":"张三"}]
         if (CollectionUtil.isNotEmpty(params)) {
@@ -330,31 +342,23 @@ public class MenuServiceImpl extends ServiceImpl<MenuMapper, Menu> implements Me
                 roleMenuService.refreshRolePermsCache();
             }
         }
-        // 修改菜单如果有子菜单，则更新子菜单的树路径
-        updateChildrenTreePath(entity.getId(), treePath);
+        // 修改菜单如果树路径变化，则同步更新整棵子树的树路径
+        moveSubtree(entity.getId(), oldTreePath, treePath);
         return result;
     }
 
     /**
-     * 更新子菜单树路径
+     * 移动子树：当前菜单树路径变化时，以前缀替换的方式一次性更新所有后代菜单的树路径
      *
-     * @param id       当前菜单ID
-     * @param treePath 当前菜单树路径
+     * @param id          当前菜单ID
+     * @param oldTreePath 当前菜单原树路径
+     * @param newTreePath 当前菜单新树路径
      */
-    private void updateChildrenTreePath(Long id, String treePath) {
-        List<Menu> children = this.list(new LambdaQueryWrapper<Menu>().eq(Menu::getParentId, id));
-        if (CollectionUtil.isNotEmpty(children)) {
-            // 子菜单的树路径等于父菜单的树路径加上父菜单ID
-            String childTreePath = treePath + "," + id;
-            this.update(new LambdaUpdateWrapper<Menu>()
-                    .eq(Menu::getParentId, id)
-                    .set(Menu::getTreePath, childTreePath)
-            );
-            for (Menu child : children) {
-                // 递归更新子菜单
-                updateChildrenTreePath(child.getId(), childTreePath);
-            }
+    private void moveSubtree(Long id, String oldTreePath, String newTreePath) {
+        if (oldTreePath == null || newTreePath == null || oldTreePath.equals(newTreePath)) {
+            return;
         }
+        this.baseMapper.updateSubtreeTreePath(oldTreePath + "," + id, newTreePath + "," + id);
     }
 
     /**
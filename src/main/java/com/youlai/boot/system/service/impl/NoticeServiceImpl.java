@@ -207,7 +207,7 @@ public class NoticeServiceImpl extends ServiceImpl<NoticeMapper, Notice> impleme
             }).toList();
 
             if (CollectionUtil.isNotEmpty(userNoticeList)) {
-                userNoticeService.saveBatch(userNoticeList);
+                userNoticeService.insertUserNotices(userNoticeList);
             }
 
             Set<String> receivers = targetUserList.stream().map(User::getUsername).collect(Collectors.toSet());
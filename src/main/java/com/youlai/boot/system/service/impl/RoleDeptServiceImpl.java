@@ -51,7 +51,7 @@ public class RoleDeptServiceImpl extends ServiceImpl<RoleDeptMapper, RoleDept> i
         List<RoleDept> roleDepts = deptIds.stream()
                 .map(deptId -> new RoleDept(roleId, deptId))
                 .toList();
-        this.saveBatch(roleDepts);
+        this.baseMapper.insertBatchValues(roleDepts);
     }
 
     @Override
@@ -1,6 +1,7 @@
 package com.youlai.boot.system.service.impl;
 
 import cn.hutool.core.collection.CollectionUtil;
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
 import com.youlai.boot.common.constant.RedisConstants;
 import com.youlai.boot.system.mapper.RoleMenuMapper;
@@ -179,4 +180,48 @@ public class RoleMenuServiceImpl extends ServiceImpl<RoleMenuMapper, RoleMenu> i
         return this.baseMapper.listMenuIdsByRoleId(roleId);
     }
 
+    /**
+     * 保存角色菜单
+     * <p>
+     * 只删除取消勾选的菜单、只插入新勾选的菜单，未变化的关联不动
+     *
+     * @param roleId  角色ID
+     * @param menuIds 菜单ID集合
+     * @return 是否有变更
+     */
+    @Override
+    public boolean saveRoleMenus(Long roleId, List<Long> menuIds) {
+        // 获取现有菜单（直接查关联表，已删除菜单的残留关联也参与比对）
+        Set<Long> oldMenus = this.list(new LambdaQueryWrapper<RoleMenu>()
+                        .select(RoleMenu::getMenuId)
+                        .eq(RoleMenu::getRoleId, roleId))
+                .stream()
+                .map(RoleMenu::getMenuId)
+                .collect(Collectors.toSet());
+        Set<Long> newMenus = menuIds == null ? Collections.emptySet() : new HashSet<>(menuIds);
+
+        // 计算变更集
+        Set<Long> addedMenus = new HashSet<>(newMenus);
+        addedMenus.removeAll(oldMenus);
+
+        Set<Long> removedMenus = new HashSet<>(oldMenus);
+        removedMenus.removeAll(newMenus);
+
+        // 删除取消的菜单
+        if (!removedMenus.isEmpty()) {
+            this.remove(new LambdaQueryWrapper<RoleMenu>()
+                    .eq(RoleMenu::getRoleId, roleId)
+                    .in(RoleMenu::getMenuId, removedMenus));
+        }
+
+        // 批量保存新增菜单
+        if (!addedMenus.isEmpty()) {
+            this.baseMapper.insertBatchValues(addedMenus.stream()
+                    .map(menuId -> new RoleMenu(roleId, menuId))
+                    .toList());
+        }
+
+        return !addedMenus.isEmpty() || !removedMenus.isEmpty();
+    }
+
 }
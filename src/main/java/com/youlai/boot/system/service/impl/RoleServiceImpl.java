@@ -12,10 +12,10 @@ import com.youlai.boot.common.constant.SystemConstants;
 import com.youlai.boot.common.enums.DataScopeEnum;
 import com.youlai.boot.core.exception.BusinessException;
 import com.youlai.boot.security.model.RoleDataScope;
+import com.youlai.boot.system.cache.RoleDataScopeCache;
 import com.youlai.boot.system.converter.RoleConverter;
 import com.youlai.boot.system.mapper.RoleMapper;
 import com.youlai.boot.system.model.entity.Role;
-import com.youlai.boot.system.model.entity.RoleMenu;
 import com.youlai.boot.system.model.form.RoleForm;
 import com.youlai.boot.system.model.query.RoleQuery;
 import com.youlai.boot.system.model.vo.RolePageVO;
@@ -32,7 +32,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 
 /**
@@ -50,6 +49,7 @@ public class RoleServiceImpl extends ServiceImpl<RoleMapper, Role> implements Ro
     private final UserRoleService userRoleService;
     private final TokenManager tokenManager;
     private final RoleConverter roleConverter;
+    private final RoleDataScopeCache roleDataScopeCache;
 
     /**
      * 角色分页列表
@@ -166,6 +166,11 @@ public class RoleServiceImpl extends ServiceImpl<RoleMapper, Role> implements Ro
                     customDeptChanged = !new java.util.HashSet<>(oldIds).equals(new java.util.HashSet<>(newDeptIds));
                 }
 
+                // 数据权限、自定义部门或角色编码变化时，清除新旧编码的数据权限缓存
+                if (dataScopeChanged || customDeptChanged || !StrUtil.equals(oldRole.getCode(), roleCode)) {
+                    roleDataScopeCache.evict(oldRole.getCode(), roleCode);
+                }
+
                 if (dataScopeChanged || customDeptChanged) {
                     List<Long> userIds = userRoleService.listUserIdsByRoleId(savedRoleId);
                     if (CollectionUtil.isNotEmpty(userIds)) {
@@ -243,6 +248,7 @@ public class RoleServiceImpl extends ServiceImpl<RoleMapper, Role> implements Ro
             if (deleteResult) {
                 // 删除成功，刷新权限缓存
                 roleMenuService.refreshRolePermsCache(role.getCode());
+                roleDataScopeCache.evict(role.getCode());
             }
         }
     }
@@ -260,34 +266,28 @@ public class RoleServiceImpl extends ServiceImpl<RoleMapper, Role> implements Ro
 
     /**
      * 修改角色的资源权限
+     * <p>
+     * 只增删变化的菜单；没有变化时不刷新权限缓存，也不清除路由缓存
      *
      * @param roleId  角色ID
      * @param menuIds 菜单ID集合
+     * @return 是否有变更
      */
     @Override
     @Transactional
-    @CacheEvict(cacheNames = "menu", key = "'routes'")
-    public void assignMenusToRole(Long roleId, List<Long> menuIds) {
+    @CacheEvict(cacheNames = "menu", key = "'routes'", condition = "#result")
+    public boolean assignMenusToRole(Long roleId, List<Long> menuIds) {
         Role role = this.getById(roleId);
         if (role == null) {
             throw new RuntimeException("角色不存在");
         }
-        // 删除角色菜单
-        roleMenuService.remove(
-                new LambdaQueryWrapper<RoleMenu>()
-                        .eq(RoleMenu::getRoleId, roleId)
-        );
-        // 新增角色菜单
-        if (CollectionUtil.isNotEmpty(menuIds)) {
-            List<RoleMenu> roleMenus = menuIds
-                    .stream()
-                    .map(menuId -> new RoleMenu(roleId, menuId))
-                    .toList();
-            roleMenuService.saveBatch(roleMenus);
-        }
+        boolean menusChanged = roleMenuService.saveRoleMenus(roleId, menuIds);
 
         // 刷新角色的权限缓存
-        roleMenuService.refreshRolePermsCache(role.getCode());
+        if (menusChanged) {
+            roleMenuService.refreshRolePermsCache(role.getCode());
+        }
+        return menusChanged;
     }
 
     /**
@@ -327,45 +327,8 @@ public class RoleServiceImpl extends ServiceImpl<RoleMapper, Role> implements Ro
             return List.of();
         }
 
-        // 获取角色的数据权限信息
-        List<Map<String, Object>> roleDataScopeList = this.baseMapper.getRoleDataScopeList(roleCodes);
-        if (CollectionUtil.isEmpty(roleDataScopeList)) {
-            return List.of();
-        }
-
-        // 获取所有自定义数据权限的角色编码
-        List<String> customRoleCodes = roleDataScopeList.stream()
-                .filter(map -> DataScopeEnum.CUSTOM.getValue().equals(map.get("data_scope")))
-                .map(map -> (String) map.get("code"))
-                .toList();
-
-        // 批量获取自定义角色的部门ID
-        Map<String, List<Long>> customDeptIdsMap = new java.util.HashMap<>();
-        if (CollectionUtil.isNotEmpty(customRoleCodes)) {
-            // 查询每个角色关联的部门ID
-            for (String roleCode : customRoleCodes) {
-                // 根据角色编码获取角色ID
-                Role role = this.getOne(new LambdaQueryWrapper<Role>()
-                        .eq(Role::getCode, roleCode)
-                        .select(Role::getId));
-                if (role != null) {
-                    List<Long> deptIds = roleDeptService.getDeptIdsByRoleId(role.getId());
-                    customDeptIdsMap.put(roleCode, deptIds);
-                }
-            }
-        }
-
-        // 构建角色数据权限列表
-        return roleDataScopeList.stream()
-                .map(map -> {
-                    String code = (String) map.get("code");
-                    Integer dataScope = (Integer) map.get("data_scope");
-                    if (DataScopeEnum.CUSTOM.getValue().equals(dataScope)) {
-                        return RoleDataScope.custom(code, customDeptIdsMap.getOrDefault(code, List.of()));
-                    }
-                    return new RoleDataScope(code, dataScope, null);
-                })
-                .toList();
+        // 按角色编码读缓存，未命中的角色一次关联查询回源
+        return roleDataScopeCache.getAll(roleCodes);
     }
 
 }
@@ -58,5 +58,14 @@ public class UserNoticeServiceImpl extends ServiceImpl<UserNoticeMapper, UserNot
         );
     }
 
+    /**
+     * 批量新增用户通知
+     *
+     * @param userNotices 用户通知
+     */
+    @Override
+    public void insertUserNotices(List<UserNotice> userNotices) {
+        this.baseMapper.insertBatchValues(userNotices);
+    }
 
 }
@@ -65,7 +65,7 @@ public class UserRoleServiceImpl extends ServiceImpl<UserRoleMapper, UserRole> i
 
     // 批量保存新增角色
     if (!addedRoles.isEmpty()) {
-      this.saveBatch(addedRoles.stream()
+      this.baseMapper.insertBatchValues(addedRoles.stream()
         .map(roleId -> new UserRole(userId, roleId))
         .collect(Collectors.toList()));
     }
@@ -83,6 +83,19 @@ public class UserRoleServiceImpl extends ServiceImpl<UserRoleMapper, UserRole> i
     }
   }
 
+  /**
+   * 批量新增用户角色关联
+   *
+   * @param userRoles 用户角色关联
+   */
+  @Override
+  public void insertUserRoles(List<UserRole> userRoles) {
+    if (CollectionUtil.isEmpty(userRoles)) {
+      return;
+    }
+    this.baseMapper.insertBatchValues(userRoles);
+  }
+
   /**
    * 判断角色是否存在绑定的用户
    *
@@ -12,6 +12,11 @@ import com.youlai.boot.common.constant.RedisConstants;
 import com.youlai.boot.common.constant.SystemConstants;
 import com.youlai.boot.core.exception.BusinessException;
 import com.youlai.boot.common.model.Option;
+import com.youlai.boot.common.util.ExcelUtils;
+import com.youlai.boot.platform.export.model.vo.ExportJobVO;
+import com.youlai.boot.platform.export.service.ExportJobService;
+import com.youlai.boot.platform.importer.model.vo.ImportJobVO;
+import com.youlai.boot.platform.importer.service.ImportJobService;
 import com.youlai.boot.platform.mail.service.MailService;
 import com.youlai.boot.platform.sms.enums.SmsTypeEnum;
 import com.youlai.boot.platform.sms.service.SmsService;
@@ -20,12 +25,13 @@ import com.youlai.boot.security.model.UserAuthInfo;
 import com.youlai.boot.security.token.TokenManager;
 import com.youlai.boot.security.util.SecurityUtils;
 import com.youlai.boot.system.converter.UserConverter;
-import com.youlai.boot.system.enums.DictCodeEnum;
+import com.youlai.boot.system.listener.UserImportListener;
 import com.youlai.boot.system.mapper.UserMapper;
 import com.youlai.boot.system.model.bo.UserBO;
 import com.youlai.boot.system.model.dto.CurrentUserDTO;
 import com.youlai.boot.system.model.dto.UserExportDTO;
-import com.youlai.boot.system.model.entity.DictItem;
+import com.youlai.boot.system.model.dto.UserImportDTO;
+import com.youlai.boot.system.model.dto.UserImportErrorDTO;
 import com.youlai.boot.system.model.entity.User;
 import com.youlai.boot.system.model.entity.UserRole;
 import com.youlai.boot.system.model.form.*;
@@ -35,11 +41,14 @@ import com.youlai.boot.system.model.vo.UserProfileVO;
 import com.youlai.boot.system.service.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.session.ResultHandler;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
@@ -72,10 +81,12 @@ public class UserServiceImpl extends ServiceImpl<UserMapper, User> implements Us
 
     private final TokenManager tokenManager;
 
-    private final DictItemService dictItemService;
-
     private final UserConverter userConverter;
 
+    private final ExportJobService exportJobService;
+
+    private final ImportJobService importJobService;
+
 
     /**
      * 获取用户分页列表
@@ -244,42 +255,91 @@ public class UserServiceImpl extends ServiceImpl<UserMapper, User> implements Us
     }
 
     /**
-     * 获取导出用户列表
+     * 流式导出用户
      *
      * @param queryParams 查询参数
-     * @return {@link List<UserExportDTO>} 导出用户列表
+     * @param handler     行处理器
      */
     @Override
-    public List<UserExportDTO> listExportUsers(UserQuery queryParams) {
+    public void exportUsers(UserQuery queryParams, ResultHandler<UserExportDTO> handler) {
 
         boolean isRoot = SecurityUtils.isRoot();
         queryParams.setIsRoot(isRoot);
 
-        List<UserExportDTO> exportUsers = this.baseMapper.listExportUsers(queryParams);
-        if (CollectionUtil.isNotEmpty(exportUsers)) {
-            //获取性别的字典项
-            Map<String, String> genderMap = dictItemService.list(
-                            new LambdaQueryWrapper<DictItem>().eq(DictItem::getDictCode,
-                                    DictCodeEnum.GENDER.getValue())
-                    ).stream()
-                    .collect(Collectors.toMap(DictItem::getValue, DictItem::getLabel)
-                    );
-
-            exportUsers.forEach(item -> {
-                String gender = item.getGender();
-                if (StrUtil.isBlank(gender)) {
-                    return;
-                }
-
-                // 判断map是否为空
-                if (genderMap.isEmpty()) {
-                    return;
-                }
-
-                item.setGender(genderMap.get(gender));
-            });
-        }
-        return exportUsers;
+        // 性别等字典字段由 @DictLabel 在写入 Excel 时逐行翻译
+        this.baseMapper.listExportUsers(queryParams, handler);
+    }
+
+    /**
+     * 提交用户导出任务
+     *
+     * @param queryParams 查询参数
+     * @return 导出任务
+     */
+    @Override
+    public ExportJobVO submitExportJob(UserQuery queryParams) {
+        queryParams.setIsRoot(SecurityUtils.isRoot());
+        long total = this.baseMapper.countExportUsers(queryParams);
+        return exportJobService.submit("用户列表.xlsx", UserExportDTO.class, total,
+                writer -> this.baseMapper.listExportUsers(queryParams, writer));
+    }
+
+    /**
+     * 提交用户导入任务
+     *
+     * @param file 上传的 Excel 文件
+     * @return 导入任务
+     */
+    @Override
+    public ImportJobVO submitImportJob(MultipartFile file) throws IOException {
+        return importJobService.submit(file, UserImportErrorDTO.class, (spoolFile, context) ->
+                ExcelUtils.importExcel(spoolFile, UserImportDTO.class, new UserImportListener(context)));
+    }
+
+    /**
+     * 获取已存在的用户名（含已逻辑删除的用户）
+     *
+     * @param usernames 待校验的用户名
+     * @return 已存在的用户名
+     */
+    @Override
+    public Set<String> listExistingUsernames(Collection<String> usernames) {
+        if (CollectionUtil.isEmpty(usernames)) {
+            return Collections.emptySet();
+        }
+        return new HashSet<>(this.baseMapper.listExistingUsernames(usernames));
+    }
+
+    /**
+     * 批量保存导入的用户及其角色
+     *
+     * @param users       用户列表（密码已加密）
+     * @param roleIdsList 与 users 按下标一一对应的角色ID列表
+     */
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public void saveImportBatch(List<User> users, List<List<Long>> roleIdsList) {
+        if (CollectionUtil.isEmpty(users)) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Long createBy = SecurityUtils.getUserId();
+        for (User user : users) {
+            user.setCreateBy(createBy);
+            user.setCreateTime(now);
+            user.setUpdateTime(now);
+        }
+        this.baseMapper.insertBatch(users);
+
+        // 多行 INSERT 回填的自增主键与 users 顺序一致
+        List<UserRole> userRoles = new ArrayList<>();
+        for (int i = 0; i < users.size(); i++) {
+            Long userId = users.get(i).getId();
+            for (Long roleId : roleIdsList.get(i)) {
+                userRoles.add(new UserRole(userId, roleId));
+            }
+        }
+        userRoleService.insertUserRoles(userRoles);
     }
 
     /**
@@ -0,0 +1,495 @@
+package com.youlai.boot.system.writer;
+
+import com.youlai.boot.config.property.LogWriterProperties;
+import com.youlai.boot.system.cache.VisitCounter;
+import com.youlai.boot.system.mapper.LogMapper;
+import com.youlai.boot.system.model.entity.Log;
+import com.youlai.boot.system.model.vo.LogWriterStatsVO;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 操作日志异步批量写入器
+ * <p>
+ * 请求线程只把原始记录放入有界队列，后台分阶段处理：
+ * <ol>
+ *   <li>攒批：每攒够 batchSize 条或等待 flushInterval 后取出一批</li>
+ *   <li>加工：由 enrichThreads 个加工线程并行解析 IP 归属地、UserAgent 并序列化参数与结果，见 {@link LogEnricher}</li>
+ *   <li>入库：以一条多行 INSERT 批量写入，同时把整批访问记录累加到实时访问计数，见 {@link VisitCounter}</li>
+ * </ol>
+ * <ul>
+ *   <li>队列已满时按 overflowPolicy 处理：阻塞（超时丢弃）、丢弃最早日志或交给溢出线程加工后写入本地溢出文件</li>
+ *   <li>批量写入失败时逐条重试，仍失败的日志写入溢出文件（数据本身不合法的日志直接丢弃），空闲时自动回放入库，
+ *   回放时无法解析或无法写入的行移入隔离文件</li>
+ *   <li>应用关闭时停止接收并在 shutdownTimeout 内写完队列中的日志</li>
+ * </ul>
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AsyncLogWriter {
+
+    private static final String SPILL_FILE = "sys_log.spill";
+
+    private static final String REPLAY_FILE = "sys_log.spill.replaying";
+
+    /**
+     * 回放时无法解析或无法写入的日志行
+     */
+    private static final String QUARANTINE_FILE = "sys_log.spill.quarantine";
+
+    /**
+     * 两次回放溢出文件的最小间隔（毫秒）
+     */
+    private static final long REPLAY_INTERVAL_MILLIS = 30_000;
+
+    private final LogMapper logMapper;
+
+    private final LogEnricher logEnricher;
+
+    private final VisitCounter visitCounter;
+
+    private final LogWriterProperties properties;
+
+    private final ObjectMapper objectMapper;
+
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder spilled = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    private final Object spillLock = new Object();
+
+    private BlockingQueue<LogRecord> queue;
+
+    private Thread worker;
+
+    private ExecutorService enrichExecutor;
+
+    private ExecutorService spillExecutor;
+
+    private volatile boolean running;
+
+    private long lastReplayTime;
+
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        // 溢出日志的加工与写文件、同步写入时的访问计数由单独的线程执行，其队列已满时拒绝
+        spillExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()), runnable -> {
+            Thread thread = new Thread(runnable, "sys-log-spiller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (!properties.isEnabled()) {
+            return;
+        }
+        AtomicInteger threadIndex = new AtomicInteger();
+        enrichExecutor = Executors.newFixedThreadPool(Math.max(1, properties.getEnrichThreads()), runnable -> {
+            Thread thread = new Thread(runnable, "sys-log-enricher-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        running = true;
+        worker = new Thread(this::runLoop, "sys-log-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (worker == null) {
+            spillExecutor.shutdown();
+            return;
+        }
+        running = false;
+        worker.interrupt();
+        try {
+            worker.join(properties.getShutdownTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        enrichExecutor.shutdown();
+        spillExecutor.shutdown();
+        try {
+            spillExecutor.awaitTermination(properties.getShutdownTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            // 超时未写完的日志写入溢出文件，下次启动后回放
+            List<LogRecord> remaining = new ArrayList<>();
+            queue.drainTo(remaining);
+            visitCounter.record(remaining);
+            remaining.forEach(record -> spill(logEnricher.enrich(record)));
+            log.warn("日志写入器关闭超时，{} 条日志已写入溢出文件", remaining.size());
+        }
+    }
+
+    /**
+     * 提交日志原始记录
+     *
+     * @param record 原始记录
+     */
+    public void submit(LogRecord record) {
+        if (!running) {
+            // 未启用异步写入或应用正在关闭，同步加工并写入，访问计数仍在后台执行
+            logMapper.insert(logEnricher.enrich(record));
+            written.increment();
+            try {
+                spillExecutor.execute(() -> visitCounter.record(List.of(record)));
+            } catch (RejectedExecutionException e) {
+                log.debug("访问计数队列已满，跳过本次计数：{}", record.requestUri());
+            }
+            return;
+        }
+        if (queue.offer(record)) {
+            return;
+        }
+        switch (properties.getOverflowPolicy()) {
+            case BLOCK -> {
+                try {
+                    if (!queue.offer(record, properties.getBlockTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                        dropped.increment();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    dropped.increment();
+                }
+            }
+            case DROP_OLDEST -> {
+                while (!queue.offer(record)) {
+                    if (queue.poll() != null) {
+                        dropped.increment();
+                    }
+                }
+            }
+            // 加工与写文件交给溢出线程，请求线程不做解析、序列化和文件 IO
+            case SPILL -> {
+                try {
+                    spillExecutor.execute(() -> {
+                        visitCounter.record(List.of(record));
+                        Log sysLog = enrichQuietly(record);
+                        if (sysLog != null) {
+                            spill(sysLog);
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    dropped.increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * 获取写入状态
+     */
+    public LogWriterStatsVO getStats() {
+        LogWriterStatsVO stats = new LogWriterStatsVO();
+        stats.setQueueSize(queue.size());
+        stats.setQueueCapacity(properties.getQueueCapacity());
+        stats.setWritten(written.sum());
+        stats.setDropped(dropped.sum());
+        stats.setSpilled(spilled.sum());
+        stats.setFailed(failed.sum());
+        return stats;
+    }
+
+    private void runLoop() {
+        int batchSize = Math.max(1, properties.getBatchSize());
+        long intervalNanos = Math.max(1, properties.getFlushInterval().toNanos());
+        List<LogRecord> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                LogRecord first = queue.poll(intervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    replaySpillIfIdle();
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + intervalNanos;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                        break;
+                    }
+                    LogRecord next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // 关闭信号：继续循环把队列写完
+            }
+            if (!batch.isEmpty()) {
+                visitCounter.record(batch);
+                List<Log> logs = enrichAll(batch);
+                if (!logs.isEmpty()) {
+                    flush(logs);
+                }
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 并行加工一批原始记录，加工失败的记录计入失败数
+     */
+    private List<Log> enrichAll(List<LogRecord> records) {
+        int threads = Math.max(1, properties.getEnrichThreads());
+        int chunkSize = (records.size() + threads - 1) / threads;
+        List<CompletableFuture<List<Log>>> futures = new ArrayList<>(threads);
+        for (int from = 0; from < records.size(); from += chunkSize) {
+            List<LogRecord> chunk = records.subList(from, Math.min(records.size(), from + chunkSize));
+            futures.add(CompletableFuture.supplyAsync(() -> chunk.stream()
+                    .map(this::enrichQuietly)
+                    .filter(Objects::nonNull)
+                    .toList(), enrichExecutor));
+        }
+        List<Log> logs = new ArrayList<>(records.size());
+        for (CompletableFuture<List<Log>> future : futures) {
+            logs.addAll(future.join());
+        }
+        return logs;
+    }
+
+    private Log enrichQuietly(LogRecord record) {
+        try {
+            return logEnricher.enrich(record);
+        } catch (Exception e) {
+            failed.increment();
+            log.error("日志加工失败，已丢弃：{} {}", record.requestUri(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 批量写入，失败时逐条重试
+     */
+    private void flush(List<Log> batch) {
+        try {
+            logMapper.insertBatch(batch);
+            written.add(batch.size());
+            return;
+        } catch (Exception e) {
+            log.warn("日志批量写入失败，逐条重试：{}", e.getMessage());
+        }
+        for (Log sysLog : batch) {
+            try {
+                logMapper.insert(sysLog);
+                written.increment();
+            } catch (DataIntegrityViolationException e) {
+                failed.increment();
+                log.error("日志数据不合法，已丢弃：{}", e.getMessage());
+            } catch (Exception e) {
+                failed.increment();
+                spill(sysLog);
+            }
+        }
+    }
+
+    /**
+     * 写入本地溢出文件（每行一条 JSON）
+     */
+    private void spill(Log sysLog) {
+        try {
+            String line = objectMapper.writeValueAsString(sysLog) + System.lineSeparator();
+            synchronized (spillLock) {
+                Path dir = Path.of(properties.getSpillDir());
+                Files.createDirectories(dir);
+                Files.writeString(dir.resolve(SPILL_FILE), line, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            spilled.increment();
+        } catch (Exception e) {
+            dropped.increment();
+            log.error("日志写入溢出文件失败，已丢弃：{}", e.getMessage());
+        }
+    }
+
+    /**
+     * 队列空闲时回放溢出文件
+     */
+    private void replaySpillIfIdle() {
+        long now = System.currentTimeMillis();
+        if (!running || now - lastReplayTime < REPLAY_INTERVAL_MILLIS) {
+            return;
+        }
+        lastReplayTime = now;
+        replaySpill();
+    }
+
+    /**
+     * 回放溢出文件
+     * <p>
+     * 先将溢出文件改名为回放文件，按批写入后删除，回放文件不存在时溢出文件才能再次轮转：
+     * <ul>
+     *   <li>无法解析的行与逐条重试仍失败的行移入隔离文件，回放总能继续推进</li>
+     *   <li>数据库不可用时去掉已入库的行并保留回放文件，等待下次重试</li>
+     * </ul>
+     */
+    void replaySpill() {
+        Path dir = Path.of(properties.getSpillDir());
+        Path replayFile = dir.resolve(REPLAY_FILE);
+        try {
+            synchronized (spillLock) {
+                Path spillFile = dir.resolve(SPILL_FILE);
+                if (Files.notExists(replayFile) && Files.exists(spillFile)) {
+                    Files.move(spillFile, replayFile, StandardCopyOption.ATOMIC_MOVE);
+                }
+            }
+            if (Files.notExists(replayFile)) {
+                return;
+            }
+            int batchSize = Math.max(1, properties.getBatchSize());
+            List<Log> batch = new ArrayList<>(batchSize);
+            List<String> batchLines = new ArrayList<>(batchSize);
+            int total = 0;
+            int lineNo = 0;
+            int committedLines = 0;
+            try (BufferedReader reader = Files.newBufferedReader(replayFile, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    lineNo++;
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    try {
+                        batch.add(objectMapper.readValue(line, Log.class));
+                        batchLines.add(line);
+                    } catch (JacksonException e) {
+                        log.error("溢出文件第 {} 行无法解析，已移入隔离文件：{}", lineNo, e.getOriginalMessage());
+                        quarantine(List.of(line));
+                        continue;
+                    }
+                    if (batch.size() >= batchSize) {
+                        total += replayBatch(batch, batchLines);
+                        committedLines = lineNo;
+                        batch.clear();
+                        batchLines.clear();
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    total += replayBatch(batch, batchLines);
+                }
+            } catch (IOException | RuntimeException e) {
+                // 去掉已入库的行，避免下次回放重复写入
+                dropReplayedLines(replayFile, committedLines);
+                log.warn("溢出文件回放失败，稍后重试：{}", e.getMessage());
+                return;
+            }
+            Files.delete(replayFile);
+            log.info("溢出文件回放完成，共 {} 条日志", total);
+        } catch (IOException | RuntimeException e) {
+            log.warn("溢出文件回放失败，稍后重试：{}", e.getMessage());
+        }
+    }
+
+    /**
+     * 回放一批日志，批量写入失败时逐条重试，仍失败的行移入隔离文件
+     *
+     * @return 写入条数
+     * @throws DataAccessException 数据库不可用，整批留待下次回放
+     */
+    private int replayBatch(List<Log> batch, List<String> lines) throws IOException {
+        try {
+            logMapper.insertBatch(batch);
+            written.add(batch.size());
+            return batch.size();
+        } catch (Exception e) {
+            if (isUnavailable(e)) {
+                throw e;
+            }
+            log.warn("溢出日志批量写入失败，逐条重试：{}", e.getMessage());
+        }
+        int inserted = 0;
+        List<String> rejected = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            try {
+                logMapper.insert(batch.get(i));
+                written.increment();
+                inserted++;
+            } catch (Exception e) {
+                if (isUnavailable(e) && inserted == 0 && rejected.isEmpty()) {
+                    throw e;
+                }
+                rejected.add(lines.get(i));
+                log.error("溢出日志写入失败，已移入隔离文件：{}", e.getMessage());
+            }
+        }
+        if (!rejected.isEmpty()) {
+            failed.add(rejected.size());
+            quarantine(rejected);
+        }
+        return inserted;
+    }
+
+    /**
+     * 是否为数据库连接不可用等可恢复的错误（与具体日志数据无关）
+     */
+    private static boolean isUnavailable(Exception e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException;
+    }
+
+    /**
+     * 追加到隔离文件，留待人工排查
+     */
+    private void quarantine(List<String> lines) throws IOException {
+        Files.write(Path.of(properties.getSpillDir()).resolve(QUARANTINE_FILE), lines, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * 删除回放文件中已入库的前若干行
+     */
+    private void dropReplayedLines(Path replayFile, int lines) throws IOException {
+        if (lines <= 0) {
+            return;
+        }
+        Path tmpFile = replayFile.resolveSibling(REPLAY_FILE + ".tmp");
+        try (var lineStream = Files.lines(replayFile, StandardCharsets.UTF_8)) {
+            Files.write(tmpFile, (Iterable<String>) lineStream.skip(lines)::iterator, StandardCharsets.UTF_8);
+        }
+        Files.move(tmpFile, replayFile, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+}
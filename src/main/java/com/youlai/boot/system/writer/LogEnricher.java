@@ -0,0 +1,195 @@
+package com.youlai.boot.system.writer;
+
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.crypto.digest.DigestUtil;
+import cn.hutool.http.useragent.UserAgent;
+import cn.hutool.http.useragent.UserAgentUtil;
+import com.aliyun.oss.HttpMethod;
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.youlai.boot.common.enums.LogModuleEnum;
+import com.youlai.boot.common.model.IpRegion;
+import com.youlai.boot.common.util.IPUtils;
+import com.youlai.boot.core.serializer.BoundedJsonWriter;
+import com.youlai.boot.system.mapper.UserMapper;
+import com.youlai.boot.system.model.entity.Log;
+import com.youlai.boot.system.model.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 操作日志加工
+ * <p>
+ * 在后台线程中把 {@link LogRecord} 加工为日志实体：解析 IP 归属地、UserAgent 与操作人昵称，序列化请求参数、响应结果与异常堆栈。
+ * 序列化使用 {@link BoundedJsonWriter}，超出长度上限即停止，大请求体不会被完整序列化。
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class LogEnricher {
+
+    /**
+     * 请求参数与响应结果的最大长度
+     */
+    private static final int MAX_CONTENT_LENGTH = 65535;
+
+    private final CacheManager cacheManager;
+
+    private final UserMapper userMapper;
+
+    /**
+     * 用户昵称缓存，昵称变更后最多延迟过期时间生效
+     */
+    private final Cache<Long, String> nicknameCache = Caffeine.newBuilder()
+            .maximumSize(10000)
+            .expireAfterWrite(Duration.ofMinutes(5))
+            .build();
+
+    /**
+     * 加工日志
+     *
+     * @param record 原始记录
+     * @return 日志实体
+     */
+    public Log enrich(LogRecord record) {
+        Log log = new Log();
+        log.setExecutionTime(record.executionTime());
+        if (record.module() == null && record.exception() != null) {
+            log.setModule(LogModuleEnum.EXCEPTION);
+            log.setContent("系统发生异常");
+            log.setRequestParams(serializeParams(record));
+            log.setResponseContent(toBoundedJson(record.exception().getStackTrace()));
+        } else {
+            log.setModule(record.module());
+            log.setContent(record.content());
+            // 请求参数
+            if (record.recordParams()) {
+                log.setRequestParams(serializeParams(record));
+            }
+            // 响应结果
+            if (record.recordResult() && record.result() != null) {
+                log.setResponseContent(toBoundedJson(record.result()));
+            }
+        }
+        log.setRequestUri(record.requestUri());
+        log.setRequestMethod(record.requestMethod());
+        log.setMethod(record.method());
+        log.setCreateBy(record.userId());
+        log.setOperatorName(resolveNickname(record.userId()));
+        log.setCreateTime(record.createTime());
+
+        String ipAddr = record.ip();
+        if (StrUtil.isNotBlank(ipAddr)) {
+            log.setIp(ipAddr);
+            IpRegion region = IPUtils.getRegion(ipAddr);
+            if (region != null) {
+                log.setProvince(region.province());
+                log.setCity(region.city());
+            }
+        }
+
+        // 获取浏览器和终端系统信息
+        String userAgentString = record.userAgent();
+        UserAgent userAgent = resolveUserAgent(userAgentString);
+        if (Objects.nonNull(userAgent)) {
+            // 系统信息
+            log.setOs(userAgent.getOs().getName());
+            // 浏览器信息
+            log.setBrowser(userAgent.getBrowser().getName());
+            log.setBrowserVersion(userAgent.getBrowser().getVersion(userAgentString));
+        }
+        return log;
+    }
+
+    /**
+     * 获取操作人昵称，写入日志后查询无需再关联用户表
+     */
+    private String resolveNickname(Long userId) {
+        if (userId == null) {
+            return null;
+        }
+        return nicknameCache.get(userId, id -> {
+            User user = userMapper.selectOne(new LambdaQueryWrapper<User>()
+                    .select(User::getNickname)
+                    .eq(User::getId, id));
+            return user != null ? user.getNickname() : null;
+        });
+    }
+
+    /**
+     * 序列化请求参数
+     * GET/PUT/POST 请求记录方法参数，其他请求记录路径变量
+     */
+    private String serializeParams(LogRecord record) {
+        String requestMethod = record.requestMethod();
+        if (HttpMethod.GET.name().equalsIgnoreCase(requestMethod) || HttpMethod.PUT.name().equalsIgnoreCase(requestMethod) || HttpMethod.POST.name().equalsIgnoreCase(requestMethod)) {
+            return convertArgumentsToString(record.args());
+        }
+        return record.uriVariables() != null ? StrUtil.sub(record.uriVariables().toString(), 0, MAX_CONTENT_LENGTH) : "";
+    }
+
+    /**
+     * 将参数列表转换为字符串
+     *
+     * @param args 参数列表
+     * @return 参数字符串
+     */
+    private String convertArgumentsToString(List<Object> args) {
+        BoundedJsonWriter params = BoundedJsonWriter.acquire(MAX_CONTENT_LENGTH);
+        if (args != null) {
+            for (Object param : args) {
+                if (params.isTruncated()) {
+                    break;
+                }
+                if (params.length() > 0) {
+                    params.writeRaw(" ");
+                }
+                // 如果是基本类型或者枚举类型，直接添加到参数字符串中
+                if (param.getClass().isPrimitive() || param.getClass().isEnum()) {
+                    params.writeRaw(String.valueOf(param));
+                } else {
+                    params.writeJson(param);
+                }
+            }
+        }
+        return params.toString();
+    }
+
+    /**
+     * 序列化为不超过最大长度的 JSON
+     */
+    private String toBoundedJson(Object value) {
+        return BoundedJsonWriter.acquire(MAX_CONTENT_LENGTH).writeJson(value).toString();
+    }
+
+    /**
+     * 解析UserAgent
+     *
+     * @param userAgentString UserAgent字符串
+     * @return UserAgent
+     */
+    private UserAgent resolveUserAgent(String userAgentString) {
+        if (StrUtil.isBlank(userAgentString)) {
+            return null;
+        }
+        // 给userAgentStringMD5加密一次防止过长
+        String userAgentStringMD5 = DigestUtil.md5Hex(userAgentString);
+        //判断是否命中缓存
+        UserAgent userAgent = Objects.requireNonNull(cacheManager.getCache("userAgent")).get(userAgentStringMD5, UserAgent.class);
+        if (userAgent != null) {
+            return userAgent;
+        }
+        userAgent = UserAgentUtil.parse(userAgentString);
+        Objects.requireNonNull(cacheManager.getCache("userAgent")).put(userAgentStringMD5, userAgent);
+        return userAgent;
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.youlai.boot.system.writer;
+
+import com.youlai.boot.common.enums.LogModuleEnum;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 操作日志原始记录
+ * <p>
+ * 请求线程只采集廉价的原始数据（引用或不可变副本），IP 归属地解析、UserAgent 解析与参数/结果的 JSON 序列化
+ * 由 {@link LogEnricher} 在后台线程中完成。请求参数与响应结果按引用保存，日志写入前不应再被修改。
+ *
+ * @param module         日志模块
+ * @param content        日志内容
+ * @param recordParams   是否记录请求参数
+ * @param recordResult   是否记录响应结果
+ * @param requestUri     请求路径
+ * @param requestMethod  请求方式
+ * @param method         方法名
+ * @param ip             IP 地址
+ * @param userAgent      UserAgent 原始字符串
+ * @param args           请求参数（已排除请求、响应与上传文件对象）
+ * @param uriVariables   路径变量副本
+ * @param result         响应结果
+ * @param exception      异常
+ * @param executionTime  执行时长（毫秒）
+ * @param userId         操作人ID
+ * @param createTime     操作时间
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+public record LogRecord(
+        LogModuleEnum module,
+        String content,
+        boolean recordParams,
+        boolean recordResult,
+        String requestUri,
+        String requestMethod,
+        String method,
+        String ip,
+        String userAgent,
+        List<Object> args,
+        Map<String, String> uriVariables,
+        Object result,
+        Throwable exception,
+        long executionTime,
+        Long userId,
+        LocalDateTime createTime
+) {
+}
@@ -0,0 +1,118 @@
+package com.youlai.boot.system.writer;
+
+import com.youlai.boot.common.util.FullTextUtils;
+import com.youlai.boot.config.property.SearchProperties;
+import com.youlai.boot.system.mapper.LogSearchMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * 日志检索表增量同步
+ * <p>
+ * sys_log 是分区表，InnoDB 分区表不支持全文索引，关键字检索改走带 ngram 全文索引的 sys_log_search：
+ * <ul>
+ *   <li>由定时任务 {@code logSearchIndexJobHandler} 按主键区间把日志批量同步到检索表（INSERT IGNORE）</li>
+ *   <li>多节点并发写入时主键提交乱序，每次同步后记录检查点（同步时间与当时的最大主键），
+ *   下次从上次同步前 logIndexLag 的检查点起回扫，主键分配后 logIndexLag 内提交的日志都不会遗漏；
+ *   没有可用检查点时（刚启动或任务切换到其他节点）从检索表最大主键往回 {@link #COLD_START_OVERLAP} 条回扫</li>
+ *   <li>尚未同步的日志在查询时按 LIKE 模糊匹配，定时任务未执行时检索结果也不会缺失</li>
+ *   <li>日志分区删除后由 {@link #purgeBefore(LocalDateTime)} 分批清理对应的检索记录</li>
+ * </ul>
+ * 未启用全文检索时不同步，查询回退到 LIKE 模糊匹配。
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LogSearchIndexer {
+
+    /**
+     * 没有可用检查点时往回回扫的主键数量
+     */
+    static final long COLD_START_OVERLAP = 10_000;
+
+    /**
+     * 清理检索记录时每批删除的条数
+     */
+    private static final int PURGE_BATCH_SIZE = 5000;
+
+    private final LogSearchMapper logSearchMapper;
+
+    private final SearchProperties properties;
+
+    /**
+     * 同步检查点：[同步开始时间（毫秒）, 当时日志表的最大主键]，按时间升序
+     */
+    private final Deque<long[]> checkpoints = new ArrayDeque<>();
+
+    private long lastSyncTime;
+
+    /**
+     * 同步新写入的日志
+     *
+     * @return 新同步的条数
+     */
+    public synchronized int sync() {
+        if (!properties.isFulltextEnabled()) {
+            return 0;
+        }
+        long now = System.currentTimeMillis();
+        long maxId = logSearchMapper.getMaxSourceLogId();
+        long afterId = rescanFrom();
+        long batchSize = Math.max(1, properties.getLogIndexBatchSize());
+        int total = 0;
+        while (afterId < maxId) {
+            long toId = Math.min(maxId, afterId + batchSize);
+            total += logSearchMapper.syncLogs(afterId, toId);
+            afterId = toId;
+        }
+        checkpoints.addLast(new long[]{now, maxId});
+        lastSyncTime = now;
+        return total;
+    }
+
+    /**
+     * 回扫起点：上次同步前 logIndexLag 的最近检查点的最大主键，并丢弃更早的检查点
+     * <p>
+     * 某条日志不再回扫时，上一次同步（开始于其主键分配 logIndexLag 之后）已经扫描过它
+     */
+    private long rescanFrom() {
+        long bound = lastSyncTime - properties.getLogIndexLag().toMillis();
+        long[] usable = null;
+        while (!checkpoints.isEmpty() && checkpoints.peekFirst()[0] <= bound) {
+            usable = checkpoints.pollFirst();
+        }
+        if (usable != null) {
+            // 保留作为下次的候选
+            checkpoints.addFirst(usable);
+            return usable[1];
+        }
+        return Math.max(0, logSearchMapper.getMaxLogId() - COLD_START_OVERLAP);
+    }
+
+    /**
+     * 分批删除创建时间早于指定时间的检索记录
+     *
+     * @param before 截止时间（不含）
+     * @return 删除条数
+     */
+    public long purgeBefore(LocalDateTime before) {
+        if (!FullTextUtils.isEnabled()) {
+            return 0;
+        }
+        long total = 0;
+        int deleted;
+        do {
+            deleted = logSearchMapper.deleteBefore(before, PURGE_BATCH_SIZE);
+            total += deleted;
+        } while (deleted == PURGE_BATCH_SIZE);
+        return total;
+    }
+}
@@ -0,0 +1,15 @@
+-- 批量上报本地限流用量
+-- KEYS[i] 全局窗口计数键
+-- ARGV[2i-1] KEYS[i] 本次上报的增量
+-- ARGV[2i] KEYS[i] 的过期时间（毫秒）
+-- 返回各计数键上报后的全局计数
+local counts = {}
+for i, key in ipairs(KEYS) do
+    local count = redis.call('INCRBY', key, tonumber(ARGV[i * 2 - 1]))
+    -- 首次写入或键丢失过期时间时设置过期，窗口结束后自动清理
+    if redis.call('PTTL', key) < 0 then
+        redis.call('PEXPIRE', key, tonumber(ARGV[i * 2]))
+    end
+    counts[i] = count
+end
+return counts
@@ -0,0 +1,20 @@
+-- 固定窗口限流
+-- KEYS[1] 限流键
+-- ARGV[1] 窗口内允许的请求数
+-- ARGV[2] 窗口时长（毫秒）
+-- ARGV[3] 本次请求占用的许可数
+-- 返回 1-放行 0-限流
+local limit = tonumber(ARGV[1])
+local window = tonumber(ARGV[2])
+local permits = tonumber(ARGV[3])
+
+local count = redis.call('INCRBY', KEYS[1], permits)
+-- INCR 与 PEXPIRE 在同一脚本内原子执行，键不会因进程崩溃而永不过期
+if count == permits or redis.call('PTTL', KEYS[1]) < 0 then
+    redis.call('PEXPIRE', KEYS[1], window)
+end
+
+if count > limit then
+    return 0
+end
+return 1
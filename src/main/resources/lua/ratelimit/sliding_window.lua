@@ -0,0 +1,40 @@
+-- 滑动窗口计数器限流（按上一窗口计数加权估算，单键 O(1) 内存）
+-- KEYS[1] 限流键（Hash：w-当前窗口序号 c-当前窗口计数 p-上一窗口计数）
+-- ARGV[1] 窗口内允许的请求数
+-- ARGV[2] 窗口时长（毫秒）
+-- ARGV[3] 本次请求占用的许可数
+-- 返回 1-放行 0-限流
+local limit = tonumber(ARGV[1])
+local window = tonumber(ARGV[2])
+local permits = tonumber(ARGV[3])
+
+-- 使用 Redis 服务器时间，避免多节点时钟偏差
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+local current = math.floor(now / window)
+
+local data = redis.call('HMGET', KEYS[1], 'w', 'c', 'p')
+local w = tonumber(data[1])
+local c = tonumber(data[2]) or 0
+local p = tonumber(data[3]) or 0
+
+if w == nil then
+    c, p = 0, 0
+elseif w == current - 1 then
+    c, p = 0, c
+elseif w ~= current then
+    c, p = 0, 0
+end
+
+local elapsed = (now % window) / window
+local estimated = p * (1 - elapsed) + c
+
+local allowed = 0
+if estimated + permits <= limit then
+    c = c + permits
+    allowed = 1
+end
+
+redis.call('HSET', KEYS[1], 'w', current, 'c', c, 'p', p)
+redis.call('PEXPIRE', KEYS[1], window * 2)
+return allowed
@@ -0,0 +1,30 @@
+-- 令牌桶限流（桶容量为 limit，每个窗口时长匀速补满）
+-- KEYS[1] 限流键（Hash：t-剩余令牌数 ts-上次补充时间）
+-- ARGV[1] 桶容量
+-- ARGV[2] 补满整桶所需时长（毫秒）
+-- ARGV[3] 本次请求占用的令牌数
+-- 返回 1-放行 0-限流
+local capacity = tonumber(ARGV[1])
+local window = tonumber(ARGV[2])
+local permits = tonumber(ARGV[3])
+local rate = capacity / window
+
+-- 使用 Redis 服务器时间，避免多节点时钟偏差
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local data = redis.call('HMGET', KEYS[1], 't', 'ts')
+local tokens = tonumber(data[1]) or capacity
+local ts = tonumber(data[2]) or now
+
+tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate)
+
+local allowed = 0
+if tokens >= permits then
+    tokens = tokens - permits
+    allowed = 1
+end
+
+redis.call('HSET', KEYS[1], 't', tostring(tokens), 'ts', now)
+redis.call('PEXPIRE', KEYS[1], window)
+return allowed
@@ -0,0 +1,82 @@
+package com.youlai.boot.common.util;
+
+import com.youlai.boot.system.model.dto.UserExportDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 用户导出分块写入吞吐量基准测试
+ * <p>
+ * 模拟流式查询逐行回调 50 万行，统计每秒写入行数与写入期间的堆内存峰值增量。
+ * 运行方式：{@code mvn test -Dtest=ExcelChunkWriterBenchmarkTest -Dbenchmark=true}
+ *
+ * @author Ray.Hao
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ExcelChunkWriterBenchmarkTest {
+
+    private static final int ROWS = 500_000;
+
+    @Test
+    @DisplayName("50 万行分块写入吞吐量与内存占用")
+    void benchmark() throws Exception {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long baseline = memory.getHeapMemoryUsage().getUsed();
+
+        // 后台采样堆内存峰值
+        AtomicLong peak = new AtomicLong(baseline);
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread sampler = new Thread(() -> {
+            while (running.get()) {
+                peak.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+        sampler.setDaemon(true);
+        sampler.start();
+
+        long start = System.nanoTime();
+        long rows;
+        try (ExcelChunkWriter<UserExportDTO> writer =
+                     new ExcelChunkWriter<>(OutputStream.nullOutputStream(), UserExportDTO.class, "用户列表")) {
+            LocalDateTime now = LocalDateTime.now();
+            for (int i = 0; i < ROWS; i++) {
+                UserExportDTO row = new UserExportDTO();
+                row.setUsername("user" + i);
+                row.setNickname("用户" + i);
+                row.setDeptName("研发部");
+                row.setMobile(String.valueOf(13_800_000_000L + i));
+                row.setEmail("user" + i + "@youlai.tech");
+                row.setCreateTime(now);
+                writer.write(row);
+            }
+            rows = writer.getRowCount();
+        } finally {
+            running.set(false);
+            sampler.join();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long peakMb = (peak.get() - baseline) / (1024 * 1024);
+        System.out.printf("分块写入: %d 行, %.2f s, %.0f rows/s, 堆内存峰值增量 %d MB%n",
+                rows, seconds, rows / seconds, peakMb);
+
+        assertThat(rows).isEqualTo(ROWS);
+        // 50 万行的 DTO 全部驻留约需数百 MB，分块写入应远低于此
+        assertThat(peakMb).isLessThan(256);
+    }
+}
@@ -0,0 +1,126 @@
+package com.youlai.boot.common.util;
+
+import com.youlai.boot.common.model.IpRegion;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.lionsoul.ip2region.xdb.Searcher;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * IP 归属地查询吞吐量基准测试
+ * <p>
+ * 16 线程并发查询，对比按文件查询（每线程一个 Searcher）、共享内存 Searcher 与 {@link IPUtils#getRegion}（内存 + LRU 缓存 + 预解析）。
+ * 需要类路径下存在 /data/ip2region.xdb，否则跳过。
+ *
+ * @author Ray
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIf("dbPresent")
+class IPUtilsBenchmarkTest {
+
+    private static final String DB_PATH = "/data/ip2region.xdb";
+    private static final int THREADS = 16;
+    private static final int LOOKUPS_PER_THREAD = 200_000;
+
+    /**
+     * 查询的 IP 集合：少量热点 IP（模拟活跃用户）与大量随机 IP 混合
+     */
+    private String[] ips;
+    private byte[] content;
+    private Path dbFile;
+
+    static boolean dbPresent() {
+        return IPUtilsBenchmarkTest.class.getResource(DB_PATH) != null;
+    }
+
+    @BeforeAll
+    void setUp() throws Exception {
+        try (InputStream inputStream = getClass().getResourceAsStream(DB_PATH)) {
+            content = inputStream.readAllBytes();
+        }
+        dbFile = Files.createTempFile("ip2region", ".xdb");
+        Files.write(dbFile, content);
+        new IPUtils().init();
+
+        Random random = new Random(42);
+        ips = new String[100_000];
+        for (int i = 0; i < ips.length; i++) {
+            // 80% 的请求来自 1000 个热点 IP
+            long ip = random.nextInt(10) < 8 ? 0x3A000000L + random.nextInt(1000) : random.nextLong(1L << 32);
+            ips[i] = Searcher.long2ip(ip);
+        }
+    }
+
+    @Test
+    @DisplayName("16 线程查询吞吐量对比")
+    void benchmark() throws Exception {
+        Searcher sharedSearcher = Searcher.newWithBuffer(content);
+
+        double fileOnly = run("文件查询", () -> {
+            Searcher searcher = Searcher.newWithFileOnly(dbFile.toString());
+            try {
+                return lookups(ip -> IpRegion.parse(searcher.search(ip)));
+            } finally {
+                searcher.close();
+            }
+        });
+        double buffer = run("内存查询", () -> lookups(ip -> IpRegion.parse(sharedSearcher.search(ip))));
+        double cached = run("内存查询+LRU缓存", () -> lookups(IPUtils::getRegion));
+
+        assertThat(buffer).isGreaterThan(fileOnly);
+        assertThat(cached).isGreaterThan(0);
+    }
+
+    private double run(String name, Callable<Integer> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            long start = System.nanoTime();
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(task));
+            }
+            long total = 0;
+            for (Future<Integer> future : futures) {
+                total += future.get();
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            double opsPerSecond = total / seconds;
+            System.out.printf("%s: %d 次查询, %.2f s, %.0f ops/s%n", name, total, seconds, opsPerSecond);
+            return opsPerSecond;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private int lookups(Lookup lookup) throws Exception {
+        int offset = ThreadLocalRandom.current().nextInt(ips.length);
+        int found = 0;
+        for (int i = 0; i < LOOKUPS_PER_THREAD; i++) {
+            if (lookup.apply(ips[(offset + i) % ips.length]) != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @FunctionalInterface
+    private interface Lookup {
+        IpRegion apply(String ip) throws Exception;
+    }
+}
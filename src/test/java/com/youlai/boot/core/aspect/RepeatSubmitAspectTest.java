@@ -0,0 +1,119 @@
+package com.youlai.boot.core.aspect;
+
+import com.youlai.boot.common.annotation.RepeatSubmit;
+import com.youlai.boot.common.constant.SecurityConstants;
+import com.youlai.boot.core.exception.IdempotencyConflictException;
+import com.youlai.boot.core.web.Result;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 防重复提交切面幂等键单元测试
+ *
+ * @author Ray.Hao
+ */
+@DisplayName("幂等键测试")
+class RepeatSubmitAspectTest {
+
+    private RedisTemplate<String, Object> redisTemplate;
+    private ValueOperations<String, Object> valueOperations;
+    private RepeatSubmitAspect aspect;
+    private RepeatSubmit repeatSubmit;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws NoSuchMethodException {
+        redisTemplate = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        aspect = new RepeatSubmitAspect(redisTemplate);
+        repeatSubmit = RepeatSubmitAspectTest.class.getDeclaredMethod("annotated").getAnnotation(RepeatSubmit.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("相同幂等键、不同请求参数 - 拒绝并不执行")
+    void whenSameKeyWithDifferentBody_thenConflict() throws Throwable {
+        bindRequest("POST", "/api/v1/users");
+        ArgumentCaptor<Object> firstRecord = ArgumentCaptor.forClass(Object.class);
+        when(valueOperations.setIfAbsent(anyString(), firstRecord.capture(), anyLong(), any(TimeUnit.class)))
+                .thenReturn(true, false);
+        ProceedingJoinPoint first = joinPoint(Map.of("username", "a"), Result.success());
+        aspect.handleRepeatSubmit(first, repeatSubmit);
+
+        when(valueOperations.get(anyString())).thenReturn(
+                new RepeatSubmitAspect.IdempotencyRecord(
+                        ((RepeatSubmitAspect.IdempotencyRecord) firstRecord.getAllValues().get(0)).getRequestDigest(),
+                        Result.success()));
+        ProceedingJoinPoint second = joinPoint(Map.of("username", "b"), Result.success());
+
+        assertThatThrownBy(() -> aspect.handleRepeatSubmit(second, repeatSubmit))
+                .isInstanceOf(IdempotencyConflictException.class);
+        verify(second, never()).proceed();
+    }
+
+    @Test
+    @DisplayName("幂等键按请求方法和路径隔离")
+    void keyIncludesMethodAndUri() throws Throwable {
+        when(valueOperations.setIfAbsent(anyString(), any(), anyLong(), any(TimeUnit.class))).thenReturn(true);
+        ArgumentCaptor<String> keys = ArgumentCaptor.forClass(String.class);
+
+        bindRequest("POST", "/api/v1/users");
+        aspect.handleRepeatSubmit(joinPoint(Map.of(), Result.success()), repeatSubmit);
+        bindRequest("PUT", "/api/v1/roles/1");
+        aspect.handleRepeatSubmit(joinPoint(Map.of(), Result.success()), repeatSubmit);
+
+        verify(valueOperations, times(2)).setIfAbsent(keys.capture(), any(), anyLong(), any(TimeUnit.class));
+        assertThat(keys.getAllValues().get(0)).isNotEqualTo(keys.getAllValues().get(1));
+    }
+
+    @Test
+    @DisplayName("返回值不是 Result - 删除执行中占位")
+    void whenResultNotCacheable_thenDeleteMarker() throws Throwable {
+        bindRequest("POST", "/api/v1/users/export");
+        when(valueOperations.setIfAbsent(anyString(), any(), anyLong(), any(TimeUnit.class))).thenReturn(true);
+
+        aspect.handleRepeatSubmit(joinPoint(Map.of(), null), repeatSubmit);
+
+        verify(redisTemplate).delete(anyString());
+        verify(valueOperations, never()).set(anyString(), any(), anyLong(), any(TimeUnit.class));
+    }
+
+    @RepeatSubmit
+    private void annotated() {
+    }
+
+    private void bindRequest(String method, String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.addHeader(SecurityConstants.IDEMPOTENCY_KEY_HEADER, "key-1");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    private ProceedingJoinPoint joinPoint(Object body, Object result) throws Throwable {
+        ProceedingJoinPoint pjp = mock(ProceedingJoinPoint.class);
+        when(pjp.getArgs()).thenReturn(new Object[]{body});
+        when(pjp.proceed()).thenReturn(result);
+        return pjp;
+    }
+}
@@ -0,0 +1,72 @@
+package com.youlai.boot.core.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GradientConcurrencyLimiter 单元测试
+ *
+ * @author Theo
+ */
+class GradientConcurrencyLimiterTest {
+
+    private static final long BASE_RTT = TimeUnit.MILLISECONDS.toNanos(10);
+
+    @Test
+    @DisplayName("在途请求达到上限时拒绝并计数")
+    void shouldRejectWhenInflightReachesLimit() {
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter("test", 2, 1, 10, 2.0, 0.2);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.getRejected()).isEqualTo(1);
+
+        limiter.onSuccess(BASE_RTT);
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("延迟升高时收缩并发上限，且不低于最小上限")
+    void shouldShrinkLimitWhenLatencyRises() {
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter("test", 50, 5, 100, 2.0, 0.2);
+        saturate(limiter, BASE_RTT, 200);
+        int stableLimit = limiter.getLimit();
+
+        saturate(limiter, BASE_RTT * 20, 3);
+
+        assertThat(limiter.getLimit()).isLessThan(stableLimit);
+        assertThat(limiter.getLimit()).isGreaterThanOrEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("请求异常时并发上限乘性下降")
+    void shouldBackOffWhenDropped() {
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter("test", 50, 5, 100, 2.0, 0.2);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        limiter.onDropped();
+
+        assertThat(limiter.getLimit()).isEqualTo(45);
+        assertThat(limiter.getInflight()).isZero();
+    }
+
+    /**
+     * 以满并发发送请求，使每个样本都参与上限调整
+     */
+    private void saturate(GradientConcurrencyLimiter limiter, long rtt, int rounds) {
+        for (int i = 0; i < rounds; i++) {
+            int acquired = 0;
+            while (limiter.tryAcquire()) {
+                acquired++;
+            }
+            for (int j = 0; j < acquired; j++) {
+                limiter.onSuccess(rtt);
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.youlai.boot.core.ratelimit;
+
+import com.youlai.boot.config.property.RateLimitProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * HybridRateLimiter 单元测试
+ *
+ * @author Theo
+ */
+@ExtendWith(MockitoExtension.class)
+class HybridRateLimiterTest {
+
+    private static final String KEY = "rate_limiter:ip:127.0.0.1";
+    private static final Duration WINDOW = Duration.ofDays(1);
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    private HybridRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getLocal().setErrorRatio(0.1);
+        rateLimiter = new HybridRateLimiter(redisTemplate, properties);
+    }
+
+    @Test
+    @DisplayName("误差范围内的请求只在本地判定，不访问 Redis")
+    void shouldNotCallRedisWithinAllowance() {
+        for (int i = 0; i < 20; i++) {
+            assertThat(rateLimiter.tryAcquire(KEY, 100, WINDOW)).isTrue();
+        }
+        verify(redisTemplate, never()).execute(any(RedisScript.class), any(RedisSerializer.class),
+                any(RedisSerializer.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("阈值较小时按放行数下限在本地判定，而不是每个请求都上报")
+    void shouldUseMinAllowanceForSmallLimits() {
+        for (int i = 0; i < 10; i++) {
+            assertThat(rateLimiter.tryAcquire(KEY, 10, WINDOW)).isTrue();
+        }
+        assertThat(rateLimiter.tryAcquire(KEY, 10, WINDOW)).isFalse();
+        verify(redisTemplate, never()).execute(any(RedisScript.class), any(RedisSerializer.class),
+                any(RedisSerializer.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("达到上报阈值后上报期间继续放行，不在请求线程上报，上报后按集群计数判定")
+    void shouldKeepAdmittingWithoutInlineSyncAndApplyClusterCount() {
+        when(redisTemplate.execute(any(RedisScript.class), any(RedisSerializer.class),
+                any(RedisSerializer.class), anyList(), any(Object[].class)))
+                .thenReturn(List.of(30L), List.of(100L));
+
+        // 超过上报阈值（20）后仍按阈值放行，等待上报期间不拒绝
+        for (int i = 0; i < 25; i++) {
+            assertThat(rateLimiter.tryAcquire(KEY, 100, WINDOW)).isTrue();
+        }
+        verify(redisTemplate, never()).execute(any(RedisScript.class), any(RedisSerializer.class),
+                any(RedisSerializer.class), anyList(), any(Object[].class));
+
+        // 上报后集群计数 30（含本节点 25），仍低于阈值
+        rateLimiter.syncAll();
+        assertThat(rateLimiter.tryAcquire(KEY, 100, WINDOW)).isTrue();
+
+        // 其他节点已用尽配额
+        rateLimiter.syncAll();
+        assertThat(rateLimiter.tryAcquire(KEY, 100, WINDOW)).isFalse();
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), any(RedisSerializer.class),
+                any(RedisSerializer.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("上报未返回时单个节点按完整阈值放行")
+    void shouldAdmitUpToLimitWhileSyncPending() {
+        int allowed = 0;
+        for (int i = 0; i < 150; i++) {
+            if (rateLimiter.tryAcquire(KEY, 100, WINDOW)) {
+                allowed++;
+            }
+        }
+        assertThat(allowed).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("Redis 不可用时退化为单节点限流")
+    void shouldFallBackToLocalLimitWhenRedisFails() {
+        when(redisTemplate.execute(any(RedisScript.class), any(RedisSerializer.class),
+                any(RedisSerializer.class), anyList(), any(Object[].class)))
+                .thenThrow(new IllegalStateException("connection refused"));
+
+        int allowed = 0;
+        for (int i = 0; i < 150; i++) {
+            if (i == 20) {
+                // 上报失败后进入退避，本地按完整阈值判定
+                rateLimiter.syncAll();
+            }
+            if (rateLimiter.tryAcquire(KEY, 100, WINDOW)) {
+                allowed++;
+            }
+        }
+        assertThat(allowed).isEqualTo(100);
+    }
+}
@@ -0,0 +1,129 @@
+package com.youlai.boot.core.ratelimit;
+
+import com.youlai.boot.common.enums.RateLimitAlgorithmEnum;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RedisRateLimiter 压力测试
+ * <p>
+ * 需要本地 Redis，默认跳过；运行方式：
+ * <pre>
+ * mvn test -Dtest=RedisRateLimiterStressTest -Dredis.host=127.0.0.1 [-Dredis.port=6379] [-Dredis.password=xxx]
+ * </pre>
+ * 以 20k RPS 匀速压测同一限流键 5 秒，统计放行数量相对理论值的误差以及单次判定的 p50/p99 延迟。
+ *
+ * @author Theo
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "redis.host", matches = ".+")
+class RedisRateLimiterStressTest {
+
+    private static final int TARGET_RPS = 20_000;
+    private static final int DURATION_SECONDS = 5;
+    private static final int THREADS = 64;
+    private static final long LIMIT = 1_000;
+    private static final Duration WINDOW = Duration.ofSeconds(1);
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisRateLimiter rateLimiter;
+
+    @BeforeAll
+    void setUp() {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(
+                System.getProperty("redis.host"), Integer.getInteger("redis.port", 6379));
+        String password = System.getProperty("redis.password");
+        if (password != null && !password.isEmpty()) {
+            configuration.setPassword(password);
+        }
+        connectionFactory = new LettuceConnectionFactory(configuration);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(RedisSerializer.string());
+        redisTemplate.afterPropertiesSet();
+        rateLimiter = new RedisRateLimiter(redisTemplate);
+    }
+
+    @AfterAll
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @ParameterizedTest
+    @EnumSource(RateLimitAlgorithmEnum.class)
+    @DisplayName("20k RPS 下放行数量接近阈值且单次判定延迟可控")
+    void shouldStayAccurateUnderLoad(RateLimitAlgorithmEnum algorithm) throws Exception {
+        String key = "rate_limiter:stress:" + algorithm.name().toLowerCase() + ":" + UUID.randomUUID();
+        int total = TARGET_RPS * DURATION_SECONDS;
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / TARGET_RPS;
+        long[] latencies = new long[total];
+        AtomicLong allowed = new AtomicLong();
+        AtomicLong sequence = new AtomicLong();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        long start = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                long i;
+                while ((i = sequence.getAndIncrement()) < total) {
+                    // 按序号匀速发压，保证整体速率为 TARGET_RPS
+                    long due = start + i * intervalNanos;
+                    long wait = due - System.nanoTime();
+                    if (wait > 0) {
+                        TimeUnit.NANOSECONDS.sleep(wait);
+                    }
+                    long begin = System.nanoTime();
+                    if (rateLimiter.tryAcquire(key, algorithm, LIMIT, WINDOW)) {
+                        allowed.incrementAndGet();
+                    }
+                    latencies[(int) i] = System.nanoTime() - begin;
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        // 固定窗口与滑动窗口每个窗口放行 LIMIT 个；令牌桶首个窗口额外放行满桶容量
+        double expected = LIMIT * elapsedSeconds / WINDOW.toSeconds()
+                + (algorithm == RateLimitAlgorithmEnum.TOKEN_BUCKET ? LIMIT : 0);
+        double error = Math.abs(allowed.get() - expected) / expected;
+
+        Arrays.sort(latencies);
+        double p50 = latencies[total / 2] / 1e6;
+        double p99 = latencies[(int) (total * 0.99)] / 1e6;
+        System.out.printf("%s: rps=%.0f, allowed=%d, expected=%.0f, error=%.2f%%, p50=%.3fms, p99=%.3fms%n",
+                algorithm, total / elapsedSeconds, allowed.get(), expected, error * 100, p50, p99);
+
+        assertThat(error).isLessThan(0.2);
+    }
+}
@@ -0,0 +1,74 @@
+package com.youlai.boot.core.serializer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.AbstractList;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 限长 JSON 写入器测试
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+class BoundedJsonWriterTest {
+
+    @Test
+    @DisplayName("未超出上限时输出完整 JSON")
+    void shouldWriteFullJsonWithinLimit() {
+        BoundedJsonWriter writer = BoundedJsonWriter.acquire(100).writeJson(Map.of("name", "admin"));
+
+        assertEquals("{\"name\":\"admin\"}", writer.toString());
+        assertFalse(writer.isTruncated());
+    }
+
+    @Test
+    @DisplayName("超出上限后截断并停止序列化")
+    void shouldStopSerializingOnceLimitReached() {
+        AtomicInteger visited = new AtomicInteger();
+        AbstractList<String> huge = new AbstractList<>() {
+            @Override
+            public String get(int index) {
+                visited.incrementAndGet();
+                return "item-" + index;
+            }
+
+            @Override
+            public int size() {
+                return 1_000_000;
+            }
+        };
+
+        BoundedJsonWriter writer = BoundedJsonWriter.acquire(1000).writeJson(huge);
+
+        assertTrue(writer.isTruncated());
+        assertEquals(1000, writer.toString().length());
+        assertTrue(visited.get() < 10_000, "序列化应在写满后立即中止，实际访问元素数：" + visited.get());
+    }
+
+    @Test
+    @DisplayName("重型对象只输出类型占位符")
+    void shouldWritePlaceholderForHeavyTypes() {
+        BoundedJsonWriter writer = BoundedJsonWriter.acquire(1000)
+                .writeJson(Map.of("file", new byte[1024], "stream", new ByteArrayInputStream(new byte[16])));
+
+        String json = writer.toString();
+        assertTrue(json.contains("\"file\":\"[byte[]]\""), json);
+        assertTrue(json.contains("\"stream\":\"[ByteArrayInputStream]\""), json);
+    }
+
+    @Test
+    @DisplayName("复用缓冲区时清空上次内容")
+    void shouldResetOnAcquire() {
+        BoundedJsonWriter.acquire(5).writeRaw("0123456789");
+        BoundedJsonWriter writer = BoundedJsonWriter.acquire(100).writeRaw("abc");
+
+        assertEquals("abc", writer.toString());
+        assertFalse(writer.isTruncated());
+    }
+}
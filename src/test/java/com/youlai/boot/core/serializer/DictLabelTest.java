@@ -0,0 +1,89 @@
+package com.youlai.boot.core.serializer;
+
+import cn.hutool.extra.spring.SpringUtil;
+import cn.idev.excel.EasyExcel;
+import cn.idev.excel.annotation.ExcelProperty;
+import com.youlai.boot.common.annotation.DictLabel;
+import com.youlai.boot.system.cache.DictCache;
+import com.youlai.boot.system.enums.DictCodeEnum;
+import lombok.Data;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.GenericApplicationContext;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 字典翻译（JSON 序列化与 Excel 转换）测试
+ *
+ * @author Ray.Hao
+ * @since 4.1.0
+ */
+@DisplayName("字典翻译测试")
+class DictLabelTest {
+
+    private static GenericApplicationContext applicationContext;
+
+    @BeforeAll
+    static void setUp() {
+        DictCache dictCache = mock(DictCache.class);
+        when(dictCache.getLookup(DictCodeEnum.GENDER.getValue())).thenReturn(
+                new DictCache.DictLookup(Map.of("1", "男", "2", "女"), Map.of("男", "1", "女", "2")));
+        applicationContext = new GenericApplicationContext();
+        applicationContext.registerBean(DictCache.class, () -> dictCache);
+        applicationContext.refresh();
+        new SpringUtil().setApplicationContext(applicationContext);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        applicationContext.close();
+    }
+
+    @Test
+    @DisplayName("JSON 序列化输出字典标签，未匹配时输出字典值")
+    void shouldSerializeLabel() {
+        JsonMapper jsonMapper = JsonMapper.builder().build();
+
+        assertThat(jsonMapper.writeValueAsString(row(1))).isEqualTo("{\"gender\":\"男\"}");
+        assertThat(jsonMapper.writeValueAsString(row(9))).isEqualTo("{\"gender\":\"9\"}");
+    }
+
+    @Test
+    @DisplayName("Excel 导出写入字典标签，导入时标签转回字典值")
+    void shouldConvertExcelRoundTrip() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        EasyExcel.write(outputStream, GenderRow.class).sheet("用户").doWrite(List.of(row(1), row(2)));
+        byte[] workbook = outputStream.toByteArray();
+
+        List<Map<Integer, String>> cells = EasyExcel.read(new ByteArrayInputStream(workbook)).sheet().doReadSync();
+        assertThat(cells).extracting(cell -> cell.get(0)).containsExactly("男", "女");
+
+        List<GenderRow> rows = EasyExcel.read(new ByteArrayInputStream(workbook)).head(GenderRow.class).sheet().doReadSync();
+        assertThat(rows).extracting(GenderRow::getGender).containsExactly(1, 2);
+    }
+
+    private static GenderRow row(Integer gender) {
+        GenderRow row = new GenderRow();
+        row.setGender(gender);
+        return row;
+    }
+
+    @Data
+    public static class GenderRow {
+
+        @ExcelProperty(value = "性别", converter = DictLabelExcelConverter.class)
+        @DictLabel(DictCodeEnum.GENDER)
+        private Integer gender;
+    }
+}
@@ -0,0 +1,142 @@
+package com.youlai.boot.platform.export.service.impl;
+
+import com.youlai.boot.config.property.ExportProperties;
+import com.youlai.boot.platform.export.model.vo.ExportJobVO;
+import com.youlai.boot.platform.file.model.FileInfo;
+import com.youlai.boot.platform.file.service.FileService;
+import com.youlai.boot.platform.job.enums.JobStatusEnum;
+import com.youlai.boot.platform.websocket.publisher.WebSocketPublisher;
+import com.youlai.boot.platform.websocket.topic.WebSocketTopics;
+import com.youlai.boot.security.model.SysUserDetails;
+import com.youlai.boot.security.util.SecurityUtils;
+import com.youlai.boot.system.model.dto.UserExportDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * ExportJobServiceImpl 单元测试
+ *
+ * @author Ray.Hao
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ExportJobServiceImplTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @Mock
+    private ZSetOperations<String, Object> zSetOperations;
+
+    @Mock
+    private FileService fileService;
+
+    @Mock
+    private WebSocketPublisher webSocketPublisher;
+
+    private ExportJobServiceImpl exportJobService;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+
+        ExportProperties properties = new ExportProperties();
+        properties.setTempDir(tempDir.toString());
+        exportJobService = new ExportJobServiceImpl(redisTemplate, fileService, webSocketPublisher, properties);
+        exportJobService.start();
+
+        SysUserDetails user = new SysUserDetails();
+        user.setUserId(2L);
+        user.setUsername("admin");
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken(user, null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        exportJobService.stop();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("导出线程以提交人身份生成文件并上传，完成后推送进度")
+    void submitGeneratesAndUploadsFile() {
+        AtomicReference<String> exportUser = new AtomicReference<>();
+        AtomicReference<Long> uploadedSize = new AtomicReference<>();
+        when(fileService.uploadFile(any(File.class), eq("用户列表.xlsx"))).thenAnswer(invocation -> {
+            uploadedSize.set(((File) invocation.getArgument(0)).length());
+            FileInfo fileInfo = new FileInfo();
+            fileInfo.setUrl("/20250101/export.xlsx");
+            return fileInfo;
+        });
+
+        ExportJobVO submitted = exportJobService.submit("用户列表.xlsx", UserExportDTO.class, 2500L, writer -> {
+            exportUser.set(SecurityUtils.getUsername());
+            for (int i = 0; i < 2500; i++) {
+                UserExportDTO row = new UserExportDTO();
+                row.setUsername("user" + i);
+                writer.write(row);
+            }
+        });
+        assertThat(submitted.getStatus()).isEqualTo(JobStatusEnum.PENDING);
+
+        verify(webSocketPublisher, timeout(5000)).publishToUser(eq("admin"), eq(WebSocketTopics.USER_QUEUE_MESSAGES),
+                argThat(payload -> payload instanceof ExportJobVO vo
+                        && vo.getStatus() == JobStatusEnum.SUCCESS
+                        && vo.getWrittenRows() == 2500
+                        && vo.getPercent() == 100));
+        verify(zSetOperations).add(anyString(), eq(submitted.getJobId()), anyDouble());
+        assertThat(exportUser.get()).isEqualTo("admin");
+        assertThat(uploadedSize.get()).isPositive();
+    }
+
+    @Test
+    @DisplayName("生成失败时任务标记为失败并记录原因")
+    void submitMarksFailure() {
+        exportJobService.submit("用户列表.xlsx", UserExportDTO.class, null, writer -> {
+            throw new IllegalStateException("查询超时");
+        });
+
+        verify(webSocketPublisher, timeout(5000)).publishToUser(eq("admin"), eq(WebSocketTopics.USER_QUEUE_MESSAGES),
+                argThat(payload -> payload instanceof ExportJobVO vo
+                        && vo.getStatus() == JobStatusEnum.FAILED
+                        && "查询超时".equals(vo.getErrorMessage())));
+        verify(fileService, never()).uploadFile(any(File.class), anyString());
+    }
+}
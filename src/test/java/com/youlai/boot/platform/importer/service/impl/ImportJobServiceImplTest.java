@@ -0,0 +1,142 @@
+package com.youlai.boot.platform.importer.service.impl;
+
+import cn.idev.excel.EasyExcel;
+import com.youlai.boot.config.property.ImportProperties;
+import com.youlai.boot.platform.file.model.FileInfo;
+import com.youlai.boot.platform.file.service.FileService;
+import com.youlai.boot.platform.importer.model.vo.ImportJobVO;
+import com.youlai.boot.platform.job.enums.JobStatusEnum;
+import com.youlai.boot.platform.websocket.publisher.WebSocketPublisher;
+import com.youlai.boot.platform.websocket.topic.WebSocketTopics;
+import com.youlai.boot.security.model.SysUserDetails;
+import com.youlai.boot.system.model.dto.UserImportErrorDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * ImportJobServiceImpl 单元测试
+ *
+ * @author Ray.Hao
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ImportJobServiceImplTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @Mock
+    private ZSetOperations<String, Object> zSetOperations;
+
+    @Mock
+    private FileService fileService;
+
+    @Mock
+    private WebSocketPublisher webSocketPublisher;
+
+    private ImportJobServiceImpl importJobService;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+
+        ImportProperties properties = new ImportProperties();
+        properties.setTempDir(tempDir.toString());
+        importJobService = new ImportJobServiceImpl(redisTemplate, fileService, webSocketPublisher, properties);
+        importJobService.start();
+
+        SysUserDetails user = new SysUserDetails();
+        user.setUserId(2L);
+        user.setUsername("admin");
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken(user, null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        importJobService.stop();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("上传文件落盘后在导入线程中解析，失败行写入错误报告并上传")
+    void submitWritesErrorReport() throws Exception {
+        AtomicReference<String> spooledContent = new AtomicReference<>();
+        AtomicReference<List<UserImportErrorDTO>> reportRows = new AtomicReference<>();
+        when(fileService.uploadFile(any(File.class), eq("users-错误报告.xlsx"))).thenAnswer(invocation -> {
+            reportRows.set(EasyExcel.read((File) invocation.getArgument(0))
+                    .head(UserImportErrorDTO.class).sheet().doReadSync());
+            FileInfo fileInfo = new FileInfo();
+            fileInfo.setUrl("/20250101/errors.xlsx");
+            return fileInfo;
+        });
+
+        MockMultipartFile upload = new MockMultipartFile("file", "users.xlsx", null, "spooled".getBytes());
+        ImportJobVO submitted = importJobService.submit(upload, UserImportErrorDTO.class, (file, context) -> {
+            spooledContent.set(Files.readString(file.toPath()));
+            context.setTotalRows(5);
+            context.success(3);
+            for (int rowNum = 4; rowNum <= 5; rowNum++) {
+                UserImportErrorDTO errorRow = new UserImportErrorDTO();
+                errorRow.setUsername("user" + rowNum);
+                errorRow.setRowNum(rowNum);
+                errorRow.setReason("用户名已存在；");
+                context.fail("第" + rowNum + "行数据校验失败：用户名已存在；", errorRow);
+            }
+        });
+        assertThat(submitted.getStatus()).isEqualTo(JobStatusEnum.PENDING);
+
+        verify(webSocketPublisher, timeout(5000)).publishToUser(eq("admin"), eq(WebSocketTopics.USER_QUEUE_MESSAGES),
+                argThat(payload -> payload instanceof ImportJobVO vo
+                        && vo.getStatus() == JobStatusEnum.SUCCESS
+                        && vo.getValidCount() == 3
+                        && vo.getInvalidCount() == 2
+                        && vo.getHasErrorFile()
+                        && vo.getMessages().size() == 2));
+        verify(zSetOperations).add(anyString(), eq(submitted.getJobId()), anyDouble());
+        assertThat(spooledContent.get()).isEqualTo("spooled");
+        assertThat(reportRows.get())
+                .extracting(UserImportErrorDTO::getRowNum, UserImportErrorDTO::getReason)
+                .containsExactly(
+                        tuple(4, "用户名已存在；"),
+                        tuple(5, "用户名已存在；"));
+    }
+}
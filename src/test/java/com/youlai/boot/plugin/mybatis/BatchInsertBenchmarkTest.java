@@ -0,0 +1,149 @@
+package com.youlai.boot.plugin.mybatis;
+
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
+import com.baomidou.mybatisplus.core.MybatisSqlSessionFactoryBuilder;
+import com.baomidou.mybatisplus.core.config.GlobalConfig;
+import com.baomidou.mybatisplus.core.toolkit.GlobalConfigUtils;
+import com.youlai.boot.system.mapper.UserNoticeMapper;
+import com.youlai.boot.system.model.entity.UserNotice;
+import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * sys_user_notice 批量插入基准测试：saveBatch（BATCH 执行器逐行 INSERT）对比多行 VALUES
+ * <p>
+ * 需要可写的 MySQL（已执行 sql/mysql 建表脚本），默认跳过；运行方式：
+ * <pre>
+ * mvn test -Dtest=BatchInsertBenchmarkTest -Dmysql.url=jdbc:mysql://127.0.0.1:3306/youlai_admin -Dmysql.username=root -Dmysql.password=xxx
+ * </pre>
+ * 每种方式写入 100k 行，以一个不存在的公告ID标记测试数据，结束后物理删除。
+ *
+ * @author Ray.Hao
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "mysql.url", matches = ".+")
+@DisplayName("批量插入基准测试")
+class BatchInsertBenchmarkTest {
+
+    private static final int ROWS = 100_000;
+    private static final int BATCH_SIZE = 1000;
+    private static final long SAVE_BATCH_NOTICE_ID = -1001L;
+    private static final long INSERT_VALUES_NOTICE_ID = -1002L;
+
+    private UnpooledDataSource dataSource;
+    private SqlSessionFactory sqlSessionFactory;
+
+    @BeforeAll
+    void setUp() {
+        dataSource = new UnpooledDataSource("com.mysql.cj.jdbc.Driver", System.getProperty("mysql.url"),
+                System.getProperty("mysql.username", "root"), System.getProperty("mysql.password", ""));
+        MybatisConfiguration configuration = new MybatisConfiguration(
+                new Environment("benchmark", new JdbcTransactionFactory(), dataSource));
+        GlobalConfig globalConfig = GlobalConfigUtils.defaults();
+        globalConfig.setSqlInjector(new BatchSqlInjector());
+        globalConfig.setMetaObjectHandler(new MyMetaObjectHandler());
+        GlobalConfigUtils.setGlobalConfig(configuration, globalConfig);
+        configuration.addMapper(UserNoticeMapper.class);
+        sqlSessionFactory = new MybatisSqlSessionFactoryBuilder().build(configuration);
+        cleanUp();
+    }
+
+    @AfterAll
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    @DisplayName("插入 10 万行 sys_user_notice")
+    void insert100kUserNotices() {
+        // 预热连接和语句解析
+        saveBatch(buildRows(SAVE_BATCH_NOTICE_ID, BATCH_SIZE));
+        insertValues(buildRows(INSERT_VALUES_NOTICE_ID, BATCH_SIZE));
+        cleanUp();
+
+        List<UserNotice> saveBatchRows = buildRows(SAVE_BATCH_NOTICE_ID, ROWS);
+        long start = System.nanoTime();
+        saveBatch(saveBatchRows);
+        long saveBatchMillis = (System.nanoTime() - start) / 1_000_000;
+
+        List<UserNotice> insertValuesRows = buildRows(INSERT_VALUES_NOTICE_ID, ROWS);
+        start = System.nanoTime();
+        int affected = insertValues(insertValuesRows);
+        long insertValuesMillis = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.printf("saveBatch     : %d 行 %d ms (%.0f 行/秒)%n", ROWS, saveBatchMillis, ROWS * 1000.0 / saveBatchMillis);
+        System.out.printf("insertValues  : %d 行 %d ms (%.0f 行/秒)%n", ROWS, insertValuesMillis, ROWS * 1000.0 / insertValuesMillis);
+
+        assertThat(affected).isEqualTo(ROWS);
+        assertThat(insertValuesRows).allSatisfy(row -> assertThat(row.getId()).isNotNull());
+    }
+
+    /**
+     * 与 IService#saveBatch 相同：BATCH 执行器逐行 insert，每 1000 行 flush 一次
+     */
+    private void saveBatch(List<UserNotice> rows) {
+        try (SqlSession session = sqlSessionFactory.openSession(ExecutorType.BATCH)) {
+            UserNoticeMapper mapper = session.getMapper(UserNoticeMapper.class);
+            for (int i = 0; i < rows.size(); i++) {
+                mapper.insert(rows.get(i));
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    session.flushStatements();
+                }
+            }
+            session.flushStatements();
+            session.commit();
+        }
+    }
+
+    private int insertValues(List<UserNotice> rows) {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            int affected = session.getMapper(UserNoticeMapper.class).insertBatchValues(rows, BATCH_SIZE);
+            session.commit();
+            return affected;
+        }
+    }
+
+    private List<UserNotice> buildRows(long noticeId, int count) {
+        List<UserNotice> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            UserNotice userNotice = new UserNotice();
+            userNotice.setNoticeId(noticeId);
+            userNotice.setUserId((long) i);
+            userNotice.setIsRead(0);
+            rows.add(userNotice);
+        }
+        return rows;
+    }
+
+    private void cleanUp() {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                     "DELETE FROM sys_user_notice WHERE notice_id IN (?, ?)")) {
+            statement.setLong(1, SAVE_BATCH_NOTICE_ID);
+            statement.setLong(2, INSERT_VALUES_NOTICE_ID);
+            statement.executeUpdate();
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("清理测试数据失败", e);
+        }
+    }
+}
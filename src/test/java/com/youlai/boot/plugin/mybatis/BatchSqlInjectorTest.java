@@ -0,0 +1,98 @@
+package com.youlai.boot.plugin.mybatis;
+
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
+import com.baomidou.mybatisplus.core.config.GlobalConfig;
+import com.baomidou.mybatisplus.core.toolkit.GlobalConfigUtils;
+import com.youlai.boot.system.mapper.RoleMenuMapper;
+import com.youlai.boot.system.mapper.UserNoticeMapper;
+import com.youlai.boot.system.model.entity.RoleMenu;
+import com.youlai.boot.system.model.entity.UserNotice;
+import org.apache.ibatis.executor.keygen.Jdbc3KeyGenerator;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 多行 VALUES 批量插入注入器单元测试
+ *
+ * @author Ray.Hao
+ */
+@DisplayName("批量插入注入器测试")
+class BatchSqlInjectorTest {
+
+    private MybatisConfiguration configuration;
+
+    @BeforeEach
+    void setUp() {
+        configuration = new MybatisConfiguration();
+        GlobalConfig globalConfig = GlobalConfigUtils.defaults();
+        globalConfig.setSqlInjector(new BatchSqlInjector());
+        GlobalConfigUtils.setGlobalConfig(configuration, globalConfig);
+        configuration.addMapper(UserNoticeMapper.class);
+        configuration.addMapper(RoleMenuMapper.class);
+    }
+
+    @Test
+    @DisplayName("多行插入 - 一条语句写入全部行，空值列写 DEFAULT，自增主键回填")
+    void insertValues_singleStatementWithDefaults() {
+        MappedStatement ms = configuration.getMappedStatement(UserNoticeMapper.class.getName() + ".insertValues");
+
+        UserNotice first = userNotice(1L, LocalDateTime.now());
+        UserNotice second = userNotice(2L, null);
+        BoundSql boundSql = ms.getBoundSql(Map.of("list", List.of(first, second)));
+        String sql = normalize(boundSql.getSql());
+
+        assertThat(sql).startsWith("INSERT INTO sys_user_notice (notice_id,user_id,is_read,read_time,is_deleted,create_time,update_time) VALUES");
+        assertThat(sql).doesNotContain("(id,");
+        // 第二行 read_time 为空，和三个未赋值列一样写 DEFAULT
+        assertThat(sql.split("DEFAULT", -1)).hasSize(1 + 3 + 4);
+        assertThat(boundSql.getParameterMappings()).hasSize(4 + 3);
+        assertThat(ms.getKeyGenerator()).isInstanceOf(Jdbc3KeyGenerator.class);
+        assertThat(ms.getKeyProperties()).containsExactly("list.id");
+    }
+
+    @Test
+    @DisplayName("忽略冲突 - 生成 INSERT IGNORE")
+    void insertIgnoreValues_usesInsertIgnore() {
+        MappedStatement ms = configuration.getMappedStatement(RoleMenuMapper.class.getName() + ".insertIgnoreValues");
+
+        BoundSql boundSql = ms.getBoundSql(Map.of("list", List.of(new RoleMenu(1L, 10L), new RoleMenu(1L, 11L))));
+
+        assertThat(normalize(boundSql.getSql())).startsWith("INSERT IGNORE INTO sys_role_menu (role_id,menu_id) VALUES");
+        assertThat(boundSql.getParameterMappings()).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("冲突更新 - 不覆盖主键、创建时间和逻辑删除列")
+    void upsertValues_skipsInsertFillAndLogicDeleteColumns() {
+        String noticeSql = normalize(configuration.getMappedStatement(UserNoticeMapper.class.getName() + ".upsertValues")
+                .getBoundSql(Map.of("list", List.of(userNotice(1L, null)))).getSql());
+        String roleMenuSql = normalize(configuration.getMappedStatement(RoleMenuMapper.class.getName() + ".upsertValues")
+                .getBoundSql(Map.of("list", List.of(new RoleMenu(1L, 10L)))).getSql());
+
+        assertThat(noticeSql).endsWith("ON DUPLICATE KEY UPDATE notice_id=VALUES(notice_id),user_id=VALUES(user_id),"
+                + "is_read=VALUES(is_read),read_time=VALUES(read_time),update_time=VALUES(update_time)");
+        assertThat(roleMenuSql).endsWith("ON DUPLICATE KEY UPDATE role_id=VALUES(role_id),menu_id=VALUES(menu_id)");
+    }
+
+    private UserNotice userNotice(Long userId, LocalDateTime readTime) {
+        UserNotice userNotice = new UserNotice();
+        userNotice.setNoticeId(100L);
+        userNotice.setUserId(userId);
+        userNotice.setIsRead(readTime == null ? 0 : 1);
+        userNotice.setReadTime(readTime);
+        return userNotice;
+    }
+
+    private String normalize(String sql) {
+        return sql.replaceAll("\\s+", " ").replace(", ", ",").trim();
+    }
+}
@@ -0,0 +1,106 @@
+package com.youlai.boot.system.archive;
+
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.youlai.boot.config.property.LogLifecycleProperties;
+import com.youlai.boot.system.mapper.LogPartitionMapper;
+import com.youlai.boot.system.mapper.UserMapper;
+import com.youlai.boot.system.model.entity.Log;
+import com.youlai.boot.system.model.query.LogQuery;
+import com.youlai.boot.system.model.vo.LogPageVO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LogArchiveReader 单元测试
+ *
+ * @author Ray.Hao
+ */
+@ExtendWith(MockitoExtension.class)
+class LogArchiveReaderTest {
+
+    @TempDir
+    Path archiveDir;
+
+    @Mock
+    private LogPartitionMapper logPartitionMapper;
+
+    @Mock
+    private UserMapper userMapper;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+    private LogLifecycleManager lifecycleManager;
+
+    private LogArchiveReader reader;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        LogLifecycleProperties properties = new LogLifecycleProperties();
+        properties.setArchiveDir(archiveDir.toString());
+        lifecycleManager = new LogLifecycleManager(logPartitionMapper, null, properties, objectMapper);
+        reader = new LogArchiveReader(lifecycleManager, userMapper, objectMapper);
+
+        // 2024-01 归档 id 1-5，2024-02 归档 id 6-8
+        writeArchive(YearMonth.of(2024, 1), 1, 5);
+        writeArchive(YearMonth.of(2024, 2), 6, 8);
+    }
+
+    @Test
+    @DisplayName("跨月分页按操作时间倒序返回")
+    void shouldPageAcrossFilesInDescendingOrder() {
+        LogQuery query = new LogQuery();
+        query.setPageNum(2);
+        query.setPageSize(3);
+
+        Page<LogPageVO> page = reader.getLogPage(query);
+
+        assertThat(page.getTotal()).isEqualTo(8);
+        assertThat(page.getRecords()).extracting(LogPageVO::getId).containsExactly(5L, 4L, 3L);
+    }
+
+    @Test
+    @DisplayName("按操作时间范围过滤并跳过无关的归档文件")
+    void shouldFilterByTimeRange() {
+        LogQuery query = new LogQuery();
+        query.setCreateTime(List.of("2024-01-02", "2024-01-03"));
+
+        Page<LogPageVO> page = reader.getLogPage(query);
+
+        assertThat(page.getTotal()).isEqualTo(2);
+        assertThat(page.getRecords()).extracting(LogPageVO::getId).containsExactly(3L, 2L);
+    }
+
+    private void writeArchive(YearMonth month, long fromId, long toId) throws Exception {
+        Path file = lifecycleManager.archiveFile(month);
+        try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(file)), StandardCharsets.UTF_8))) {
+            for (long id = fromId; id <= toId; id++) {
+                Log sysLog = new Log();
+                sysLog.setId(id);
+                sysLog.setContent("日志" + id);
+                sysLog.setCreateTime(LocalDateTime.of(month.getYear(), month.getMonth(), (int) (id - fromId + 1), 10, 0));
+                writer.write(objectMapper.writeValueAsString(sysLog));
+                writer.newLine();
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.youlai.boot.system.archive;
+
+import com.youlai.boot.config.property.LogLifecycleProperties;
+import com.youlai.boot.system.mapper.LogPartitionMapper;
+import com.youlai.boot.system.model.entity.Log;
+import com.youlai.boot.system.writer.LogSearchIndexer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * LogLifecycleManager 过期分区删除单元测试
+ *
+ * @author Ray.Hao
+ */
+@DisplayName("日志分区过期删除测试")
+class LogLifecycleManagerTest {
+
+    private static final YearMonth EXPIRED_MONTH = YearMonth.now().minusYears(2);
+
+    private static final String EXPIRED_PARTITION = "p" + EXPIRED_MONTH.format(LogLifecycleManager.MONTH_FORMATTER);
+
+    @TempDir
+    Path archiveDir;
+
+    private LogPartitionMapper logPartitionMapper;
+
+    private LogLifecycleProperties properties;
+
+    private LogLifecycleManager lifecycleManager;
+
+    @BeforeEach
+    void setUp() {
+        logPartitionMapper = mock(LogPartitionMapper.class);
+        properties = new LogLifecycleProperties();
+        // 预建分区已存在，只验证过期删除
+        properties.setPrecreateMonths(0);
+        ObjectMapper objectMapper = JsonMapper.builder().build();
+        lifecycleManager = new LogLifecycleManager(logPartitionMapper, mock(LogSearchIndexer.class), properties, objectMapper);
+        String currentPartition = "p" + YearMonth.now().format(LogLifecycleManager.MONTH_FORMATTER);
+        when(logPartitionMapper.listPartitions()).thenReturn(List.of(EXPIRED_PARTITION, currentPartition, "p_future"));
+        when(logPartitionMapper.listPartitionLogs(eq(EXPIRED_PARTITION), anyLong(), anyInt()))
+                .thenReturn(List.of(log(1L), log(2L)), List.of());
+    }
+
+    @Test
+    @DisplayName("未配置归档目录 - 不删除过期分区")
+    void whenArchiveDirMissing_thenKeepPartition() throws IOException {
+        int dropped = lifecycleManager.maintain();
+
+        assertThat(dropped).isZero();
+        verify(logPartitionMapper, never()).dropPartition(anyString());
+    }
+
+    @Test
+    @DisplayName("归档文件读回条数与分区一致 - 删除分区")
+    void whenArchiveVerified_thenDropPartition() throws IOException {
+        properties.setArchiveDir(archiveDir.toString());
+        properties.setArchiveBatchSize(2);
+        when(logPartitionMapper.countPartitionLogs(EXPIRED_PARTITION)).thenReturn(2L);
+
+        int dropped = lifecycleManager.maintain();
+
+        assertThat(dropped).isEqualTo(1);
+        assertThat(lifecycleManager.countArchivedLogs(lifecycleManager.archiveFile(EXPIRED_MONTH))).isEqualTo(2);
+        verify(logPartitionMapper).dropPartition(EXPIRED_PARTITION);
+    }
+
+    @Test
+    @DisplayName("归档文件条数与分区不一致 - 不删除分区")
+    void whenArchiveIncomplete_thenKeepPartition() {
+        properties.setArchiveDir(archiveDir.toString());
+        when(logPartitionMapper.countPartitionLogs(EXPIRED_PARTITION)).thenReturn(3L);
+
+        assertThatThrownBy(() -> lifecycleManager.maintain()).isInstanceOf(IOException.class);
+        verify(logPartitionMapper, never()).dropPartition(anyString());
+    }
+
+    private static Log log(Long id) {
+        Log sysLog = new Log();
+        sysLog.setId(id);
+        sysLog.setContent("日志" + id);
+        sysLog.setCreateTime(LocalDateTime.of(EXPIRED_MONTH.getYear(), EXPIRED_MONTH.getMonth(), 1, 10, 0));
+        return sysLog;
+    }
+}
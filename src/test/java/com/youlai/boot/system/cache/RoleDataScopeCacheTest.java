@@ -0,0 +1,101 @@
+package com.youlai.boot.system.cache;
+
+import com.youlai.boot.common.constant.RedisConstants;
+import com.youlai.boot.security.model.RoleDataScope;
+import com.youlai.boot.system.mapper.RoleMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 角色数据权限缓存单元测试
+ *
+ * @author Ray.Hao
+ */
+@DisplayName("角色数据权限缓存测试")
+class RoleDataScopeCacheTest {
+
+    private RoleMapper roleMapper;
+    private HashOperations<String, Object, Object> hashOperations;
+    private RedisTemplate<String, Object> redisTemplate;
+    private RoleDataScopeCache roleDataScopeCache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        roleMapper = mock(RoleMapper.class);
+        redisTemplate = mock(RedisTemplate.class);
+        hashOperations = mock(HashOperations.class);
+        when(redisTemplate.opsForHash()).thenReturn((HashOperations) hashOperations);
+        roleDataScopeCache = new RoleDataScopeCache(roleMapper, redisTemplate);
+    }
+
+    @Test
+    @DisplayName("部分命中 - 未命中的角色合并为一次查询回源并写回缓存")
+    @SuppressWarnings("unchecked")
+    void whenPartiallyCached_thenLoadMissingRolesInOneQuery() {
+        when(hashOperations.multiGet(eq(RedisConstants.System.ROLE_DATA_SCOPES), anyCollection()))
+                .thenReturn(Arrays.asList(RoleDataScope.all("ADMIN"), null, null));
+        when(roleMapper.listRoleDataScopes(anyCollection())).thenReturn(List.of(
+                new RoleDataScope("DEPT", 3, new ArrayList<>()),
+                new RoleDataScope("CUSTOM", 5, new ArrayList<>(List.of(10L, 11L)))));
+
+        List<RoleDataScope> dataScopes = roleDataScopeCache.getAll(new LinkedHashSet<>(List.of("ADMIN", "DEPT", "CUSTOM")));
+
+        assertThat(dataScopes).extracting(RoleDataScope::getRoleCode).containsExactly("ADMIN", "DEPT", "CUSTOM");
+        // 非自定义数据权限不保留部门ID
+        assertThat(dataScopes.get(1).getCustomDeptIds()).isNull();
+        assertThat(dataScopes.get(2).getCustomDeptIds()).containsExactly(10L, 11L);
+        verify(roleMapper, times(1)).listRoleDataScopes(List.of("DEPT", "CUSTOM"));
+        verify(hashOperations).putAll(eq(RedisConstants.System.ROLE_DATA_SCOPES), argThat((Map<Object, Object> map) ->
+                map.keySet().equals(Set.of("DEPT", "CUSTOM"))));
+    }
+
+    @Test
+    @DisplayName("回填缓存 - 仅在未设置过期时间时设置，续写不延长")
+    void whenBackfilled_thenExpireOnlyOnce() {
+        when(hashOperations.multiGet(eq(RedisConstants.System.ROLE_DATA_SCOPES), anyCollection()))
+                .thenReturn(Arrays.asList((Object) null));
+        when(roleMapper.listRoleDataScopes(anyCollection())).thenReturn(List.of(RoleDataScope.all("ADMIN")));
+        when(redisTemplate.getExpire(RedisConstants.System.ROLE_DATA_SCOPES)).thenReturn(-1L, 1800L);
+
+        roleDataScopeCache.getAll(List.of("ADMIN"));
+        roleDataScopeCache.getAll(List.of("ADMIN"));
+
+        verify(redisTemplate, times(1)).expire(RedisConstants.System.ROLE_DATA_SCOPES, RoleDataScopeCache.TTL);
+    }
+
+    @Test
+    @DisplayName("全部命中 - 不查询数据库")
+    void whenAllCached_thenNoQuery() {
+        when(hashOperations.multiGet(eq(RedisConstants.System.ROLE_DATA_SCOPES), anyCollection()))
+                .thenReturn(Arrays.asList(RoleDataScope.all("ADMIN"), RoleDataScope.custom("CUSTOM", List.of(10L))));
+
+        List<RoleDataScope> dataScopes = roleDataScopeCache.getAll(new LinkedHashSet<>(List.of("ADMIN", "CUSTOM")));
+
+        assertThat(dataScopes).hasSize(2);
+        verifyNoInteractions(roleMapper);
+        verify(hashOperations, never()).putAll(anyString(), anyMap());
+    }
+
+    @Test
+    @DisplayName("清除缓存 - 非事务中立即删除对应角色")
+    void evict_outsideTransaction_deletesImmediately() {
+        roleDataScopeCache.evict("ADMIN", null, "ADMIN", "DEPT");
+
+        verify(hashOperations).delete(RedisConstants.System.ROLE_DATA_SCOPES, "ADMIN", "DEPT");
+    }
+}
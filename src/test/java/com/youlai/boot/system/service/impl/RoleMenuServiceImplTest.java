@@ -0,0 +1,87 @@
+package com.youlai.boot.system.service.impl;
+
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import com.youlai.boot.system.mapper.RoleMenuMapper;
+import com.youlai.boot.system.model.entity.RoleMenu;
+import org.apache.ibatis.builder.MapperBuilderAssistant;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * 角色菜单差异保存单元测试
+ *
+ * @author Ray.Hao
+ */
+@DisplayName("角色菜单差异保存测试")
+class RoleMenuServiceImplTest {
+
+    private RoleMenuMapper roleMenuMapper;
+    private RoleMenuServiceImpl roleMenuService;
+
+    @BeforeAll
+    static void initTableInfo() {
+        // LambdaQueryWrapper 解析列名依赖实体的表信息
+        TableInfoHelper.initTableInfo(new MapperBuilderAssistant(new MybatisConfiguration(), ""), RoleMenu.class);
+    }
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        roleMenuMapper = mock(RoleMenuMapper.class);
+        roleMenuService = new RoleMenuServiceImpl(mock(RedisTemplate.class));
+        ReflectionTestUtils.setField(roleMenuService, "baseMapper", roleMenuMapper);
+    }
+
+    @Test
+    @DisplayName("只勾选了一个新菜单 - 只插入一行，不删除")
+    @SuppressWarnings("unchecked")
+    void whenOneMenuAdded_thenInsertOnlyDelta() {
+        when(roleMenuMapper.selectList(any())).thenReturn(List.of(new RoleMenu(2L, 1L), new RoleMenu(2L, 2L)));
+
+        boolean changed = roleMenuService.saveRoleMenus(2L, List.of(1L, 2L, 3L));
+
+        assertThat(changed).isTrue();
+        ArgumentCaptor<Collection<RoleMenu>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(roleMenuMapper).insertBatchValues(captor.capture());
+        assertThat(captor.getValue()).containsExactly(new RoleMenu(2L, 3L));
+        verify(roleMenuMapper, never()).delete(any());
+    }
+
+    @Test
+    @DisplayName("取消勾选 - 只删除取消的菜单，不插入")
+    void whenMenuRemoved_thenDeleteOnlyDelta() {
+        when(roleMenuMapper.selectList(any())).thenReturn(List.of(new RoleMenu(2L, 1L), new RoleMenu(2L, 2L)));
+
+        boolean changed = roleMenuService.saveRoleMenus(2L, List.of(1L));
+
+        assertThat(changed).isTrue();
+        verify(roleMenuMapper).delete(any());
+        verify(roleMenuMapper, never()).insertBatchValues(anyCollection());
+    }
+
+    @Test
+    @DisplayName("菜单未变化（顺序不同、含重复） - 不写库并返回未变更")
+    void whenMenusUnchanged_thenNoWrites() {
+        when(roleMenuMapper.selectList(any())).thenReturn(List.of(new RoleMenu(2L, 1L), new RoleMenu(2L, 2L)));
+
+        boolean changed = roleMenuService.saveRoleMenus(2L, List.of(2L, 1L, 1L));
+
+        assertThat(changed).isFalse();
+        verify(roleMenuMapper, never()).delete(any());
+        verify(roleMenuMapper, never()).insertBatchValues(anyCollection());
+    }
+}
@@ -0,0 +1,91 @@
+package com.youlai.boot.system.writer;
+
+import com.youlai.boot.config.property.LogWriterProperties;
+import com.youlai.boot.system.cache.VisitCounter;
+import com.youlai.boot.system.mapper.LogMapper;
+import com.youlai.boot.system.model.entity.Log;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * AsyncLogWriter 溢出文件回放单元测试
+ *
+ * @author Ray.Hao
+ */
+@DisplayName("溢出文件回放测试")
+class AsyncLogWriterTest {
+
+    @TempDir
+    Path spillDir;
+
+    private LogMapper logMapper;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+    private AsyncLogWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        logMapper = mock(LogMapper.class);
+        LogWriterProperties properties = new LogWriterProperties();
+        properties.setSpillDir(spillDir.toString());
+        // 不启动后台写入线程，由测试直接触发回放
+        properties.setEnabled(false);
+        writer = new AsyncLogWriter(logMapper, mock(LogEnricher.class), mock(VisitCounter.class), properties, objectMapper);
+        writer.start();
+    }
+
+    @Test
+    @DisplayName("无法解析与无法写入的行移入隔离文件，回放继续推进")
+    void whenPoisonLines_thenQuarantineAndAdvance() throws Exception {
+        Files.write(spillDir.resolve("sys_log.spill"), List.of(json(1L), "{broken", json(2L)), StandardCharsets.UTF_8);
+        doThrow(new DataIntegrityViolationException("batch")).when(logMapper).insertBatch(anyList());
+        doThrow(new DataIntegrityViolationException("row")).when(logMapper).insert(argThat((Log sysLog) -> sysLog.getId() == 2L));
+
+        writer.replaySpill();
+
+        verify(logMapper).insert(argThat((Log sysLog) -> sysLog.getId() == 1L));
+        assertThat(spillDir.resolve("sys_log.spill.replaying")).doesNotExist();
+        assertThat(Files.readAllLines(spillDir.resolve("sys_log.spill.quarantine"), StandardCharsets.UTF_8))
+                .containsExactly("{broken", json(2L));
+        assertThat(writer.getStats().getWritten()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("数据库不可用 - 保留回放文件等待下次重试")
+    void whenDatabaseUnavailable_thenKeepReplayFile() throws Exception {
+        Files.write(spillDir.resolve("sys_log.spill"), List.of(json(1L), json(2L)), StandardCharsets.UTF_8);
+        doThrow(new DataAccessResourceFailureException("down")).when(logMapper).insertBatch(anyList());
+
+        writer.replaySpill();
+
+        verify(logMapper, never()).insert(any(Log.class));
+        assertThat(Files.readAllLines(spillDir.resolve("sys_log.spill.replaying"), StandardCharsets.UTF_8))
+                .containsExactly(json(1L), json(2L));
+        assertThat(spillDir.resolve("sys_log.spill.quarantine")).doesNotExist();
+    }
+
+    private String json(Long id) {
+        Log sysLog = new Log();
+        sysLog.setId(id);
+        sysLog.setContent("日志" + id);
+        return objectMapper.writeValueAsString(sysLog);
+    }
+}
@@ -0,0 +1,70 @@
+package com.youlai.boot.system.writer;
+
+import com.youlai.boot.config.property.SearchProperties;
+import com.youlai.boot.system.mapper.LogSearchMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * 日志检索表增量同步单元测试
+ *
+ * @author Ray.Hao
+ */
+@DisplayName("日志检索表同步测试")
+class LogSearchIndexerTest {
+
+    private LogSearchMapper logSearchMapper;
+
+    private SearchProperties properties;
+
+    private LogSearchIndexer indexer;
+
+    @BeforeEach
+    void setUp() {
+        logSearchMapper = mock(LogSearchMapper.class);
+        properties = new SearchProperties();
+        properties.setLogIndexBatchSize(40);
+        indexer = new LogSearchIndexer(logSearchMapper, properties);
+    }
+
+    @Test
+    @DisplayName("首次同步从检索表最大主键往回回扫，按主键区间分批")
+    void whenNoCheckpoint_thenRescanColdStartOverlap() {
+        when(logSearchMapper.getMaxLogId()).thenReturn(LogSearchIndexer.COLD_START_OVERLAP + 20);
+        when(logSearchMapper.getMaxSourceLogId()).thenReturn(LogSearchIndexer.COLD_START_OVERLAP + 100);
+
+        indexer.sync();
+
+        InOrder inOrder = inOrder(logSearchMapper);
+        inOrder.verify(logSearchMapper).syncLogs(20, 60);
+        inOrder.verify(logSearchMapper).syncLogs(60, 100);
+        inOrder.verify(logSearchMapper).syncLogs(100, 140);
+        verify(logSearchMapper, times((int) (LogSearchIndexer.COLD_START_OVERLAP / 40 + 2))).syncLogs(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("上次同步前安全延迟之外的检查点之后的日志才回扫")
+    void whenCheckpointOlderThanLag_thenRescanFromCheckpoint() {
+        properties.setLogIndexLag(Duration.ZERO);
+        when(logSearchMapper.getMaxLogId()).thenReturn(0L);
+        when(logSearchMapper.getMaxSourceLogId()).thenReturn(100L, 150L);
+
+        indexer.sync();
+        indexer.sync();
+
+        InOrder inOrder = inOrder(logSearchMapper);
+        inOrder.verify(logSearchMapper).syncLogs(0, 40);
+        inOrder.verify(logSearchMapper).syncLogs(40, 80);
+        inOrder.verify(logSearchMapper).syncLogs(80, 100);
+        inOrder.verify(logSearchMapper).syncLogs(100, 140);
+        inOrder.verify(logSearchMapper).syncLogs(140, 150);
+        verify(logSearchMapper, times(5)).syncLogs(anyLong(), anyLong());
+    }
+}